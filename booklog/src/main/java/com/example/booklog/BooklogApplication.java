@@ -6,7 +6,15 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 @SpringBootApplication
 public class BooklogApplication {
 
+	// 외부 API용 JDK HttpClient의 유휴 keep-alive 연결 유지 시간 (초, JDK 기본값 1200)
+	private static final String DEFAULT_HTTP_KEEPALIVE_SECONDS = "30";
+
 	public static void main(String[] args) {
+		// JVM 전역 설정이고 HttpClient 클래스가 처음 초기화될 때 한 번만 읽히므로 애플리케이션 시작 전에 지정
+		// 바꾸려면 JVM 옵션으로: -Djdk.httpclient.keepalive.timeout=60
+		if (System.getProperty("jdk.httpclient.keepalive.timeout") == null) {
+			System.setProperty("jdk.httpclient.keepalive.timeout", DEFAULT_HTTP_KEEPALIVE_SECONDS);
+		}
 		SpringApplication.run(BooklogApplication.class, args);
 	}
 
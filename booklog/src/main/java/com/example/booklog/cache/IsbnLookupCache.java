@@ -0,0 +1,70 @@
+package com.example.booklog.cache;
+
+import com.example.booklog.util.IsbnUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * ISBN 단건 조회 캐시
+ * - 키: ISBN-13으로 정규화한 값 (정규화할 수 없으면 입력값 그대로)
+ * - 찾은 책은 긴 TTL, 찾지 못한 ISBN은 짧은 TTL로 캐시 (negative caching)
+ * - 조회 중 에러는 캐시하지 않음
+ */
+public class IsbnLookupCache<V> {
+
+    private final TtlCache<String, Optional<V>> cache;
+    private final Duration negativeTtl;
+
+    private final AtomicLong negativeHits = new AtomicLong();
+
+    public IsbnLookupCache(int maxSize, Duration ttl, Duration negativeTtl) {
+        this.cache = new TtlCache<>(maxSize, ttl);
+        this.negativeTtl = negativeTtl;
+    }
+
+    /**
+     * 캐시에 있으면 바로 반환, 없으면 fetcher로 조회
+     * fetcher 반환값: 책 있음 → Optional.of, 없음 → Optional.empty(), 에러 → null
+     */
+    public V get(String isbn, Supplier<Optional<V>> fetcher) {
+        String key = key(isbn);
+
+        Optional<V> cached = cache.get(key);
+        if (cached != null) {
+            if (cached.isEmpty()) {
+                negativeHits.incrementAndGet();
+            }
+            return cached.orElse(null);
+        }
+
+        Optional<V> fetched = fetcher.get();
+        if (fetched == null) {
+            return null;
+        }
+
+        if (fetched.isPresent()) {
+            cache.put(key, fetched);
+        } else {
+            cache.put(key, fetched, negativeTtl);
+        }
+        return fetched.orElse(null);
+    }
+
+    /**
+     * 캐시 통계 (hit / miss / eviction + 찾지 못한 ISBN hit)
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = cache.stats();
+        stats.put("negativeHits", negativeHits.get());
+        return stats;
+    }
+
+    private String key(String isbn) {
+        String normalized = IsbnUtils.normalize(isbn);
+        return normalized != null ? normalized : (isbn == null ? "" : isbn.trim());
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.booklog.cache;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 크기 제한 + TTL 인메모리 캐시
+ * - maxSize를 넘으면 가장 오래 사용되지 않은 항목부터 제거 (LRU)
+ * - expireAtDayChange가 켜져 있으면 날짜가 바뀌는 순간 만료
+ * - hit / miss / eviction 카운터 제공
+ */
+public class TtlCache<K, V> {
+
+    private final int maxSize;
+    private final Duration ttl;
+    private final boolean expireAtDayChange;
+
+    // accessOrder = true → 조회할 때마다 맨 뒤로 이동 (LRU)
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    // 같은 키를 동시에 로드하지 않도록 진행 중인 로드를 공유 (실패 결과도 기다리던 요청과 공유)
+    private final SingleFlight<K, V> loads = new SingleFlight<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public TtlCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, false);
+    }
+
+    public TtlCache(int maxSize, Duration ttl, boolean expireAtDayChange) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize는 1 이상이어야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.expireAtDayChange = expireAtDayChange;
+    }
+
+    /**
+     * 캐시 조회 (없거나 만료되었으면 null)
+     */
+    public V get(K key) {
+        V value = getIfFresh(key);
+        if (value != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return value;
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 로드 후 저장
+     * 같은 키에 대한 동시 요청은 한 번만 로드하고 나머지는 그 결과를 사용
+     * loader가 null을 반환하면 캐시하지 않음 (실패/빈 응답, 로드 중에 기다리던 요청도 null을 받음)
+     */
+    public V get(K key, Supplier<V> loader) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+
+        return loads.execute(key, () -> {
+            // 직전 로드가 막 끝났으면 그 결과 사용
+            V fresh = getIfFresh(key);
+            if (fresh != null) {
+                return fresh;
+            }
+
+            V loaded = loader.get();
+            if (loaded != null) {
+                put(key, loaded);
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * 만료 여부와 관계없이 남아 있는 값 조회 (외부 API 장애 시 대체용)
+     * 만료된 항목은 덮어쓰이거나 크기 제한으로 밀려날 때까지 보관됨
+     */
+    public synchronized V getStale(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry != null ? entry.value : null;
+    }
+
+    /**
+     * 캐시 저장
+     */
+    public void put(K key, V value) {
+        put(key, value, ttl);
+    }
+
+    /**
+     * 캐시 저장 (항목별 TTL 지정)
+     */
+    public synchronized void put(K key, V value, Duration entryTtl) {
+        entries.put(key, new Entry<>(value, System.currentTimeMillis() + entryTtl.toMillis(), LocalDate.now()));
+
+        // 크기 초과 시 가장 오래 사용되지 않은 항목 제거
+        Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+        while (entries.size() > maxSize && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * 특정 키 무효화
+     */
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 캐시 통계 (모니터링/로깅용)
+     */
+    public Map<String, Object> stats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long total = hitCount + missCount;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", size());
+        stats.put("maxSize", maxSize);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", total == 0 ? 0.0 : (double) hitCount / total);
+        stats.put("evictions", evictions.get());
+        return stats;
+    }
+
+    private synchronized V getIfFresh(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (isExpired(entry)) {
+            return null;
+        }
+        return entry.value;
+    }
+
+    private boolean isExpired(Entry<V> entry) {
+        if (System.currentTimeMillis() >= entry.expiresAt) {
+            return true;
+        }
+        // 날짜가 바뀌면 만료 (날짜 기반 랜덤 선택과 맞추기 위함)
+        return expireAtDayChange && !entry.createdOn.equals(LocalDate.now());
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+        private final LocalDate createdOn;
+
+        private Entry(V value, long expiresAt, LocalDate createdOn) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.createdOn = createdOn;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.booklog.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+
+    @Value("${provider.executor.core-size:8}")
+    private int coreSize;
+
+    @Value("${provider.executor.max-size:32}")
+    private int maxSize;
+
+    @Value("${provider.executor.queue-capacity:100}")
+    private int queueCapacity;
+
+    // 가상 스레드 모드 (Java 21 이상, Tomcat 요청 처리도 같은 설정으로 전환됨)
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // 가상 스레드 모드에서 동시에 진행할 수 있는 외부 API 호출 수 (초과 시 즉시 거부)
+    @Value("${provider.executor.virtual-concurrency-limit:256}")
+    private int virtualConcurrencyLimit;
+
+    // AI 추천 생성 작업 (동시 생성 수 / 대기 작업 수)
+    @Value("${ai.job.pool-size:4}")
+    private int aiJobPoolSize;
+
+    @Value("${ai.job.queue-capacity:50}")
+    private int aiJobQueueCapacity;
+
+    // 로컬 카탈로그 저장 (DB 쓰기, 외부 API 실행기와 분리)
+    @Value("${catalog.writer.pool-size:1}")
+    private int catalogWriterPoolSize;
+
+    @Value("${catalog.writer.queue-capacity:200}")
+    private int catalogWriterQueueCapacity;
+
+    /**
+     * 외부 API(카카오, 국립중앙도서관, 알라딘, OpenAI) 호출용 스레드 풀
+     * 큐가 가득 차면 RejectedExecutionException → 호출하는 쪽에서 빈 결과로 처리
+     */
+    @Bean(name = "providerExecutor")
+    public AsyncTaskExecutor providerExecutor() {
+        if (virtualThreads) {
+            if (Runtime.version().feature() >= 21) {
+                return virtualThreadExecutor();
+            }
+            System.out.println("=== 가상 스레드는 Java 21 이상 필요 (현재 " + Runtime.version().feature()
+                    + ") → 스레드 풀 사용 ===");
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("provider-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * AI 추천 생성 작업용 스레드 풀 (OpenAI 응답을 수 초씩 기다리므로 외부 API 실행기와 분리)
+     * 큐가 가득 차면 RejectedExecutionException → 작업을 바로 실패 처리
+     * 가상 스레드 모드에서는 작업 스레드만 가상 스레드로 바꾸고 풀 크기/큐는 유지
+     * (동시 OpenAI 호출 수 = ai.job.pool-size, 넘치면 요청 스레드를 막지 않고 큐에서 대기)
+     */
+    @Bean(name = "aiJobExecutor")
+    public AsyncTaskExecutor aiJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(aiJobPoolSize);
+        executor.setMaxPoolSize(aiJobPoolSize);
+        executor.setQueueCapacity(aiJobQueueCapacity);
+        executor.setThreadNamePrefix("ai-job-");
+        if (virtualThreads && Runtime.version().feature() >= 21) {
+            executor.setThreadFactory(new VirtualThreadTaskExecutor("ai-job-").getVirtualThreadFactory());
+            System.out.println("=== AI 추천 생성 실행기: 가상 스레드 (동시 " + aiJobPoolSize + ") ===");
+        }
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 로컬 카탈로그 저장용 스레드 풀 (검색 결과마다 DB 쓰기가 생기므로 외부 API 실행기의 큐를 차지하지 않도록 분리)
+     * 큐가 가득 차면 RejectedExecutionException → 카탈로그 저장을 건너뜀
+     */
+    @Bean(name = "catalogWriterExecutor")
+    public AsyncTaskExecutor catalogWriterExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(catalogWriterPoolSize);
+        executor.setMaxPoolSize(catalogWriterPoolSize);
+        executor.setQueueCapacity(catalogWriterQueueCapacity);
+        executor.setThreadNamePrefix("catalog-writer-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 작업마다 가상 스레드 하나 (풀/큐 없음)
+     * 외부 API 응답을 기다리는 동안 OS 스레드를 점유하지 않으므로 동시 호출 수만 제한
+     */
+    private AsyncTaskExecutor virtualThreadExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("provider-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(virtualConcurrencyLimit);
+        // 한도 초과 시 기다리지 않고 RejectedExecutionException (스레드 풀 모드와 같은 처리)
+        executor.setRejectTasksWhenLimitReached(true);
+        System.out.println("=== 외부 API 호출 실행기: 가상 스레드 (동시 " + virtualConcurrencyLimit + ") ===");
+        return executor;
+    }
+}
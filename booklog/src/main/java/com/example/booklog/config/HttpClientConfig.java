@@ -0,0 +1,70 @@
+package com.example.booklog.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * 외부 API(카카오, 국립중앙도서관, 알라딘, OpenAI) + 표지 이미지 다운로드용 RestTemplate
+ * - 제공자별로 HttpClient 하나를 공유 (호스트별 keep-alive 연결 재사용)
+ *   유휴 연결 유지 시간은 JVM 전역 설정이라 BooklogApplication.main에서 지정 (jdk.httpclient.keepalive.timeout)
+ * - 제공자별 연결/응답 타임아웃 설정 → 응답 없는 API가 요청 스레드를 붙잡지 못하게 함
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Bean(name = "kakaoRestTemplate")
+    public RestTemplate kakaoRestTemplate(@Value("${kakao.api.key}") String apiKey,
+                                          @Value("${http.client.kakao.connect-timeout-ms:2000}") long connectTimeoutMs,
+                                          @Value("${http.client.kakao.read-timeout-ms:3000}") long readTimeoutMs) {
+        RestTemplate restTemplate = createRestTemplate(connectTimeoutMs, readTimeoutMs);
+        // 카카오 인증 헤더
+        restTemplate.getInterceptors().add((request, body, execution) -> {
+            request.getHeaders().set("Authorization", "KakaoAK " + apiKey);
+            return execution.execute(request, body);
+        });
+        return restTemplate;
+    }
+
+    @Bean(name = "nlRestTemplate")
+    public RestTemplate nlRestTemplate(@Value("${http.client.nl.connect-timeout-ms:2000}") long connectTimeoutMs,
+                                       @Value("${http.client.nl.read-timeout-ms:5000}") long readTimeoutMs) {
+        return createRestTemplate(connectTimeoutMs, readTimeoutMs);
+    }
+
+    @Bean(name = "aladinRestTemplate")
+    public RestTemplate aladinRestTemplate(@Value("${http.client.aladin.connect-timeout-ms:2000}") long connectTimeoutMs,
+                                           @Value("${http.client.aladin.read-timeout-ms:3000}") long readTimeoutMs) {
+        return createRestTemplate(connectTimeoutMs, readTimeoutMs);
+    }
+
+    @Bean(name = "openAiRestTemplate")
+    public RestTemplate openAiRestTemplate(@Value("${http.client.openai.connect-timeout-ms:3000}") long connectTimeoutMs,
+                                           @Value("${http.client.openai.read-timeout-ms:30000}") long readTimeoutMs) {
+        return createRestTemplate(connectTimeoutMs, readTimeoutMs);
+    }
+
+    @Bean(name = "coverRestTemplate")
+    public RestTemplate coverRestTemplate(@Value("${http.client.cover.connect-timeout-ms:2000}") long connectTimeoutMs,
+                                          @Value("${http.client.cover.read-timeout-ms:5000}") long readTimeoutMs) {
+        return createRestTemplate(connectTimeoutMs, readTimeoutMs);
+    }
+
+    private RestTemplate createRestTemplate(long connectTimeoutMs, long readTimeoutMs) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
+        return new RestTemplate(requestFactory);
+    }
+}
@@ -33,8 +33,12 @@ public class SecurityConfig {
                     "/books/{id}",
                     "/books/search",
                     "/books/search-api",
+                    "/books/api/search",
+                    "/books/api/suggest",
                     "/books/recommend-popup",
                     "/books/others",
+                    "/books/api/reactive/**",
+                    "/covers/**",
                     "/community",
                     "/community/{id}",
                     "/css/**",
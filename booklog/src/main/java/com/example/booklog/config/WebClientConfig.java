@@ -0,0 +1,63 @@
+package com.example.booklog.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.JdkClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * 외부 API(카카오, 국립중앙도서관, 알라딘) 비동기 호출용 WebClient
+ * - 응답을 기다리는 동안 스레드를 점유하지 않음 (느린 제공자가 요청 스레드를 붙잡지 않음)
+ * - 타임아웃 설정은 RestTemplate과 같은 http.client.{제공자}.* 값을 사용
+ */
+@Configuration
+public class WebClientConfig {
+
+    // 응답 본문을 메모리에 모을 수 있는 최대 크기 (알라딘 목록 응답이 기본값 256KB를 넘음)
+    @Value("${http.client.max-in-memory-bytes:4194304}")
+    private int maxInMemoryBytes;
+
+    @Bean(name = "kakaoWebClient")
+    public WebClient kakaoWebClient(@Value("${kakao.api.key}") String apiKey,
+                                    @Value("${http.client.kakao.connect-timeout-ms:2000}") long connectTimeoutMs,
+                                    @Value("${http.client.kakao.read-timeout-ms:3000}") long readTimeoutMs) {
+        return createWebClient(connectTimeoutMs, readTimeoutMs)
+                .defaultHeader("Authorization", "KakaoAK " + apiKey)
+                .build();
+    }
+
+    @Bean(name = "nlWebClient")
+    public WebClient nlWebClient(@Value("${http.client.nl.connect-timeout-ms:2000}") long connectTimeoutMs,
+                                 @Value("${http.client.nl.read-timeout-ms:5000}") long readTimeoutMs) {
+        return createWebClient(connectTimeoutMs, readTimeoutMs)
+                .defaultHeader("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36")
+                .defaultHeader("Accept", "application/json")
+                .defaultHeader("Accept-Charset", "UTF-8")
+                .build();
+    }
+
+    @Bean(name = "aladinWebClient")
+    public WebClient aladinWebClient(@Value("${http.client.aladin.connect-timeout-ms:2000}") long connectTimeoutMs,
+                                     @Value("${http.client.aladin.read-timeout-ms:3000}") long readTimeoutMs) {
+        return createWebClient(connectTimeoutMs, readTimeoutMs).build();
+    }
+
+    private WebClient.Builder createWebClient(long connectTimeoutMs, long readTimeoutMs) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+
+        JdkClientHttpConnector connector = new JdkClientHttpConnector(httpClient);
+        connector.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
+        return WebClient.builder()
+                .clientConnector(connector)
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(maxInMemoryBytes));
+    }
+}
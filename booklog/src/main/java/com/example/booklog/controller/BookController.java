@@ -2,8 +2,12 @@ package com.example.booklog.controller;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -14,19 +18,25 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import com.example.booklog.entity.AiRecommendationJobDto;
 import com.example.booklog.entity.AiRecommendedBookDto;
 import com.example.booklog.entity.AladinBookDto;
 import com.example.booklog.entity.Book;
 import com.example.booklog.entity.BookApiDto;
+import com.example.booklog.entity.BookSearchPage;
 import com.example.booklog.entity.RecommendedBookDto;
+import com.example.booklog.entity.SuggestionDto;
 import com.example.booklog.entity.User;
-import com.example.booklog.service.AiRecommendationService;
-import com.example.booklog.service.AladinApiService;
+import com.example.booklog.service.AiRecommendationJobService;
 import com.example.booklog.service.BookService;
+import com.example.booklog.service.BookSidePanelService;
+import com.example.booklog.service.BookSuggestService;
+import com.example.booklog.service.CoverImageService;
+import com.example.booklog.service.FederatedBookSearchService;
 import com.example.booklog.service.KakaoBookApiService;
-import com.example.booklog.service.NationalLibraryApiService;
 import com.example.booklog.service.UserService;
 
 @Controller
@@ -43,13 +53,29 @@ public class BookController {
     private KakaoBookApiService kakaoApiService;
     
     @Autowired
-    private NationalLibraryApiService nlApiService;
+    private BookSidePanelService sidePanelService;
 
     @Autowired
-    private AladinApiService aladinApiService;
+    private FederatedBookSearchService federatedSearchService;
 
     @Autowired
-    private AiRecommendationService aiRecommendationService;
+    private AiRecommendationJobService aiRecommendationJobService;
+
+    @Autowired
+    private CoverImageService coverImageService;
+
+    @Autowired
+    private BookSuggestService suggestService;
+
+    // 검색 결과 표지 섬네일 너비 (search.html과 같은 값)
+    private static final int SEARCH_COVER_WIDTH = 160;
+
+    // AI 추천 도서 수
+    private static final int AI_RECOMMEND_COUNT = 5;
+
+    // 카카오 검색 한 페이지 크기 (다음 페이지는 스크롤 시 /books/api/search로 추가 로드)
+    @Value("${kakao.search.page-size:10}")
+    private int searchPageSize;
 
     // 내 책 목록 (기본)
     @GetMapping
@@ -58,6 +84,9 @@ public class BookController {
                       Authentication authentication) {
         List<Book> books;
 
+        // 사이드 패널 API 호출을 먼저 시작하고 그동안 DB 조회
+        BookSidePanelService.SidePanels sidePanels = sidePanelService.load();
+
         // Authentication null 체크
         if (authentication != null) {
             User user = userService.findByUsername(authentication.getName());
@@ -72,29 +101,8 @@ public class BookController {
         model.addAttribute("viewMode", "my"); // 현재 보기 모드
         model.addAttribute("currentStatus", status); // 현재 선택된 상태
 
-        // 사서 추천 도서
-        try {
-            List<RecommendedBookDto> recommendedBooks = nlApiService.getLatestRecommendedBooks(5);
-            model.addAttribute("recommendedBooks", recommendedBooks);
-        } catch (Exception e) {
-            model.addAttribute("recommendedBooks", new ArrayList<>());
-        }
-
-        // 알라딘 베스트셀러
-        try {
-            List<AladinBookDto> bestsellers = aladinApiService.getBestsellers(5);
-            model.addAttribute("bestsellers", bestsellers);
-        } catch (Exception e) {
-            model.addAttribute("bestsellers", new ArrayList<>());
-        }
-
-        // 알라딘 신간 도서
-        try {
-            List<AladinBookDto> newBooks = aladinApiService.getNewBooks(5);
-            model.addAttribute("newBooks", newBooks);
-        } catch (Exception e) {
-            model.addAttribute("newBooks", new ArrayList<>());
-        }
+        // 사서 추천 / 알라딘 베스트셀러 / 알라딘 신간 (마감 시간 내 도착한 패널만 표시)
+        addSidePanels(model, sidePanels);
 
         return "books/list";
     }
@@ -106,6 +114,9 @@ public class BookController {
                             Authentication authentication) {
         List<Book> books;
 
+        // 사이드 패널 API 호출을 먼저 시작하고 그동안 DB 조회
+        BookSidePanelService.SidePanels sidePanels = sidePanelService.load();
+
         // Authentication null 체크
         if (authentication != null) {
             User user = userService.findByUsername(authentication.getName());
@@ -120,33 +131,19 @@ public class BookController {
         model.addAttribute("viewMode", "others"); // 현재 보기 모드
         model.addAttribute("currentStatus", status); // 현재 선택된 상태
 
-        // 사서 추천 도서
-        try {
-            List<RecommendedBookDto> recommendedBooks = nlApiService.getLatestRecommendedBooks(5);
-            model.addAttribute("recommendedBooks", recommendedBooks);
-        } catch (Exception e) {
-            model.addAttribute("recommendedBooks", new ArrayList<>());
-        }
-
-        // 알라딘 베스트셀러
-        try {
-            List<AladinBookDto> bestsellers = aladinApiService.getBestsellers(5);
-            model.addAttribute("bestsellers", bestsellers);
-        } catch (Exception e) {
-            model.addAttribute("bestsellers", new ArrayList<>());
-        }
-
-        // 알라딘 신간 도서
-        try {
-            List<AladinBookDto> newBooks = aladinApiService.getNewBooks(5);
-            model.addAttribute("newBooks", newBooks);
-        } catch (Exception e) {
-            model.addAttribute("newBooks", new ArrayList<>());
-        }
+        // 사서 추천 / 알라딘 베스트셀러 / 알라딘 신간 (마감 시간 내 도착한 패널만 표시)
+        addSidePanels(model, sidePanels);
 
         return "books/list";
     }
 
+    // 사이드 패널 모델 설정
+    private void addSidePanels(Model model, BookSidePanelService.SidePanels sidePanels) {
+        model.addAttribute("recommendedBooks", sidePanels.getRecommendedBooks());
+        model.addAttribute("bestsellers", sidePanels.getBestsellers());
+        model.addAttribute("newBooks", sidePanels.getNewBooks());
+    }
+
     // 새 책 등록 폼
     @GetMapping("/new")
     public String newBookForm(@RequestParam(required = false, defaultValue = "WANT_TO_READ") String status,
@@ -291,17 +288,68 @@ public class BookController {
         return "books/list";
     }
     
-    // API 검색 페이지
+    // API 검색 페이지 (mode=federated 이면 카카오 + 국립중앙도서관 + 알라딘 통합 검색)
     @GetMapping("/search-api")
-    public String searchApiPage(@RequestParam(required = false) String query, Model model) {
+    public String searchApiPage(@RequestParam(required = false) String query,
+                                @RequestParam(required = false, defaultValue = "kakao") String mode,
+                                Model model) {
         if (query != null && !query.trim().isEmpty()) {
-            List<BookApiDto> books = kakaoApiService.search(query);
-            model.addAttribute("books", books);
+            if ("federated".equals(mode)) {
+                model.addAttribute("books", federatedSearchService.search(query));
+            } else {
+                // 첫 페이지만 렌더링
+                BookSearchPage searchPage = kakaoApiService.search(query, 1, searchPageSize);
+                model.addAttribute("books", searchPage.getBooks());
+                model.addAttribute("searchPage", searchPage);
+            }
             model.addAttribute("query", query);
         }
+        model.addAttribute("mode", mode);
         return "books/search";
     }
     
+    // 카카오 검색 다음 페이지 (무한 스크롤 AJAX API)
+    @GetMapping("/api/search")
+    @ResponseBody
+    public BookSearchPage searchApiNextPage(@RequestParam String query,
+                                            @RequestParam(required = false, defaultValue = "1") int page,
+                                            @RequestParam(required = false, defaultValue = "0") int size) {
+        if (query.trim().isEmpty()) {
+            return BookSearchPage.empty(page, size);
+        }
+        return withCoverProxy(kakaoApiService.search(query, page, size > 0 ? size : searchPageSize));
+    }
+    
+    // 검색어 자동완성 (제목/저자 접두어, 메모리 색인에서 바로 응답, 서재 후보는 본인 책만)
+    @GetMapping("/api/suggest")
+    @ResponseBody
+    public List<SuggestionDto> suggest(@RequestParam(required = false) String query,
+                                       @RequestParam(required = false, defaultValue = "0") int limit,
+                                       Authentication authentication) {
+        return suggestService.suggest(query, limit, authentication != null ? authentication.getName() : null);
+    }
+    
+    // 표지 주소를 프록시 주소로 바꾼 복사본 (검색 결과는 캐시에서 공유되므로 직접 수정하지 않음)
+    private BookSearchPage withCoverProxy(BookSearchPage searchPage) {
+        BookSearchPage result = new BookSearchPage();
+        result.setPage(searchPage.getPage());
+        result.setSize(searchPage.getSize());
+        result.setTotalCount(searchPage.getTotalCount());
+        result.setPageableCount(searchPage.getPageableCount());
+        result.setEnd(searchPage.isEnd());
+        
+        List<BookApiDto> books = new ArrayList<>();
+        for (BookApiDto book : searchPage.getBooks()) {
+            BookApiDto copy = new BookApiDto(book.getTitle(), book.getAuthor(), book.getPublisher(), book.getIsbn(),
+                    coverImageService.proxyUrl(book.getCoverUrl(), SEARCH_COVER_WIDTH),
+                    book.getPublishDate(), book.getPage(), book.getSubject());
+            copy.setDescription(book.getDescription());
+            books.add(copy);
+        }
+        result.setBooks(books);
+        return result;
+    }
+    
     // API에서 선택한 책으로 등록 폼 이동
     @GetMapping("/new-from-api")
     public String newBookFromApi(@RequestParam String isbn,
@@ -504,18 +552,45 @@ public class BookController {
         }
     }
 
-    // AI 추천 도서 AJAX API
+    // AI 추천 도서 AJAX API (작업 완료까지 비동기 대기, 요청 스레드는 바로 반납)
     @GetMapping("/api/ai-recommendations")
     @ResponseBody
-    public List<AiRecommendedBookDto> getAiRecommendations(Authentication authentication) {
+    public CompletableFuture<List<AiRecommendedBookDto>> getAiRecommendations(Authentication authentication) {
         if (authentication != null) {
             try {
                 User user = userService.findByUsername(authentication.getName());
-                return aiRecommendationService.getRecommendations(user, 5);
+                return aiRecommendationJobService.recommendations(user, AI_RECOMMEND_COUNT);
             } catch (Exception e) {
-                return new ArrayList<>();
+                return CompletableFuture.completedFuture(new ArrayList<>());
             }
         }
-        return new ArrayList<>();
+        return CompletableFuture.completedFuture(new ArrayList<>());
+    }
+    
+    // AI 추천 작업 등록 (바로 202 반환, 결과는 작업 조회 또는 SSE로 확인)
+    @PostMapping("/api/ai-recommendations/jobs")
+    @ResponseBody
+    public ResponseEntity<AiRecommendationJobDto> startAiRecommendationJob(Authentication authentication) {
+        User user = userService.findByUsername(authentication.getName());
+        return ResponseEntity.accepted().body(aiRecommendationJobService.submit(user, AI_RECOMMEND_COUNT));
+    }
+    
+    // AI 추천 작업 상태/결과 조회 (폴링)
+    @GetMapping("/api/ai-recommendations/jobs/{jobId}")
+    @ResponseBody
+    public ResponseEntity<AiRecommendationJobDto> getAiRecommendationJob(@PathVariable String jobId,
+                                                                        Authentication authentication) {
+        User user = userService.findByUsername(authentication.getName());
+        AiRecommendationJobDto job = aiRecommendationJobService.getJob(jobId, user);
+        return job != null ? ResponseEntity.ok(job) : ResponseEntity.notFound().build();
+    }
+    
+    // AI 추천 작업 결과 SSE (완료되면 result 이벤트 한 번)
+    @GetMapping(value = "/api/ai-recommendations/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> aiRecommendationJobEvents(@PathVariable String jobId,
+                                                                Authentication authentication) {
+        User user = userService.findByUsername(authentication.getName());
+        SseEmitter emitter = aiRecommendationJobService.subscribe(jobId, user);
+        return emitter != null ? ResponseEntity.ok(emitter) : ResponseEntity.notFound().build();
     }
 }
\ No newline at end of file
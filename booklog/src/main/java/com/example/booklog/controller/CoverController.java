@@ -0,0 +1,69 @@
+package com.example.booklog.controller;
+
+import com.example.booklog.service.CoverImageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * 표지 이미지 프록시 (/covers/{URL 해시}?w=너비)
+ * 로컬 캐시 파일을 Tomcat sendfile로 그대로 전송 (지원하지 않으면 스트림 복사)
+ */
+@Controller
+@RequestMapping("/covers")
+public class CoverController {
+
+    // 내용이 바뀌지 않는 주소이므로 1년 캐시
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    @Autowired
+    private CoverImageService coverImageService;
+
+    @GetMapping("/{hash}")
+    public void cover(@PathVariable String hash,
+                      @RequestParam(required = false, defaultValue = "0") int w,
+                      HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        CoverImageService.CoverFile file = coverImageService.resolve(hash, w);
+        if (file == null) {
+            // 내려받지 못한 표지는 원본 주소로 (캐시하지 않음)
+            String sourceUrl = coverImageService.sourceUrl(hash);
+            if (sourceUrl != null) {
+                response.sendRedirect(sourceUrl);
+            } else {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            }
+            return;
+        }
+
+        String etag = "\"" + file.getEtag() + "\"";
+        response.setHeader("Cache-Control", CACHE_CONTROL);
+        response.setHeader("ETag", etag);
+        if (etag.equals(request.getHeader("If-None-Match"))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long length = file.getLength();
+        response.setContentType(file.getContentType());
+        response.setContentLengthLong(length);
+
+        // Tomcat NIO 커넥터: 응답 본문을 커널에서 바로 파일 → 소켓 전송 (zero-copy)
+        if (Boolean.TRUE.equals(request.getAttribute("org.apache.tomcat.sendfile.support"))) {
+            request.setAttribute("org.apache.tomcat.sendfile.filename", file.getPath().toAbsolutePath().toString());
+            request.setAttribute("org.apache.tomcat.sendfile.start", 0L);
+            request.setAttribute("org.apache.tomcat.sendfile.end", length);
+            return;
+        }
+
+        Files.copy(file.getPath(), response.getOutputStream());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.booklog.controller;
+
+import com.example.booklog.resilience.ProviderCircuitBreakers;
+import com.example.booklog.resilience.ProviderRateLimiters;
+import com.example.booklog.service.AiRecommendationJobService;
+import com.example.booklog.service.AiRecommendationService;
+import com.example.booklog.service.AladinApiService;
+import com.example.booklog.service.BookSuggestService;
+import com.example.booklog.service.CatalogService;
+import com.example.booklog.service.CoverImageService;
+import com.example.booklog.service.KakaoBookApiService;
+import com.example.booklog.service.NationalLibraryApiService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Controller
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    @Autowired
+    private ProviderCircuitBreakers circuitBreakers;
+
+    @Autowired
+    private ProviderRateLimiters rateLimiters;
+
+    @Autowired
+    private AladinApiService aladinApiService;
+
+    @Autowired
+    private NationalLibraryApiService nlApiService;
+
+    @Autowired
+    private KakaoBookApiService kakaoApiService;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @Autowired
+    private CoverImageService coverImageService;
+
+    @Autowired
+    private BookSuggestService suggestService;
+
+    @Autowired
+    private AiRecommendationService aiRecommendationService;
+
+    @Autowired
+    private AiRecommendationJobService aiRecommendationJobService;
+
+    // 외부 API 제공자 상태 (서킷 브레이커, 호출 한도, 캐시)
+    @GetMapping("/providers")
+    @ResponseBody
+    public Map<String, Object> providers() {
+        Map<String, Object> caches = new LinkedHashMap<>();
+        caches.put("aladinLists", aladinApiService.getCacheStats());
+        caches.put("kakaoIsbn", kakaoApiService.getIsbnCacheStats());
+        caches.put("kakaoSearch", kakaoApiService.getSearchCacheStats());
+        caches.put("nlIsbn", nlApiService.getIsbnCacheStats());
+        caches.put("nlRecommendRefreshedAt", String.valueOf(nlApiService.getRecommendedRefreshedAt()));
+        caches.put("catalog", catalogService.stats());
+        caches.put("covers", coverImageService.stats());
+        caches.put("suggest", suggestService.stats());
+        caches.put("aiRecommendations", aiRecommendationService.getCacheStats());
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("circuitBreakers", circuitBreakers.stats());
+        metrics.put("rateLimits", rateLimiters.stats());
+        metrics.put("caches", caches);
+        metrics.put("aiJobs", aiRecommendationJobService.stats());
+        return metrics;
+    }
+}
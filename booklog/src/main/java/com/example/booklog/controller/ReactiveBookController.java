@@ -0,0 +1,45 @@
+package com.example.booklog.controller;
+
+import com.example.booklog.entity.BookApiDto;
+import com.example.booklog.service.ReactiveBookSearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 외부 API 비동기 조회 (JSON)
+ * Mono를 반환하면 서블릿 비동기 처리로 전환되어, 제공자 응답을 기다리는 동안 Tomcat 스레드를 반납함
+ */
+@Controller
+@RequestMapping("/books/api/reactive")
+public class ReactiveBookController {
+
+    @Autowired
+    private ReactiveBookSearchService reactiveSearchService;
+
+    // 책 검색 (mode=federated 이면 카카오 + 국립중앙도서관 + 알라딘 통합 검색)
+    @GetMapping("/search")
+    @ResponseBody
+    public Mono<List<BookApiDto>> search(@RequestParam(required = false) String query,
+                                         @RequestParam(required = false, defaultValue = "kakao") String mode) {
+        if (query == null || query.trim().isEmpty()) {
+            return Mono.just(new ArrayList<>());
+        }
+        return reactiveSearchService.search(query, mode);
+    }
+
+    // 책 목록 화면 사이드 패널 (사서 추천 / 베스트셀러 / 신간)
+    @GetMapping("/side-panels")
+    @ResponseBody
+    public Mono<Map<String, Object>> sidePanels() {
+        return reactiveSearchService.sidePanels();
+    }
+}
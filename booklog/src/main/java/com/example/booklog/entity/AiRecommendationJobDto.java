@@ -0,0 +1,59 @@
+package com.example.booklog.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AI 추천 생성 작업 상태 (폴링/SSE 응답)
+ */
+public class AiRecommendationJobDto {
+    private String id;              // 작업 id (결과 조회용)
+    private String status;          // PENDING, RUNNING, DONE, FAILED
+    private List<AiRecommendedBookDto> books = new ArrayList<>();  // 추천 결과 (DONE일 때)
+    private String message;         // 실패 사유 (FAILED일 때)
+
+    // 기본 생성자
+    public AiRecommendationJobDto() {
+    }
+
+    // 전체 필드 생성자
+    public AiRecommendationJobDto(String id, String status, List<AiRecommendedBookDto> books, String message) {
+        this.id = id;
+        this.status = status;
+        this.books = books;
+        this.message = message;
+    }
+
+    // Getter & Setter
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public List<AiRecommendedBookDto> getBooks() {
+        return books;
+    }
+
+    public void setBooks(List<AiRecommendedBookDto> books) {
+        this.books = books;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.booklog.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 책 검색 결과 한 페이지 (카카오 검색 meta 포함)
+ */
+public class BookSearchPage {
+    private List<BookApiDto> books = new ArrayList<>();  // 이 페이지의 책
+    private int page;               // 페이지 번호 (1부터)
+    private int size;               // 페이지 크기
+    private int totalCount;         // 전체 검색 결과 수
+    private int pageableCount;      // 실제로 가져올 수 있는 결과 수
+    private boolean end;            // 마지막 페이지 여부
+
+    // 기본 생성자
+    public BookSearchPage() {
+    }
+
+    // 빈 결과 (에러/빈 검색어)
+    public static BookSearchPage empty(int page, int size) {
+        BookSearchPage result = new BookSearchPage();
+        result.setPage(page);
+        result.setSize(size);
+        result.setEnd(true);
+        return result;
+    }
+
+    // Getter & Setter
+    public List<BookApiDto> getBooks() {
+        return books;
+    }
+
+    public void setBooks(List<BookApiDto> books) {
+        this.books = books;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(int totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    public int getPageableCount() {
+        return pageableCount;
+    }
+
+    public void setPageableCount(int pageableCount) {
+        this.pageableCount = pageableCount;
+    }
+
+    public boolean isEnd() {
+        return end;
+    }
+
+    public void setEnd(boolean end) {
+        this.end = end;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.booklog.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 외부 API(카카오, 국립중앙도서관, 알라딘)에서 받은 도서 메타데이터 로컬 카탈로그
+ * ISBN-13 하나당 한 행, 새 응답이 오면 빈 필드를 채우며 갱신
+ */
+@Entity
+@Table(name = "catalog_books",
+       uniqueConstraints = @UniqueConstraint(name = "uk_catalog_books_isbn13", columnNames = "isbn13"))
+public class CatalogBook {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 13)
+    private String isbn13;
+
+    @Column(nullable = false)
+    private String title;
+
+    private String author;
+
+    private String publisher;
+
+    @Column(name = "cover_url", length = 1000)
+    private String coverUrl;
+
+    @Column(name = "publish_date", length = 20)
+    private String publishDate;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    private String genre;
+
+    // 마지막으로 갱신한 제공자 (kakao, nl, aladin)
+    @Column(length = 20)
+    private String source;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    // 제공자 응답으로 마지막 갱신한 시각 (오래되면 다시 조회)
+    @Column(name = "refreshed_at")
+    private LocalDateTime refreshedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (refreshedAt == null) {
+            refreshedAt = createdAt;
+        }
+    }
+
+    // 기본 생성자
+    public CatalogBook() {}
+
+    // Getter & Setter
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getIsbn13() {
+        return isbn13;
+    }
+
+    public void setIsbn13(String isbn13) {
+        this.isbn13 = isbn13;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(String author) {
+        this.author = author;
+    }
+
+    public String getPublisher() {
+        return publisher;
+    }
+
+    public void setPublisher(String publisher) {
+        this.publisher = publisher;
+    }
+
+    public String getCoverUrl() {
+        return coverUrl;
+    }
+
+    public void setCoverUrl(String coverUrl) {
+        this.coverUrl = coverUrl;
+    }
+
+    public String getPublishDate() {
+        return publishDate;
+    }
+
+    public void setPublishDate(String publishDate) {
+        this.publishDate = publishDate;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getGenre() {
+        return genre;
+    }
+
+    public void setGenre(String genre) {
+        this.genre = genre;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getRefreshedAt() {
+        return refreshedAt;
+    }
+
+    public void setRefreshedAt(LocalDateTime refreshedAt) {
+        this.refreshedAt = refreshedAt;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.booklog.entity;
+
+/**
+ * 검색어 자동완성 후보
+ */
+public class SuggestionDto {
+    private String text;            // 제목 또는 저자 이름
+    private String type;            // title, author
+    private int count;              // 같은 제목/저자를 가진 책 수 (순위 점수)
+
+    // 기본 생성자
+    public SuggestionDto() {
+    }
+
+    // 전체 필드 생성자
+    public SuggestionDto(String text, String type, int count) {
+        this.text = text;
+        this.type = type;
+        this.count = count;
+    }
+
+    // Getter & Setter
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.booklog.genre;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+
+/**
+ * 다중 키워드 검색용 Aho-Corasick 오토마톤
+ * - 키워드마다 정수 id를 붙여 등록하고 build() 후 사용
+ * - 텍스트를 한 번만 훑으면서 포함된 모든 키워드의 id를 알려줌
+ * - build() 이후에는 읽기 전용이라 여러 스레드에서 같이 사용 가능
+ */
+public class AhoCorasick {
+
+    private static final int[] NO_OUTPUT = new int[0];
+
+    // 빌드 중에만 쓰는 트라이 노드
+    private static final class BuildNode {
+        private final Map<Character, BuildNode> children = new TreeMap<>();
+        private final List<Integer> outputs = new ArrayList<>();
+        private BuildNode fail;
+        private int index;
+    }
+
+    private BuildNode root = new BuildNode();
+
+    // 빌드 후 배열 구조 (노드 i의 자식: childKeys[i] 정렬됨, childNodes[i] 같은 순서)
+    private char[][] childKeys;
+    private int[][] childNodes;
+    private int[] fail;
+    private int[][] outputs;
+
+    /**
+     * 키워드 등록 (build 전에만 호출)
+     */
+    public void add(String keyword, int id) {
+        if (root == null) {
+            throw new IllegalStateException("이미 build()된 오토마톤입니다.");
+        }
+        if (keyword == null || keyword.isEmpty()) {
+            return;
+        }
+        BuildNode node = root;
+        for (int i = 0; i < keyword.length(); i++) {
+            node = node.children.computeIfAbsent(keyword.charAt(i), c -> new BuildNode());
+        }
+        node.outputs.add(id);
+    }
+
+    /**
+     * 실패 링크 계산 후 배열 구조로 변환
+     */
+    public AhoCorasick build() {
+        // BFS 순서로 번호 매기기 + 실패 링크
+        List<BuildNode> order = new ArrayList<>();
+        Queue<BuildNode> queue = new ArrayDeque<>();
+        root.fail = root;
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            BuildNode node = queue.poll();
+            node.index = order.size();
+            order.add(node);
+
+            for (Map.Entry<Character, BuildNode> entry : node.children.entrySet()) {
+                char c = entry.getKey();
+                BuildNode child = entry.getValue();
+
+                if (node == root) {
+                    child.fail = root;
+                } else {
+                    BuildNode f = node.fail;
+                    while (f != root && !f.children.containsKey(c)) {
+                        f = f.fail;
+                    }
+                    BuildNode next = f.children.get(c);
+                    child.fail = next != null && next != child ? next : root;
+                }
+                // 실패 링크 쪽 출력도 함께 보고 (부모가 먼저 처리되므로 이미 병합됨)
+                child.outputs.addAll(child.fail.outputs);
+                queue.add(child);
+            }
+        }
+
+        int size = order.size();
+        childKeys = new char[size][];
+        childNodes = new int[size][];
+        fail = new int[size];
+        outputs = new int[size][];
+
+        for (BuildNode node : order) {
+            int i = node.index;
+            int childCount = node.children.size();
+            childKeys[i] = new char[childCount];
+            childNodes[i] = new int[childCount];
+            int k = 0;
+            for (Map.Entry<Character, BuildNode> entry : node.children.entrySet()) {
+                childKeys[i][k] = entry.getKey();
+                childNodes[i][k] = entry.getValue().index;
+                k++;
+            }
+            fail[i] = node.fail.index;
+            outputs[i] = node.outputs.isEmpty()
+                    ? NO_OUTPUT
+                    : node.outputs.stream().distinct().mapToInt(Integer::intValue).toArray();
+        }
+
+        root = null;
+        return this;
+    }
+
+    /**
+     * 텍스트를 한 번 훑으면서 일치한 키워드 id마다 onMatch 호출
+     * (같은 키워드가 여러 번 나오면 여러 번 호출됨)
+     */
+    public void scan(CharSequence text, IntConsumer onMatch) {
+        if (fail == null) {
+            throw new IllegalStateException("build()를 먼저 호출해야 합니다.");
+        }
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next;
+            while ((next = child(state, c)) < 0 && state != 0) {
+                state = fail[state];
+            }
+            state = next < 0 ? 0 : next;
+
+            for (int id : outputs[state]) {
+                onMatch.accept(id);
+            }
+        }
+    }
+
+    private int child(int state, char c) {
+        int pos = Arrays.binarySearch(childKeys[state], c);
+        return pos >= 0 ? childNodes[state][pos] : -1;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.booklog.genre;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * 제목 + 소개 글 키워드로 장르 추측 (카카오 검색 결과처럼 분류 정보가 없을 때)
+ * - 키워드 표는 genre.keywords-location 파일에서 읽음 (위에 있는 장르가 우선)
+ * - 시작할 때 Aho-Corasick 오토마톤을 한 번 만들고, 분류할 때는 텍스트를 한 번만 훑음
+ */
+@Component
+public class GenreClassifier {
+
+    public static final String DEFAULT_GENRE = "기타";
+
+    @Value("${genre.keywords-location:classpath:genre-keywords.txt}")
+    private Resource keywordsResource;
+
+    private KeywordRuleSet rules;
+
+    @PostConstruct
+    public void init() throws IOException {
+        rules = KeywordRuleSet.load(keywordsResource);
+        System.out.println("=== 장르 키워드 로드: " + rules.size() + "개 장르 ===");
+    }
+
+    /**
+     * 제목과 소개 글로 장르 추측 (해당 없으면 "기타")
+     */
+    public String classify(String title, String content) {
+        String text = ((title != null ? title : "") + " " + (content != null ? content : ""))
+                .toLowerCase(Locale.ROOT);
+        String genre = rules.match(text);
+        return genre != null ? genre : DEFAULT_GENRE;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.booklog.genre;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 카테고리/주제분류 → 장르 매핑
+ * 카테고리 형식:
+ * - 알라딘/카카오: "국내도서>소설>한국소설"
+ * - 국립도서관: "813.7" (KDC), "문학", "소설" 등
+ *
+ * KDC 숫자 분류는 접두사 트라이에서 가장 긴 일치를 찾고,
+ * 그 외에는 genre.categories-location 규칙 표(위에서부터 우선)로 판정
+ * 한 번 계산한 카테고리는 메모해 두고 바로 반환
+ */
+@Component
+public class GenreMapper {
+
+    // KDC(한국십진분류법) 접두사 → 장르 (더 긴 접두사가 우선)
+    private static final String[][] KDC_TABLE = {
+            {"1", "인문"},        // 100번대: 철학
+            {"3", "인문"},        // 300번대: 사회과학
+            {"32", "경제/경영"},  // 320: 경제
+            {"4", "과학"},        // 400번대: 자연과학
+            {"5", "IT/컴퓨터"},   // 500번대: 기술과학 (컴퓨터 포함)
+            {"8", "소설"},        // 800번대: 문학
+            {"9", "역사"},        // 900번대: 역사
+    };
+
+    // KDC 앞 세 자리까지만 봄
+    private static final int KDC_PREFIX_LENGTH = 3;
+
+    @Value("${genre.categories-location:classpath:genre-categories.txt}")
+    private Resource categoriesResource;
+
+    // 메모할 최대 카테고리 수 (넘으면 새 카테고리는 매번 계산)
+    @Value("${genre.mapper.cache-max-size:5000}")
+    private int cacheMaxSize;
+
+    private final KdcNode kdcRoot = new KdcNode();
+
+    private KeywordRuleSet textRules;
+
+    private final Map<String, String> memo = new ConcurrentHashMap<>();
+
+    // 숫자 한 자리씩 내려가는 KDC 트라이 노드
+    private static final class KdcNode {
+        private final KdcNode[] children = new KdcNode[10];
+        private String genre;
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        for (String[] entry : KDC_TABLE) {
+            KdcNode node = kdcRoot;
+            for (char c : entry[0].toCharArray()) {
+                int digit = c - '0';
+                if (node.children[digit] == null) {
+                    node.children[digit] = new KdcNode();
+                }
+                node = node.children[digit];
+            }
+            node.genre = entry[1];
+        }
+        textRules = KeywordRuleSet.load(categoriesResource);
+    }
+
+    /**
+     * 카테고리 문자열 → 장르 (해당 없으면 "기타")
+     */
+    public String map(String category) {
+        if (category == null || category.isEmpty()) {
+            return GenreClassifier.DEFAULT_GENRE;
+        }
+
+        String cached = memo.get(category);
+        if (cached != null) {
+            return cached;
+        }
+
+        String genre = compute(category);
+        if (memo.size() < cacheMaxSize) {
+            memo.put(category, genre);
+        }
+        return genre;
+    }
+
+    private String compute(String category) {
+        // KDC 숫자 분류
+        String kdcGenre = matchKdc(category);
+        if (kdcGenre != null) {
+            return kdcGenre;
+        }
+
+        // 텍스트 기반 분류
+        String genre = textRules.match(category.toLowerCase(Locale.ROOT));
+        return genre != null ? genre : GenreClassifier.DEFAULT_GENRE;
+    }
+
+    /**
+     * KDC 코드 앞자리에서 가장 긴 접두사 일치 (숫자로 시작하지 않거나 표에 없으면 null)
+     */
+    private String matchKdc(String category) {
+        KdcNode node = kdcRoot;
+        String genre = null;
+        for (int i = 0; i < Math.min(KDC_PREFIX_LENGTH, category.length()); i++) {
+            char c = category.charAt(i);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            node = node.children[c - '0'];
+            if (node == null) {
+                break;
+            }
+            if (node.genre != null) {
+                genre = node.genre;
+            }
+        }
+        return genre;
+    }
+
+    public int getCacheSize() {
+        return memo.size();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.booklog.genre;
+
+import org.springframework.core.io.Resource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 우선순위가 있는 "장르 = 키워드" 규칙 표 (Aho-Corasick 한 번 스캔으로 판정)
+ *
+ * 파일 형식 (한 줄에 규칙 하나, 위에 있는 규칙이 우선):
+ *   장르 = 키워드1, 키워드2 ! 제외키워드1, 제외키워드2
+ * 키워드가 하나라도 포함되고 제외 키워드가 하나도 없으면 그 장르 선택
+ */
+public class KeywordRuleSet {
+
+    // 우선순위 순서의 장르 이름
+    private final List<String> genres;
+
+    // 키워드 id = 규칙 번호 * 2, 제외 키워드는 + 1
+    private final AhoCorasick automaton;
+
+    private KeywordRuleSet(List<String> genres, AhoCorasick automaton) {
+        this.genres = genres;
+        this.automaton = automaton;
+    }
+
+    /**
+     * 규칙 파일 로드
+     */
+    public static KeywordRuleSet load(Resource resource) throws IOException {
+        List<String> names = new ArrayList<>();
+        AhoCorasick ac = new AhoCorasick();
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                int eq = line.indexOf('=');
+                if (eq < 0) {
+                    throw new IllegalStateException("잘못된 장르 키워드 형식: " + line);
+                }
+
+                int rule = names.size();
+                names.add(line.substring(0, eq).trim());
+
+                String body = line.substring(eq + 1);
+                int bang = body.indexOf('!');
+                addKeywords(ac, bang < 0 ? body : body.substring(0, bang), rule * 2);
+                if (bang >= 0) {
+                    addKeywords(ac, body.substring(bang + 1), rule * 2 + 1);
+                }
+            }
+        }
+
+        return new KeywordRuleSet(List.copyOf(names), ac.build());
+    }
+
+    private static void addKeywords(AhoCorasick ac, String csv, int id) {
+        for (String keyword : csv.split(",")) {
+            String trimmed = keyword.trim().toLowerCase(Locale.ROOT);
+            if (!trimmed.isEmpty()) {
+                ac.add(trimmed, id);
+            }
+        }
+    }
+
+    /**
+     * 소문자로 바꾼 텍스트에 맞는 첫 번째 장르 (없으면 null)
+     */
+    public String match(CharSequence lowerText) {
+        BitSet found = new BitSet(genres.size() * 2);
+        automaton.scan(lowerText, found::set);
+
+        for (int rule = 0; rule < genres.size(); rule++) {
+            if (found.get(rule * 2) && !found.get(rule * 2 + 1)) {
+                return genres.get(rule);
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return genres.size();
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.booklog.parser;
+
+import com.example.booklog.entity.AladinBookDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 알라딘 상품 목록/검색 응답 스트리밍 파서 (Jackson JsonParser)
+ * - JSON 트리를 만들지 않고 item 배열을 바로 AladinBookDto로 변환
+ * - output=js 응답의 비표준 이스케이프(\')와 작은따옴표 문자열 허용 (기존 org.json 파싱과 같은 관용도)
+ */
+public class AladinBookJsonParser {
+
+    private static final JsonFactory FACTORY = JsonFactory.builder()
+            .enable(JsonReadFeature.ALLOW_BACKSLASH_ESCAPING_ANY_CHARACTER)
+            .enable(JsonReadFeature.ALLOW_SINGLE_QUOTES)
+            .build();
+
+    public static List<AladinBookDto> parse(InputStream in) throws IOException {
+        try (JsonParser parser = FACTORY.createParser(in)) {
+            return parse(parser);
+        }
+    }
+
+    public static List<AladinBookDto> parse(String json) throws IOException {
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            return parse(parser);
+        }
+    }
+
+    private static List<AladinBookDto> parse(JsonParser parser) throws IOException {
+        List<AladinBookDto> books = new ArrayList<>();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return books;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if ("item".equals(field) && token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    books.add(readItem(parser));
+                }
+            } else {
+                // totalResults, query 등 사용하지 않는 필드
+                parser.skipChildren();
+            }
+        }
+        return books;
+    }
+
+    private static AladinBookDto readItem(JsonParser parser) throws IOException {
+        AladinBookDto book = new AladinBookDto();
+        book.setTitle("");
+        book.setAuthor("");
+        book.setPublisher("");
+        book.setIsbn("");
+        book.setCoverUrl("");
+        book.setPubDate("");
+        book.setDescription("");
+        book.setCategoryName("");
+        book.setPriceStandard(0);
+        book.setPriceSales(0);
+        book.setLink("");
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "title":
+                    book.setTitle(text(parser));
+                    break;
+                case "author":
+                    book.setAuthor(text(parser));
+                    break;
+                case "publisher":
+                    book.setPublisher(text(parser));
+                    break;
+                case "isbn13":
+                    book.setIsbn(text(parser));
+                    break;
+                case "cover":
+                    book.setCoverUrl(text(parser));
+                    break;
+                case "pubDate":
+                    book.setPubDate(text(parser));
+                    break;
+                case "description":
+                    book.setDescription(text(parser));
+                    break;
+                case "categoryName":
+                    book.setCategoryName(text(parser));
+                    break;
+                case "priceStandard":
+                    book.setPriceStandard(parser.getValueAsInt(0));
+                    break;
+                case "priceSales":
+                    book.setPriceSales(parser.getValueAsInt(0));
+                    break;
+                case "link":
+                    book.setLink(text(parser));
+                    break;
+                default:
+                    // subInfo 등 중첩 객체 포함
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        return book;
+    }
+
+    /**
+     * 문자열/숫자 값을 문자열로 (null이면 빈 문자열)
+     */
+    private static String text(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.START_OBJECT || parser.currentToken() == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return "";
+        }
+        String value = parser.getValueAsString();
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.booklog.parser;
+
+import com.example.booklog.entity.BookApiDto;
+import com.example.booklog.entity.BookSearchPage;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * 카카오 책 검색 응답 스트리밍 파서 (Jackson JsonParser)
+ * - JSON 트리를 만들지 않고 documents 배열을 바로 BookApiDto로 변환
+ * - 장르는 카카오 응답에 없으므로 (제목, 소개) → 장르 함수로 채움
+ * - parsePage는 meta(total_count, pageable_count, is_end)까지 읽음
+ */
+public class KakaoBookJsonParser {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    // 소개 글 최대 길이 (목록 표시용)
+    private static final int DESCRIPTION_LENGTH = 200;
+
+    public static List<BookApiDto> parse(InputStream in, BiFunction<String, String, String> genreResolver)
+            throws IOException {
+        return parsePage(in, genreResolver).getBooks();
+    }
+
+    public static List<BookApiDto> parse(String json, BiFunction<String, String, String> genreResolver)
+            throws IOException {
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            return parse(parser, genreResolver).getBooks();
+        }
+    }
+
+    public static BookSearchPage parsePage(InputStream in, BiFunction<String, String, String> genreResolver)
+            throws IOException {
+        try (JsonParser parser = FACTORY.createParser(in)) {
+            return parse(parser, genreResolver);
+        }
+    }
+
+    private static BookSearchPage parse(JsonParser parser, BiFunction<String, String, String> genreResolver)
+            throws IOException {
+        BookSearchPage page = new BookSearchPage();
+        List<BookApiDto> books = new ArrayList<>();
+        page.setBooks(books);
+        // meta가 없으면 더 가져올 수 없는 것으로 봄
+        page.setEnd(true);
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return page;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if ("documents".equals(field) && token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    books.add(readDocument(parser, genreResolver));
+                }
+            } else if ("meta".equals(field) && token == JsonToken.START_OBJECT) {
+                readMeta(parser, page);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return page;
+    }
+
+    private static void readMeta(JsonParser parser, BookSearchPage page) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "total_count":
+                    page.setTotalCount(parser.getValueAsInt(0));
+                    break;
+                case "pageable_count":
+                    page.setPageableCount(parser.getValueAsInt(0));
+                    break;
+                case "is_end":
+                    page.setEnd(parser.getValueAsBoolean(true));
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+    }
+
+    private static BookApiDto readDocument(JsonParser parser, BiFunction<String, String, String> genreResolver)
+            throws IOException {
+        BookApiDto book = new BookApiDto();
+        String contents = "";
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "title":
+                    book.setTitle(text(parser));
+                    break;
+                case "authors":
+                    // 저자 배열 → "저자1, 저자2"
+                    if (token == JsonToken.START_ARRAY) {
+                        StringBuilder authors = new StringBuilder();
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            if (authors.length() > 0) {
+                                authors.append(", ");
+                            }
+                            authors.append(text(parser));
+                        }
+                        if (authors.length() > 0) {
+                            book.setAuthor(authors.toString());
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                    break;
+                case "publisher":
+                    book.setPublisher(text(parser));
+                    break;
+                case "isbn": {
+                    // "ISBN10 ISBN13" 형식 → 첫 번째 ISBN 사용
+                    String isbn = text(parser);
+                    int space = isbn.indexOf(' ');
+                    book.setIsbn(space >= 0 ? isbn.substring(0, space) : isbn);
+                    break;
+                }
+                case "thumbnail": {
+                    String thumbnail = text(parser);
+                    if (!thumbnail.isEmpty()) {
+                        book.setCoverUrl(thumbnail);
+                    }
+                    break;
+                }
+                case "datetime": {
+                    // 날짜 부분만
+                    String datetime = text(parser);
+                    if (datetime.length() >= 10) {
+                        book.setPublishDate(datetime.substring(0, 10));
+                    }
+                    break;
+                }
+                case "price":
+                    book.setPage(text(parser));
+                    break;
+                case "contents":
+                    contents = text(parser);
+                    if (!contents.isEmpty()) {
+                        book.setDescription(contents.substring(0, Math.min(DESCRIPTION_LENGTH, contents.length())) + "...");
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+
+        if (book.getTitle() == null) book.setTitle("");
+        if (book.getPublisher() == null) book.setPublisher("");
+        if (book.getIsbn() == null) book.setIsbn("");
+        if (book.getPage() == null) book.setPage("");
+
+        book.setSubject(genreResolver.apply(book.getTitle(), contents));
+        return book;
+    }
+
+    /**
+     * 문자열/숫자 값을 문자열로 (null이면 빈 문자열)
+     */
+    private static String text(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.START_OBJECT || parser.currentToken() == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return "";
+        }
+        String value = parser.getValueAsString();
+        return value != null ? value : "";
+    }
+}
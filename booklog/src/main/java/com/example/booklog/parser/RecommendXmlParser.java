@@ -0,0 +1,169 @@
+package com.example.booklog.parser;
+
+import com.example.booklog.entity.RecommendedBookDto;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사서추천(saseoApi) XML 스트리밍 파서 (StAX)
+ * - DOM을 만들지 않고 한 번 읽으면서 item마다 RecommendedBookDto 생성
+ * - 메모리 사용량은 item 하나 크기로 제한됨
+ */
+public class RecommendXmlParser {
+
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // 외부 엔티티/DTD 차단 (XXE 방지)
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        // CDATA와 텍스트를 하나로 합쳐서 받기
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * 응답 본문 스트림 파싱 (인코딩은 XML 선언에서 판단)
+     */
+    public static List<RecommendedBookDto> parse(InputStream in) throws XMLStreamException {
+        XMLStreamReader reader = FACTORY.createXMLStreamReader(in);
+        try {
+            return parse(reader);
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * 문자열 응답 파싱
+     */
+    public static List<RecommendedBookDto> parse(String xml) throws XMLStreamException {
+        return parse(new StringReader(xml));
+    }
+
+    public static List<RecommendedBookDto> parse(Reader in) throws XMLStreamException {
+        XMLStreamReader reader = FACTORY.createXMLStreamReader(in);
+        try {
+            return parse(reader);
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static List<RecommendedBookDto> parse(XMLStreamReader reader) throws XMLStreamException {
+        List<RecommendedBookDto> books = new ArrayList<>();
+        RecommendedBookDto current = null;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+                if ("item".equals(name)) {
+                    current = new RecommendedBookDto();
+                } else if (current != null) {
+                    readField(reader, name, current);
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT && current != null
+                    && "item".equals(reader.getLocalName())) {
+                finish(current);
+                books.add(current);
+                current = null;
+            }
+        }
+        return books;
+    }
+
+    /**
+     * item 하위 필드 (같은 태그가 여러 번 나오면 첫 번째 값 사용)
+     */
+    private static void readField(XMLStreamReader reader, String name, RecommendedBookDto book)
+            throws XMLStreamException {
+        switch (name) {
+            case "recomtitle":
+                if (book.getTitle() == null) book.setTitle(readText(reader));
+                break;
+            case "recomauthor":
+                if (book.getAuthor() == null) book.setAuthor(readText(reader));
+                break;
+            case "recompublisher":
+                if (book.getPublisher() == null) book.setPublisher(readText(reader));
+                break;
+            case "recomisbn":
+                if (book.getIsbn() == null) book.setIsbn(readText(reader));
+                break;
+            case "recomfilepath":
+                if (book.getCoverUrl() == null) book.setCoverUrl(readText(reader));
+                break;
+            case "recomcontens":
+                if (book.getContents() == null) book.setContents(readText(reader));
+                break;
+            case "drCodeName":
+                if (book.getCategory() == null) book.setCategory(readText(reader));
+                break;
+            case "drCode":
+                if (book.getCategoryCode() == null) book.setCategoryCode(readText(reader));
+                break;
+            case "publishYear":
+                if (book.getPublishYear() == null) {
+                    String year = readText(reader).trim();
+                    if (!year.isEmpty()) {
+                        try {
+                            book.setPublishYear(Integer.parseInt(year));
+                        } catch (NumberFormatException e) {
+                            book.setPublishYear(0);
+                        }
+                    }
+                }
+                break;
+            default:
+                // 사용하지 않는 태그는 건너뜀
+                break;
+        }
+    }
+
+    /**
+     * 현재 요소의 텍스트 (공백뿐이면 빈 문자열)
+     */
+    private static String readText(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder text = new StringBuilder();
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+                text.append(reader.getText());
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+        String value = text.toString();
+        return value.trim().isEmpty() ? "" : value;
+    }
+
+    /**
+     * 누락된 필드 기본값 (기존 DOM 파서와 동일하게 맞춤)
+     */
+    private static void finish(RecommendedBookDto book) {
+        if (book.getTitle() == null) book.setTitle("");
+        if (book.getAuthor() == null) book.setAuthor("");
+        if (book.getPublisher() == null) book.setPublisher("");
+        if (book.getIsbn() == null) book.setIsbn("");
+        if (book.getContents() == null) book.setContents("");
+        if (book.getCategory() == null) book.setCategory("");
+        if (book.getCategoryCode() == null) book.setCategoryCode("");
+        if (book.getCoverUrl() == null || book.getCoverUrl().isEmpty()) {
+            book.setCoverUrl(null);
+        }
+    }
+}
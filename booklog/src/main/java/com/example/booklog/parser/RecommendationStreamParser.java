@@ -0,0 +1,121 @@
+package com.example.booklog.parser;
+
+import com.example.booklog.entity.AiRecommendedBookDto;
+import org.json.JSONObject;
+
+import java.util.function.Consumer;
+
+/**
+ * OpenAI 스트리밍 응답(delta.content 조각)용 추천 목록 증분 파서
+ * - 조각을 받는 대로 한 글자씩 훑으며 괄호 깊이만 추적 (전체 응답을 모으지 않음)
+ * - 배열 바로 안의 객체 하나가 닫히는 순간 AiRecommendedBookDto로 변환해 전달
+ * - 문자열 안의 괄호/이스케이프는 무시, 마크다운 코드 블록(```json)은 배열 밖이라 자연히 건너뜀
+ */
+public class RecommendationStreamParser {
+
+    private final Consumer<AiRecommendedBookDto> onBook;
+
+    // 열린 괄호 ('{' 또는 '[')
+    private final StringBuilder containers = new StringBuilder();
+
+    // 지금 모으는 배열 요소 객체 (captureDepth: 그 객체가 열린 깊이, 없으면 -1)
+    private final StringBuilder current = new StringBuilder();
+    private int captureDepth = -1;
+
+    private boolean inString;
+    private boolean escaped;
+    private int emitted;
+
+    public RecommendationStreamParser(Consumer<AiRecommendedBookDto> onBook) {
+        this.onBook = onBook;
+    }
+
+    /**
+     * 응답 조각 추가 (완성된 추천이 있으면 그 자리에서 onBook 호출)
+     */
+    public void feed(CharSequence chunk) {
+        for (int i = 0; i < chunk.length(); i++) {
+            accept(chunk.charAt(i));
+        }
+    }
+
+    /**
+     * 지금까지 전달한 추천 수
+     */
+    public int getEmitted() {
+        return emitted;
+    }
+
+    /**
+     * 추천 JSON 객체 하나 → DTO (스트리밍/일반 응답 공통)
+     */
+    public static AiRecommendedBookDto toRecommendedBook(JSONObject bookJson) {
+        AiRecommendedBookDto book = new AiRecommendedBookDto();
+        book.setTitle(bookJson.optString("title", ""));
+        book.setAuthor(bookJson.optString("author", ""));
+        book.setPublisher(bookJson.optString("publisher", ""));
+        book.setCategory(bookJson.optString("category", ""));
+        book.setDescription(bookJson.optString("description", ""));
+        book.setReason(bookJson.optString("reason", ""));
+        return book;
+    }
+
+    private void accept(char c) {
+        if (captureDepth >= 0) {
+            current.append(c);
+        }
+
+        if (inString) {
+            if (escaped) {
+                escaped = false;
+            } else if (c == '\\') {
+                escaped = true;
+            } else if (c == '"') {
+                inString = false;
+            }
+            return;
+        }
+
+        switch (c) {
+            case '"':
+                inString = true;
+                break;
+            case '{':
+                if (captureDepth < 0 && containers.length() > 0
+                        && containers.charAt(containers.length() - 1) == '[') {
+                    captureDepth = containers.length();
+                    current.setLength(0);
+                    current.append(c);
+                }
+                containers.append(c);
+                break;
+            case '[':
+                containers.append(c);
+                break;
+            case '}':
+            case ']':
+                if (containers.length() > 0) {
+                    containers.setLength(containers.length() - 1);
+                }
+                if (c == '}' && captureDepth == containers.length()) {
+                    captureDepth = -1;
+                    emit(current.toString());
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void emit(String json) {
+        try {
+            AiRecommendedBookDto book = toRecommendedBook(new JSONObject(json));
+            if (!book.getTitle().isEmpty()) {
+                emitted++;
+                onBook.accept(book);
+            }
+        } catch (Exception e) {
+            System.out.println("❌ 추천 항목 파싱 실패: " + e.getMessage());
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.example.booklog.entity.Book;
 import com.example.booklog.entity.User;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
@@ -46,4 +48,12 @@ public interface BookRepository extends JpaRepository<Book, Long> {
 
     // 다른 사람들의 책 + 상태별 조회
     List<Book> findByUserNotAndStatusOrderByCreatedAtDesc(User user, String status);
+
+    // 자동완성 색인 적재용 (id, 소유자 사용자명, 제목, 저자만)
+    @Query("select b.id, u.username, b.title, b.author from Book b join b.user u")
+    List<Object[]> findAllTitlesAndAuthors();
+
+    // 사용자 서재 변경 감지용 (책 수, 마지막 수정 시각)
+    @Query("select count(b), max(b.updatedAt) from Book b where b.user = :user")
+    List<Object[]> findLibraryFingerprint(@Param("user") User user);
 }
\ No newline at end of file
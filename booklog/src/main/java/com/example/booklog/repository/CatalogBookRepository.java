@@ -0,0 +1,24 @@
+package com.example.booklog.repository;
+
+import com.example.booklog.entity.CatalogBook;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CatalogBookRepository extends JpaRepository<CatalogBook, Long> {
+
+    // ISBN-13 단건 조회 (유니크 인덱스)
+    Optional<CatalogBook> findByIsbn13(String isbn13);
+
+    // 일괄 갱신용 다건 조회
+    List<CatalogBook> findByIsbn13In(Collection<String> isbn13s);
+
+    // 자동완성 색인 적재용 (ISBN-13, 제목, 저자만)
+    @Query("select c.isbn13, c.title, c.author from CatalogBook c")
+    List<Object[]> findAllTitlesAndAuthors();
+}
@@ -0,0 +1,258 @@
+package com.example.booklog.resilience;
+
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 제공자별 서킷 브레이커 + 벌크헤드
+ * - 최근 windowSize번 호출 중 실패율이 임계치를 넘으면 OPEN (호출하지 않고 즉시 실패)
+ * - openDuration이 지나면 HALF_OPEN으로 전환해 일부 호출만 시험적으로 통과
+ * - 시험 호출이 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ * - 동시 호출 수를 maxConcurrentCalls로 제한 (초과 시 기다리지 않고 즉시 실패)
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold; // %
+    private final long openDurationMs;
+    private final int halfOpenPermittedCalls;
+    private final int maxConcurrentCalls;
+
+    private final Semaphore bulkhead;
+
+    // 최근 호출 결과 (true = 실패), 링 버퍼
+    private final boolean[] outcomes;
+    private int outcomeCount;
+    private int outcomeIndex;
+    private int failureCount;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenCallsStarted;
+    private int halfOpenSuccesses;
+
+    private final AtomicLong successfulCalls = new AtomicLong();
+    private final AtomicLong failedCalls = new AtomicLong();
+    private final AtomicLong notPermittedCalls = new AtomicLong();
+    private final AtomicLong bulkheadRejectedCalls = new AtomicLong();
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, int failureRateThreshold,
+                          long openDurationMs, int halfOpenPermittedCalls, int maxConcurrentCalls) {
+        this.name = name;
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMs = openDurationMs;
+        this.halfOpenPermittedCalls = halfOpenPermittedCalls;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.outcomes = new boolean[windowSize];
+    }
+
+    /**
+     * 서킷/벌크헤드를 거쳐 호출
+     * 차단되면 ProviderUnavailableException, 호출 중 예외는 실패로 기록 후 그대로 전달
+     */
+    public <T> T execute(Supplier<T> call) {
+        return execute(null, call);
+    }
+
+    /**
+     * 서킷/벌크헤드 통과 후 호출 한도까지 확인하고 호출
+     * 서킷이 열려 있으면 한도를 쓰지 않고, 한도 초과는 제공자 실패로 기록하지 않음
+     */
+    public <T> T execute(RateLimiter rateLimiter, Supplier<T> call) {
+        acquirePermission();
+
+        if (rateLimiter != null) {
+            try {
+                rateLimiter.acquire();
+            } catch (RuntimeException | Error e) {
+                releasePermission();
+                throw e;
+            }
+        }
+
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error e) {
+            // Error도 허가를 반환해야 벌크헤드/시험 호출 자리가 줄어들지 않음
+            onResult(isFailure(e));
+            throw e;
+        }
+        onResult(false);
+        return result;
+    }
+
+    /**
+     * 서킷/벌크헤드 허가 (비동기 호출용, 허가 후에는 onResult 또는 releasePermission 중 하나를 반드시 호출)
+     * 차단되면 ProviderUnavailableException
+     */
+    public void acquirePermission() {
+        if (!tryAcquirePermission()) {
+            notPermittedCalls.incrementAndGet();
+            throw new ProviderUnavailableException(name + " 서킷 열림 - 호출 생략");
+        }
+
+        if (!bulkhead.tryAcquire()) {
+            releaseHalfOpenPermission();
+            bulkheadRejectedCalls.incrementAndGet();
+            throw new ProviderUnavailableException(name + " 동시 호출 수 초과 (" + maxConcurrentCalls + ")");
+        }
+    }
+
+    /**
+     * 호출 결과 기록 + 허가 반환
+     */
+    public void onResult(boolean failure) {
+        try {
+            if (failure) {
+                onFailure();
+            } else {
+                onSuccess();
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * 허가를 받았지만 호출하지 않고 끝난 경우 (호출 한도 초과, 취소) - 결과로 기록하지 않음
+     */
+    public void releasePermission() {
+        releaseHalfOpenPermission();
+        bulkhead.release();
+    }
+
+    /**
+     * 예외를 제공자 실패로 볼지 여부
+     * 4xx는 요청 문제이므로 제공자 장애로 보지 않음 (429 제외)
+     */
+    public static boolean isFailure(Throwable e) {
+        if (e instanceof HttpClientErrorException) {
+            return ((HttpClientErrorException) e).getStatusCode().value() == 429;
+        }
+        return true;
+    }
+
+    public synchronized State getState() {
+        // OPEN 시간이 지났으면 조회 시점에도 HALF_OPEN으로 보이도록
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openDurationMs) {
+            transitionTo(State.HALF_OPEN);
+        }
+        return state;
+    }
+
+    /**
+     * 서킷 상태 통계 (모니터링용)
+     */
+    public synchronized Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("state", getState().name());
+        stats.put("failureRate", outcomeCount == 0 ? 0.0 : failureCount * 100.0 / outcomeCount);
+        stats.put("bufferedCalls", outcomeCount);
+        stats.put("successfulCalls", successfulCalls.get());
+        stats.put("failedCalls", failedCalls.get());
+        stats.put("notPermittedCalls", notPermittedCalls.get());
+        stats.put("bulkheadRejectedCalls", bulkheadRejectedCalls.get());
+        stats.put("availableConcurrentCalls", bulkhead.availablePermits());
+        stats.put("maxConcurrentCalls", maxConcurrentCalls);
+        return stats;
+    }
+
+    private synchronized boolean tryAcquirePermission() {
+        switch (getState()) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (halfOpenCallsStarted < halfOpenPermittedCalls) {
+                    halfOpenCallsStarted++;
+                    return true;
+                }
+                return false;
+            case OPEN:
+            default:
+                return false;
+        }
+    }
+
+    private synchronized void releaseHalfOpenPermission() {
+        if (state == State.HALF_OPEN && halfOpenCallsStarted > 0) {
+            halfOpenCallsStarted--;
+        }
+    }
+
+    private synchronized void onSuccess() {
+        successfulCalls.incrementAndGet();
+
+        if (state == State.HALF_OPEN) {
+            halfOpenSuccesses++;
+            if (halfOpenSuccesses >= halfOpenPermittedCalls) {
+                System.out.println("=== 서킷 닫힘: " + name + " ===");
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+
+        record(false);
+    }
+
+    private synchronized void onFailure() {
+        failedCalls.incrementAndGet();
+
+        if (state == State.HALF_OPEN) {
+            System.out.println("=== 서킷 다시 열림 (시험 호출 실패): " + name + " ===");
+            transitionTo(State.OPEN);
+            return;
+        }
+
+        record(true);
+
+        if (state == State.CLOSED && outcomeCount >= minimumCalls
+                && failureCount * 100 >= failureRateThreshold * outcomeCount) {
+            System.out.println("=== 서킷 열림: " + name + " (실패율 " + (failureCount * 100 / outcomeCount) + "%) ===");
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void record(boolean failure) {
+        if (outcomeCount == windowSize) {
+            // 가장 오래된 결과를 밀어냄
+            if (outcomes[outcomeIndex]) {
+                failureCount--;
+            }
+        } else {
+            outcomeCount++;
+        }
+        outcomes[outcomeIndex] = failure;
+        if (failure) {
+            failureCount++;
+        }
+        outcomeIndex = (outcomeIndex + 1) % windowSize;
+    }
+
+    private void transitionTo(State newState) {
+        state = newState;
+        halfOpenCallsStarted = 0;
+        halfOpenSuccesses = 0;
+
+        if (newState == State.OPEN) {
+            openedAt = System.currentTimeMillis();
+        }
+        if (newState == State.CLOSED) {
+            outcomeCount = 0;
+            outcomeIndex = 0;
+            failureCount = 0;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.booklog.resilience;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 외부 API 제공자별 서킷 브레이커 모음
+ * 설정: provider.circuit.{항목} (공통), provider.circuit.{제공자}.{항목} (제공자별 덮어쓰기)
+ */
+@Component
+public class ProviderCircuitBreakers {
+
+    public static final String KAKAO = "kakao";
+    public static final String NATIONAL_LIBRARY = "nl";
+    public static final String ALADIN = "aladin";
+    public static final String OPENAI = "openai";
+
+    private final Environment environment;
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    public ProviderCircuitBreakers(Environment environment) {
+        this.environment = environment;
+        for (String provider : new String[] { KAKAO, NATIONAL_LIBRARY, ALADIN, OPENAI }) {
+            circuitBreakers.put(provider, create(provider));
+        }
+    }
+
+    public CircuitBreaker get(String provider) {
+        return circuitBreakers.computeIfAbsent(provider, this::create);
+    }
+
+    /**
+     * 전체 서킷 상태 (모니터링용)
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        circuitBreakers.forEach((provider, circuitBreaker) -> stats.put(provider, circuitBreaker.stats()));
+        return stats;
+    }
+
+    private CircuitBreaker create(String provider) {
+        return new CircuitBreaker(provider,
+                property(provider, "window-size", 20),
+                property(provider, "minimum-calls", 10),
+                property(provider, "failure-rate-threshold", 50),
+                property(provider, "open-duration-ms", 30000),
+                property(provider, "half-open-calls", 3),
+                property(provider, "max-concurrent-calls", 20));
+    }
+
+    private int property(String provider, String key, int defaultValue) {
+        Integer common = environment.getProperty("provider.circuit." + key, Integer.class, defaultValue);
+        return environment.getProperty("provider.circuit." + provider + "." + key, Integer.class, common);
+    }
+}
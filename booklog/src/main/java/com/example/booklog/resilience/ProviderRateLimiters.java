@@ -0,0 +1,56 @@
+package com.example.booklog.resilience;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 외부 API 제공자(키)별 호출 한도 모음
+ * 설정: provider.rate-limit.{항목} (공통), provider.rate-limit.{제공자}.{항목} (제공자별 덮어쓰기)
+ * 일일 사용량은 메모리에만 보관 (재시작하면 0부터 다시 셈)
+ */
+@Component
+public class ProviderRateLimiters {
+
+    private final Environment environment;
+    private final Map<String, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
+
+    public ProviderRateLimiters(Environment environment) {
+        this.environment = environment;
+        for (String provider : new String[] { ProviderCircuitBreakers.KAKAO, ProviderCircuitBreakers.NATIONAL_LIBRARY,
+                ProviderCircuitBreakers.ALADIN, ProviderCircuitBreakers.OPENAI }) {
+            rateLimiters.put(provider, create(provider));
+        }
+    }
+
+    public RateLimiter get(String provider) {
+        return rateLimiters.computeIfAbsent(provider, this::create);
+    }
+
+    /**
+     * 제공자별 남은 한도 (모니터링용)
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        rateLimiters.forEach((provider, rateLimiter) -> stats.put(provider, rateLimiter.stats()));
+        return stats;
+    }
+
+    private RateLimiter create(String provider) {
+        double permitsPerSecond = property(provider, "per-second", 10.0, Double.class);
+        return new RateLimiter(provider,
+                permitsPerSecond,
+                property(provider, "burst", (int) Math.ceil(permitsPerSecond), Integer.class),
+                property(provider, "per-day", 0L, Long.class),
+                property(provider, "max-wait-ms", 200L, Long.class),
+                property(provider, "max-queue", 20, Integer.class));
+    }
+
+    private <T> T property(String provider, String key, T defaultValue, Class<T> type) {
+        T common = environment.getProperty("provider.rate-limit." + key, type, defaultValue);
+        return environment.getProperty("provider.rate-limit." + provider + "." + key, type, common);
+    }
+}
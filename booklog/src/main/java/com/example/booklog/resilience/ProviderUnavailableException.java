@@ -0,0 +1,12 @@
+package com.example.booklog.resilience;
+
+/**
+ * 외부 API 호출이 차단되었을 때 발생 (서킷 열림 또는 동시 호출 수 초과)
+ * 실제 호출을 하지 않고 즉시 실패하므로 호출하는 쪽에서 캐시/빈 결과로 대체
+ */
+public class ProviderUnavailableException extends RuntimeException {
+
+    public ProviderUnavailableException(String message) {
+        super(message);
+    }
+}
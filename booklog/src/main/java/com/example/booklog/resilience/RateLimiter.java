@@ -0,0 +1,160 @@
+package com.example.booklog.resilience;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 외부 API 키별 호출 한도 (토큰 버킷 + 일일 한도)
+ * - 초당 permitsPerSecond개씩 토큰이 차고, 최대 burst개까지 모아둘 수 있음
+ * - 토큰이 없으면 다음 토큰을 예약하고 maxWaitMs까지 기다림 (대기 인원은 maxQueue로 제한)
+ * - 하루 호출 수가 dailyLimit에 도달하면 자정까지 즉시 실패 (0이면 무제한)
+ * - 한도 초과 시 ProviderUnavailableException → 호출하는 쪽에서 캐시/빈 결과로 대체
+ */
+public class RateLimiter {
+
+    private final String name;
+    private final double permitsPerSecond;
+    private final int burst;
+    private final long dailyLimit;
+    private final long maxWaitNanos;
+    private final int maxQueue;
+
+    // 음수면 이미 예약된 토큰이 있다는 뜻 (대기 중인 요청 순서대로 소비)
+    private double tokens;
+    private long lastRefillNanos;
+    private LocalDate day = LocalDate.now();
+    private long usedToday;
+    private int waiting;
+
+    private final AtomicLong grantedCalls = new AtomicLong();
+    private final AtomicLong queuedCalls = new AtomicLong();
+    private final AtomicLong rateRejectedCalls = new AtomicLong();
+    private final AtomicLong dailyRejectedCalls = new AtomicLong();
+
+    public RateLimiter(String name, double permitsPerSecond, int burst, long dailyLimit,
+                       long maxWaitMs, int maxQueue) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond는 0보다 커야 합니다.");
+        }
+        this.name = name;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = Math.max(1, burst);
+        this.dailyLimit = dailyLimit;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.maxQueue = maxQueue;
+        this.tokens = this.burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 호출 1회 허가 (필요하면 잠깐 대기)
+     * 한도 초과 시 ProviderUnavailableException
+     */
+    public void acquire() {
+        long waitNanos = reserve();
+        if (waitNanos == 0) {
+            return;
+        }
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelReservation();
+            throw new ProviderUnavailableException(name + " 호출 대기 중 중단됨");
+        } finally {
+            endWait();
+        }
+    }
+
+    /**
+     * 호출 1회 예약 (비동기 호출용, 스레드를 재우지 않음)
+     * 0이면 바로 호출, 0보다 크면 그만큼 기다린 뒤 호출하고 endWait() 호출
+     * 한도 초과 시 ProviderUnavailableException
+     */
+    public synchronized long reserve() {
+        rollDay();
+        if (dailyLimit > 0 && usedToday >= dailyLimit) {
+            dailyRejectedCalls.incrementAndGet();
+            throw new ProviderUnavailableException(name + " 일일 호출 한도 소진 (" + dailyLimit + ")");
+        }
+
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            usedToday++;
+            grantedCalls.incrementAndGet();
+            return 0;
+        }
+
+        // 다음 토큰까지 걸리는 시간 (앞서 예약한 요청 포함)
+        long waitNanos = (long) ((1 - tokens) / permitsPerSecond * TimeUnit.SECONDS.toNanos(1));
+        if (waitNanos > maxWaitNanos || waiting >= maxQueue) {
+            rateRejectedCalls.incrementAndGet();
+            throw new ProviderUnavailableException(name + " 초당 호출 한도 초과");
+        }
+
+        tokens -= 1;
+        usedToday++;
+        waiting++;
+        grantedCalls.incrementAndGet();
+        queuedCalls.incrementAndGet();
+        return Math.max(1, waitNanos);
+    }
+
+    /**
+     * 예약한 대기가 끝남 (호출했든 취소했든)
+     */
+    public synchronized void endWait() {
+        waiting--;
+    }
+
+    /**
+     * 예약 취소 (대기 중 중단/취소된 경우 토큰과 일일 사용량 되돌림)
+     */
+    public synchronized void cancelReservation() {
+        tokens += 1;
+        usedToday--;
+        grantedCalls.decrementAndGet();
+    }
+
+    /**
+     * 남은 한도 통계 (모니터링용)
+     */
+    public synchronized Map<String, Object> stats() {
+        rollDay();
+        refill();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("permitsPerSecond", permitsPerSecond);
+        stats.put("burst", burst);
+        stats.put("availableTokens", Math.max(0, (int) tokens));
+        stats.put("dailyLimit", dailyLimit);
+        stats.put("usedToday", usedToday);
+        stats.put("remainingToday", dailyLimit > 0 ? Math.max(0, dailyLimit - usedToday) : -1);
+        stats.put("waiting", waiting);
+        stats.put("grantedCalls", grantedCalls.get());
+        stats.put("queuedCalls", queuedCalls.get());
+        stats.put("rateRejectedCalls", rateRejectedCalls.get());
+        stats.put("dailyRejectedCalls", dailyRejectedCalls.get());
+        return stats;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double elapsedSeconds = (now - lastRefillNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+        tokens = Math.min(burst, tokens + elapsedSeconds * permitsPerSecond);
+        lastRefillNanos = now;
+    }
+
+    private void rollDay() {
+        LocalDate today = LocalDate.now();
+        if (!today.equals(day)) {
+            day = today;
+            usedToday = 0;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.booklog.resilience;
+
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * WebClient 호출용 서킷 브레이커 + 호출 한도 (CircuitBreaker.execute의 비동기 버전)
+ * - 구독 시점에 허가를 받고, 한도 대기는 스레드를 재우지 않고 Mono.delay로 처리
+ * - 성공/실패/취소 중 먼저 끝난 하나만 서킷에 기록
+ */
+public final class ReactiveResilience {
+
+    private ReactiveResilience() {
+    }
+
+    public static <T> Mono<T> guard(CircuitBreaker circuitBreaker, RateLimiter rateLimiter, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            circuitBreaker.acquirePermission();
+
+            long waitNanos;
+            try {
+                waitNanos = rateLimiter != null ? rateLimiter.reserve() : 0;
+            } catch (ProviderUnavailableException e) {
+                circuitBreaker.releasePermission();
+                throw e;
+            }
+
+            AtomicBoolean finished = new AtomicBoolean(false);
+            Mono<T> result = waitNanos == 0
+                    ? Mono.defer(call)
+                    : Mono.delay(Duration.ofNanos(waitNanos))
+                            .doOnCancel(() -> {
+                                // 대기 중 취소 → 예약한 한도 반환
+                                rateLimiter.cancelReservation();
+                                rateLimiter.endWait();
+                            })
+                            .then(Mono.fromRunnable(rateLimiter::endWait))
+                            .then(Mono.defer(call));
+
+            return result
+                    .doOnSuccess(value -> {
+                        if (finished.compareAndSet(false, true)) {
+                            circuitBreaker.onResult(false);
+                        }
+                    })
+                    .doOnError(e -> {
+                        if (finished.compareAndSet(false, true)) {
+                            circuitBreaker.onResult(isFailure(e));
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (finished.compareAndSet(false, true)) {
+                            circuitBreaker.releasePermission();
+                        }
+                    });
+        });
+    }
+
+    /**
+     * 4xx는 요청 문제이므로 제공자 장애로 보지 않음 (429 제외)
+     */
+    private static boolean isFailure(Throwable e) {
+        if (e instanceof WebClientResponseException) {
+            int status = ((WebClientResponseException) e).getStatusCode().value();
+            return status == 429 || status >= 500;
+        }
+        return CircuitBreaker.isFailure(e);
+    }
+}
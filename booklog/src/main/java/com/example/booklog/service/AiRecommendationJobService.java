@@ -0,0 +1,282 @@
+package com.example.booklog.service;
+
+import com.example.booklog.cache.TtlCache;
+import com.example.booklog.entity.AiRecommendationJobDto;
+import com.example.booklog.entity.AiRecommendedBookDto;
+import com.example.booklog.entity.User;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * AI 추천 생성 작업 (비동기)
+ * - 요청 스레드는 작업만 등록하고 바로 반환, OpenAI 호출은 aiJobExecutor에서 실행
+ * - 사용자당 진행 중인 작업은 하나 (진행 중에 다시 요청하면 같은 작업 반환)
+ * - 결과는 폴링(작업 조회) 또는 SSE로 전달, 끝난 작업은 잠시 보관 후 제거
+ *   (진행 중인 작업은 activeJobs에만 두어 보관 목록(LRU)에서 밀려나지 않음)
+ * - 스트리밍 모드에서는 추천이 하나 완성될 때마다 SSE book 이벤트로 바로 전달
+ */
+@Service
+public class AiRecommendationJobService {
+
+    public static final String PENDING = "PENDING";
+    public static final String RUNNING = "RUNNING";
+    public static final String DONE = "DONE";
+    public static final String FAILED = "FAILED";
+
+    // 끝난 작업 결과 보관 시간 / 최대 보관 수
+    @Value("${ai.job.retention-minutes:10}")
+    private long retentionMinutes;
+
+    @Value("${ai.job.max-jobs:1000}")
+    private int maxJobs;
+
+    // SSE 연결 최대 유지 시간 (넘으면 클라이언트가 폴링으로 확인)
+    @Value("${ai.job.sse-timeout-ms:120000}")
+    private long sseTimeoutMs;
+
+    @Autowired
+    private AiRecommendationService aiRecommendationService;
+
+    @Autowired
+    @Qualifier("aiJobExecutor")
+    private Executor aiJobExecutor;
+
+    // 끝난 작업 (결과 조회용으로 잠시 보관)
+    private TtlCache<String, Job> jobs;
+
+    // 사용자 id → 진행 중인 작업
+    private final Map<Long, Job> activeJobs = new ConcurrentHashMap<>();
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong deduplicated = new AtomicLong();
+    private final AtomicLong cachedResults = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+
+    private static final class Job {
+        private final String id = UUID.randomUUID().toString();
+        private final Long userId;
+        private volatile String status = PENDING;
+        private volatile List<AiRecommendedBookDto> books = new ArrayList<>();
+        private volatile String message;
+        private final CompletableFuture<Job> completion = new CompletableFuture<>();
+
+        // 진행 중에 도착한 추천과 SSE 구독자 (job 객체로 동기화)
+        private final List<AiRecommendedBookDto> partial = new ArrayList<>();
+        private final List<Consumer<AiRecommendedBookDto>> listeners = new ArrayList<>();
+
+        private Job(Long userId) {
+            this.userId = userId;
+        }
+
+        // 진행 중이면 지금까지 도착한 추천을 함께 반환 (폴링 시 진행 상황 확인용)
+        private synchronized AiRecommendationJobDto toDto() {
+            List<AiRecommendedBookDto> current = isFinished() ? books : new ArrayList<>(partial);
+            return new AiRecommendationJobDto(id, status, current, message);
+        }
+
+        private boolean isFinished() {
+            return DONE.equals(status) || FAILED.equals(status);
+        }
+
+        // 전송(네트워크 I/O)은 잠금 밖에서 (느린 SSE 클라이언트가 폴링/다른 구독자를 막지 않도록)
+        private void addBook(AiRecommendedBookDto book) {
+            List<Consumer<AiRecommendedBookDto>> current;
+            synchronized (this) {
+                partial.add(book);
+                current = new ArrayList<>(listeners);
+            }
+            for (Consumer<AiRecommendedBookDto> listener : current) {
+                listener.accept(book);
+            }
+        }
+    }
+
+    @PostConstruct
+    public void initJobs() {
+        jobs = new TtlCache<>(maxJobs, Duration.ofMinutes(retentionMinutes));
+    }
+
+    /**
+     * 추천 작업 등록 (캐시된 추천이 있으면 바로 끝난 작업으로 반환)
+     */
+    public AiRecommendationJobDto submit(User user, int count) {
+        return start(user, count).toDto();
+    }
+
+    /**
+     * 작업 상태 조회 (없거나 다른 사용자의 작업이면 null)
+     */
+    public AiRecommendationJobDto getJob(String jobId, User user) {
+        Job job = find(jobId, user);
+        return job != null ? job.toDto() : null;
+    }
+
+    /**
+     * 작업 결과 SSE 구독
+     * status 이벤트 한 번 → 추천이 도착할 때마다 book 이벤트 (이미 도착한 것부터) → 끝나면 result 이벤트 후 종료
+     * 없거나 다른 사용자의 작업이면 null
+     */
+    public SseEmitter subscribe(String jobId, User user) {
+        Job job = find(jobId, user);
+        if (job == null) {
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        emitter.onTimeout(emitter::complete);
+        // 이 연결로 보내는 이벤트는 emitter로 동기화 (이미 도착한 추천 → 새 추천 순서 유지)
+        Consumer<AiRecommendedBookDto> sendBook = book -> {
+            synchronized (emitter) {
+                try {
+                    emitter.send(SseEmitter.event().name("book").data(book));
+                } catch (IOException | IllegalStateException e) {
+                    // 끊긴 연결 (남은 결과는 result 이벤트나 폴링으로)
+                }
+            }
+        };
+
+        synchronized (emitter) {
+            // 상태/도착한 추천 스냅샷과 구독자 등록은 job 잠금 안에서, 전송은 잠금 밖에서
+            AiRecommendationJobDto status;
+            List<AiRecommendedBookDto> arrived = new ArrayList<>();
+            synchronized (job) {
+                status = job.toDto();
+                if (!job.isFinished()) {
+                    arrived.addAll(job.partial);
+                    job.listeners.add(sendBook);
+                }
+            }
+
+            try {
+                emitter.send(SseEmitter.event().name("status").data(status));
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+                return emitter;
+            }
+            arrived.forEach(sendBook);
+        }
+
+        job.completion.thenAccept(done -> {
+            try {
+                emitter.send(SseEmitter.event().name("result").data(done.toDto()));
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 이미 연결을 끊음 (결과는 폴링으로 조회 가능)
+                emitter.completeWithError(e);
+            }
+        });
+        return emitter;
+    }
+
+    /**
+     * 작업 결과를 비동기로 기다림 (기존 목록 API용, 요청 스레드는 바로 반납)
+     */
+    public CompletableFuture<List<AiRecommendedBookDto>> recommendations(User user, int count) {
+        return start(user, count).completion.thenApply(job -> job.books);
+    }
+
+    /**
+     * 작업 통계 (모니터링용)
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("submitted", submitted.get());
+        stats.put("deduplicated", deduplicated.get());
+        stats.put("cachedResults", cachedResults.get());
+        stats.put("rejected", rejected.get());
+        stats.put("completed", completed.get());
+        stats.put("active", activeJobs.size());
+        stats.put("retained", jobs.size());
+        return stats;
+    }
+
+    private Job start(User user, int count) {
+        // 캐시 hit → 끝난 작업으로 보관 후 바로 반환 (받은 id로 조회/SSE 구독 가능)
+        List<AiRecommendedBookDto> cached = aiRecommendationService.getCachedRecommendations(user, count);
+        if (cached != null) {
+            cachedResults.incrementAndGet();
+            Job job = new Job(user.getId());
+            complete(job, DONE, cached, null);
+            jobs.put(job.id, job);
+            return job;
+        }
+
+        Job[] created = new Job[1];
+        Job job = activeJobs.computeIfAbsent(user.getId(), id -> created[0] = new Job(id));
+        if (created[0] == null) {
+            deduplicated.incrementAndGet();
+            return job;
+        }
+
+        submitted.incrementAndGet();
+        try {
+            aiJobExecutor.execute(() -> run(job, user, count));
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            finish(job, FAILED, new ArrayList<>(), "추천 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return job;
+    }
+
+    private void run(Job job, User user, int count) {
+        job.status = RUNNING;
+        try {
+            // 에러는 getRecommendations 안에서 빈 목록으로 처리됨
+            finish(job, DONE, aiRecommendationService.getRecommendations(user, count, job::addBook), null);
+        } catch (Exception e) {
+            System.out.println("❌ AI 추천 작업 에러: " + e.getMessage());
+            finish(job, FAILED, new ArrayList<>(), "AI 추천을 가져오는 중 오류가 발생했습니다.");
+        }
+    }
+
+    // 진행 중이던 작업 종료 → 보관 목록으로 옮긴 뒤 진행 중 목록에서 제거 (조회가 끊기지 않도록 이 순서)
+    private void finish(Job job, String status, List<AiRecommendedBookDto> books, String message) {
+        jobs.put(job.id, job);
+        activeJobs.remove(job.userId, job);
+        complete(job, status, books, message);
+    }
+
+    private void complete(Job job, String status, List<AiRecommendedBookDto> books, String message) {
+        synchronized (job) {
+            job.books = books;
+            job.message = message;
+            job.status = status;
+            job.listeners.clear();
+        }
+        completed.incrementAndGet();
+        job.completion.complete(job);
+    }
+
+    // 진행 중인 작업 → 보관 중인 끝난 작업 순서로 찾음
+    private Job find(String jobId, User user) {
+        Job active = activeJobs.get(user.getId());
+        if (active != null && active.id.equals(jobId)) {
+            return active;
+        }
+
+        Job job = jobs.get(jobId);
+        if (job == null || !job.userId.equals(user.getId())) {
+            return null;
+        }
+        return job;
+    }
+}
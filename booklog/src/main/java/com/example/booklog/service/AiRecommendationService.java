@@ -1,22 +1,45 @@
 package com.example.booklog.service;
 
+import com.example.booklog.cache.SingleFlight;
+import com.example.booklog.cache.TtlCache;
 import com.example.booklog.entity.AiRecommendedBookDto;
 import com.example.booklog.entity.Book;
 import com.example.booklog.repository.BookRepository;
 import com.example.booklog.entity.User;
+import com.example.booklog.parser.RecommendationStreamParser;
+import com.example.booklog.resilience.ProviderCircuitBreakers;
+import com.example.booklog.resilience.ProviderRateLimiters;
+import com.example.booklog.resilience.ProviderUnavailableException;
+import jakarta.annotation.PostConstruct;
 import org.json.JSONArray;
 import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
  * AI 기반 책 추천 서비스
  * 하이브리드 방식: 사용자 독서 데이터가 있으면 개인화 추천, 없으면 트렌드 추천
+ * 트렌드 추천은 모든 사용자에게 같으므로 주기마다 한 번만 생성해 공유 (디스크에 저장해 재시작 후에도 유지)
  */
 @Service
 public class AiRecommendationService {
@@ -24,25 +47,371 @@ public class AiRecommendationService {
     @Value("${openai.api.key:}")
     private String openaiApiKey;
 
-    private static final String OPENAI_API_URL = "https://api.openai.com/v1/chat/completions";
+    // 부하 테스트 시 로컬 대역 서버로 교체
+    @Value("${openai.api.url:https://api.openai.com/v1/chat/completions}")
+    private String openaiApiUrl;
+
+    // 스트리밍 응답 사용 (추천이 하나 완성될 때마다 바로 전달)
+    @Value("${openai.stream:true}")
+    private boolean streamEnabled;
+
     private static final int MIN_BOOKS_FOR_PERSONALIZED = 3; // 개인화 추천에 필요한 최소 책 개수
 
+    // 사용자별 추천 캐시 (서재 지문이 같으면 OpenAI를 다시 호출하지 않음)
+    @Value("${ai.recommend.cache.max-size:1000}")
+    private int cacheMaxSize;
+
+    @Value("${ai.recommend.cache.ttl-hours:24}")
+    private long cacheTtlHours;
+
+    private TtlCache<Long, CachedRecommendations> cache;
+
+    // 같은 사용자의 동시 요청은 한 번만 생성 (키: 사용자 id + 서재 지문)
+    private final SingleFlight<String, List<AiRecommendedBookDto>> inFlight = new SingleFlight<>();
+
+    private final AtomicLong fingerprintMisses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    // 트렌드 추천 공유 캐시 (독서 기록이 적은 사용자 전체가 같은 목록을 사용)
+    @Value("${ai.trend.refresh-hours:24}")
+    private long trendRefreshHours;
+
+    // 한 번에 생성해 둘 트렌드 추천 수 (요청 개수가 더 많으면 그만큼 생성)
+    @Value("${ai.trend.size:5}")
+    private int trendSize;
+
+    @Value("${ai.trend.cache-file:${java.io.tmpdir}/booklog-trend-recommendations.json}")
+    private String trendCacheFile;
+
+    private volatile TrendRecommendations trend;
+
+    // 트렌드 목록이 아직 없을 때 동시에 들어온 요청은 한 번만 생성
+    private final SingleFlight<String, List<AiRecommendedBookDto>> trendInFlight = new SingleFlight<>();
+
+    private final AtomicLong trendHits = new AtomicLong();
+    private final AtomicLong trendGenerations = new AtomicLong();
+
+    // 캐시 항목 (생성 당시의 서재 지문과 추천 개수)
+    private static final class CachedRecommendations {
+        private final String fingerprint;
+        private final int count;
+        private final List<AiRecommendedBookDto> books;
+
+        private CachedRecommendations(String fingerprint, int count, List<AiRecommendedBookDto> books) {
+            this.fingerprint = fingerprint;
+            this.count = count;
+            this.books = books;
+        }
+    }
+
+    // 공유 트렌드 추천 (생성 시각 기준으로 만료)
+    private static final class TrendRecommendations {
+        private final List<AiRecommendedBookDto> books;
+        private final Instant generatedAt;
+
+        private TrendRecommendations(List<AiRecommendedBookDto> books, Instant generatedAt) {
+            this.books = books;
+            this.generatedAt = generatedAt;
+        }
+    }
+
+    // 서재 상태 (책 수 + 지문)
+    private static final class LibraryState {
+        private final long bookCount;
+        private final String fingerprint;
+
+        private LibraryState(long bookCount, String fingerprint) {
+            this.bookCount = bookCount;
+            this.fingerprint = fingerprint;
+        }
+    }
+
     private final BookRepository bookRepository;
     private final RestTemplate restTemplate;
+    private final ProviderCircuitBreakers circuitBreakers;
+    private final ProviderRateLimiters rateLimiters;
 
-    public AiRecommendationService(BookRepository bookRepository) {
+    // 트렌드 추천 갱신용 (OpenAI 응답을 수 초씩 기다리므로 스케줄러 스레드를 쓰지 않음)
+    private final Executor aiJobExecutor;
+
+    public AiRecommendationService(BookRepository bookRepository,
+                                   @Qualifier("openAiRestTemplate") RestTemplate restTemplate,
+                                   ProviderCircuitBreakers circuitBreakers,
+                                   ProviderRateLimiters rateLimiters,
+                                   @Qualifier("aiJobExecutor") Executor aiJobExecutor) {
         this.bookRepository = bookRepository;
-        this.restTemplate = new RestTemplate();
+        this.restTemplate = restTemplate;
+        this.circuitBreakers = circuitBreakers;
+        this.rateLimiters = rateLimiters;
+        this.aiJobExecutor = aiJobExecutor;
+    }
+
+    @PostConstruct
+    public void initCache() {
+        cache = new TtlCache<>(cacheMaxSize, Duration.ofHours(cacheTtlHours));
+        loadTrendFromDisk();
     }
 
     /**
-     * 하이브리드 책 추천
-     * 사용자의 독서 기록을 분석하여 개인화 또는 트렌드 추천 제공
+     * 하이브리드 책 추천 (사용자별 캐시)
+     * 서재 지문(책 수 + 마지막 수정 시각)이 캐시 당시와 같으면 저장된 추천을 그대로 반환
+     * 빈 결과(API 키 없음, 호출 실패)는 캐시하지 않음
+     * 독서 기록이 적은 사용자는 사용자별 캐시 대신 공유 트렌드 추천 사용
      */
     public List<AiRecommendedBookDto> getRecommendations(User user, int count) {
+        return getRecommendations(user, count, null);
+    }
+
+    /**
+     * 하이브리드 책 추천 (스트리밍)
+     * onBook이 있고 스트리밍 모드이면 추천이 하나 완성될 때마다 onBook 호출 (캐시 hit이면 호출 없이 전체 반환)
+     */
+    public List<AiRecommendedBookDto> getRecommendations(User user, int count, Consumer<AiRecommendedBookDto> onBook) {
+        LibraryState library = libraryState(user);
+        if (library.bookCount < MIN_BOOKS_FOR_PERSONALIZED) {
+            return getTrendRecommendations(count, onBook);
+        }
+
+        String fingerprint = library.fingerprint;
+        List<AiRecommendedBookDto> cached = getCached(user, count, fingerprint);
+        if (cached != null) {
+            return cached;
+        }
+
+        return inFlight.execute(user.getId() + ":" + count + ":" + fingerprint, () -> {
+            List<AiRecommendedBookDto> books = generateRecommendations(user, count, onBook);
+            if (!books.isEmpty()) {
+                cache.put(user.getId(), new CachedRecommendations(fingerprint, count, books));
+            }
+            return books;
+        });
+    }
+
+    /**
+     * 캐시된 추천만 조회 (없거나 서재가 바뀌었으면 null, OpenAI 호출 없음)
+     */
+    public List<AiRecommendedBookDto> getCachedRecommendations(User user, int count) {
+        LibraryState library = libraryState(user);
+        if (library.bookCount < MIN_BOOKS_FOR_PERSONALIZED) {
+            return getCachedTrend(count);
+        }
+        return getCached(user, count, library.fingerprint);
+    }
+
+    /**
+     * 트렌드 추천 백그라운드 갱신 (없거나 만료됐을 때만 OpenAI 호출)
+     * 생성은 aiJobExecutor에서, 같은 시각 사용자 요청이 시작한 생성이 있으면 그 결과를 함께 사용
+     * 실패하거나 빈 응답이면 기존 목록을 그대로 유지 (stale-while-revalidate)
+     */
+    @Scheduled(initialDelayString = "${ai.trend.initial-delay-ms:0}",
+               fixedDelayString = "${ai.trend.check-interval-ms:600000}")
+    public void refreshTrendRecommendations() {
+        TrendRecommendations current = trend;
+        if ((current != null && !isExpired(current)) || !hasApiKey()) {
+            return;
+        }
+
+        try {
+            aiJobExecutor.execute(() -> refreshTrend(current));
+        } catch (RejectedExecutionException e) {
+            System.out.println("=== 트렌드 추천 갱신 건너뜀 (AI 작업 대기열 가득 참), 다음 확인 때 다시 시도 ===");
+        }
+    }
+
+    private void refreshTrend(TrendRecommendations current) {
+        List<AiRecommendedBookDto> books = trendInFlight.execute("trend:" + trendSize,
+                () -> generateTrend(trendSize, null));
+        if (books.isEmpty()) {
+            System.out.println("=== 트렌드 추천 갱신 실패, 기존 목록 유지 ("
+                    + (current != null ? current.books.size() : 0) + "권) ===");
+        }
+    }
+
+    /**
+     * 사용자 추천 캐시 무효화 (책 저장/삭제 시 BookService에서 호출)
+     */
+    public void invalidate(User user) {
+        if (user == null || user.getId() == null) {
+            return;
+        }
+        cache.invalidate(user.getId());
+        invalidations.incrementAndGet();
+    }
+
+    /**
+     * 추천 캐시 통계 (모니터링용)
+     */
+    public Map<String, Object> getCacheStats() {
+        Map<String, Object> stats = cache.stats();
+        stats.put("fingerprintMisses", fingerprintMisses.get());
+        stats.put("invalidations", invalidations.get());
+        stats.put("inFlight", inFlight.stats());
+
+        TrendRecommendations current = trend;
+        Map<String, Object> trendStats = new LinkedHashMap<>();
+        trendStats.put("size", current != null ? current.books.size() : 0);
+        trendStats.put("generatedAt", current != null ? current.generatedAt.toString() : null);
+        trendStats.put("expired", current == null || isExpired(current));
+        trendStats.put("hits", trendHits.get());
+        trendStats.put("generations", trendGenerations.get());
+        stats.put("trend", trendStats);
+        return stats;
+    }
+
+    private List<AiRecommendedBookDto> getCached(User user, int count, String fingerprint) {
+        CachedRecommendations cached = cache.get(user.getId());
+        if (cached == null) {
+            return null;
+        }
+        if (cached.fingerprint.equals(fingerprint) && cached.count == count) {
+            return cached.books;
+        }
+        fingerprintMisses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * 서재 상태 (책 수 + 마지막 수정 시각으로 만든 지문, 집계 쿼리 한 번)
+     */
+    private LibraryState libraryState(User user) {
+        List<Object[]> rows = bookRepository.findLibraryFingerprint(user);
+        if (rows.isEmpty() || rows.get(0)[0] == null) {
+            return new LibraryState(0, "0");
+        }
+        Object[] row = rows.get(0);
+        return new LibraryState(((Number) row[0]).longValue(), row[0] + "@" + row[1]);
+    }
+
+    /**
+     * 공유 트렌드 추천
+     * 목록이 있으면 만료됐더라도 바로 반환 (갱신은 스케줄러가 백그라운드에서), 없으면 한 번만 생성
+     */
+    private List<AiRecommendedBookDto> getTrendRecommendations(int count, Consumer<AiRecommendedBookDto> onBook) {
+        List<AiRecommendedBookDto> cached = getCachedTrend(count);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<AiRecommendedBookDto> books = trendInFlight.execute("trend:" + Math.max(count, trendSize),
+                () -> generateTrend(Math.max(count, trendSize), onBook));
+        return books.size() > count ? new ArrayList<>(books.subList(0, count)) : books;
+    }
+
+    private List<AiRecommendedBookDto> getCachedTrend(int count) {
+        TrendRecommendations current = trend;
+        if (current == null || current.books.size() < count) {
+            return null;
+        }
+        trendHits.incrementAndGet();
+        return new ArrayList<>(current.books.subList(0, count));
+    }
+
+    private boolean isExpired(TrendRecommendations current) {
+        return current.generatedAt.plus(Duration.ofHours(trendRefreshHours)).isBefore(Instant.now());
+    }
+
+    /**
+     * 트렌드 추천 생성 후 공유 목록 교체 + 디스크 저장 (빈 결과면 기존 목록 유지)
+     */
+    private List<AiRecommendedBookDto> generateTrend(int count, Consumer<AiRecommendedBookDto> onBook) {
+        try {
+            if (!hasApiKey()) {
+                System.out.println("⚠️ OpenAI API 키가 설정되지 않았습니다. application.properties에 openai.api.key를 추가하세요.");
+                return new ArrayList<>();
+            }
+
+            System.out.println("🌟 트렌드 추천 생성 중... (공유 캐시)");
+            List<AiRecommendedBookDto> books = complete(buildTrendPrompt(count), count, onBook);
+            if (!books.isEmpty()) {
+                TrendRecommendations generated = new TrendRecommendations(List.copyOf(books), Instant.now());
+                trend = generated;
+                trendGenerations.incrementAndGet();
+                saveTrendToDisk(generated);
+            }
+            return books;
+
+        } catch (Exception e) {
+            System.out.println("❌ 트렌드 추천 에러: " + e.getMessage());
+            e.printStackTrace();
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * 디스크에 저장된 트렌드 추천 복원 (만료됐어도 올려 두고 스케줄러가 갱신)
+     */
+    private void loadTrendFromDisk() {
+        Path file = Path.of(trendCacheFile);
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            JSONObject json = new JSONObject(Files.readString(file, StandardCharsets.UTF_8));
+            JSONArray items = json.getJSONArray("recommendations");
+            List<AiRecommendedBookDto> books = new ArrayList<>();
+            for (int i = 0; i < items.length(); i++) {
+                books.add(RecommendationStreamParser.toRecommendedBook(items.getJSONObject(i)));
+            }
+            if (books.isEmpty()) {
+                return;
+            }
+            trend = new TrendRecommendations(List.copyOf(books), Instant.parse(json.getString("generatedAt")));
+            System.out.println("=== 트렌드 추천 캐시 복원: " + books.size() + "권 (" + trend.generatedAt + ") ===");
+        } catch (Exception e) {
+            System.out.println("=== 트렌드 추천 캐시 파일 읽기 실패, 새로 생성: " + e.getMessage() + " ===");
+        }
+    }
+
+    /**
+     * 트렌드 추천 디스크 저장 (임시 파일에 쓴 뒤 교체, 실패해도 메모리 목록은 그대로 사용)
+     */
+    private void saveTrendToDisk(TrendRecommendations current) {
+        JSONArray items = new JSONArray();
+        for (AiRecommendedBookDto book : current.books) {
+            items.put(new JSONObject()
+                    .put("title", book.getTitle())
+                    .put("author", book.getAuthor())
+                    .put("publisher", book.getPublisher())
+                    .put("category", book.getCategory())
+                    .put("description", book.getDescription())
+                    .put("reason", book.getReason()));
+        }
+        JSONObject json = new JSONObject()
+                .put("generatedAt", current.generatedAt.toString())
+                .put("recommendations", items);
+
+        Path file = Path.of(trendCacheFile).toAbsolutePath();
+        Path temp = null;
+        try {
+            Files.createDirectories(file.getParent());
+            temp = Files.createTempFile(file.getParent(), "trend-", ".tmp");
+            Files.writeString(temp, json.toString(), StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.out.println("=== 트렌드 추천 캐시 파일 저장 실패: " + e.getMessage() + " ===");
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // 다음 저장 때 다시 시도
+                }
+            }
+        }
+    }
+
+    private boolean hasApiKey() {
+        return openaiApiKey != null && !openaiApiKey.trim().isEmpty();
+    }
+
+    /**
+     * 사용자의 독서 기록을 분석하여 개인화 추천 생성 (OpenAI 호출, 기록이 부족하면 공유 트렌드 추천)
+     */
+    private List<AiRecommendedBookDto> generateRecommendations(User user, int count,
+                                                               Consumer<AiRecommendedBookDto> onBook) {
         try {
             // API 키 확인
-            if (openaiApiKey == null || openaiApiKey.trim().isEmpty()) {
+            if (!hasApiKey()) {
                 System.out.println("⚠️ OpenAI API 키가 설정되지 않았습니다. application.properties에 openai.api.key를 추가하세요.");
                 return new ArrayList<>();
             }
@@ -50,22 +419,14 @@ public class AiRecommendationService {
             // 사용자의 독서 데이터 가져오기
             List<Book> userBooks = bookRepository.findByUserOrderByCreatedAtDesc(user);
 
-            String prompt;
-            if (userBooks.size() >= MIN_BOOKS_FOR_PERSONALIZED) {
-                // 개인화 추천
-                System.out.println("📚 개인화 추천 생성 중... (독서 기록: " + userBooks.size() + "권)");
-                prompt = buildPersonalizedPrompt(userBooks, count);
-            } else {
-                // 트렌드 추천
-                System.out.println("🌟 트렌드 추천 생성 중... (독서 기록 부족)");
-                prompt = buildTrendPrompt(count);
+            if (userBooks.size() < MIN_BOOKS_FOR_PERSONALIZED) {
+                // 서재 상태 조회 후 책이 삭제된 경우 → 공유 트렌드 추천
+                return getTrendRecommendations(count, onBook);
             }
 
-            // OpenAI API 호출
-            List<AiRecommendedBookDto> recommendations = callOpenAiApi(prompt, count);
-
-            System.out.println("✅ AI 추천 완료: " + recommendations.size() + "권");
-            return recommendations;
+            // 개인화 추천
+            System.out.println("📚 개인화 추천 생성 중... (독서 기록: " + userBooks.size() + "권)");
+            return complete(buildPersonalizedPrompt(userBooks, count), count, onBook);
 
         } catch (Exception e) {
             System.out.println("❌ AI 추천 에러: " + e.getMessage());
@@ -74,6 +435,18 @@ public class AiRecommendationService {
         }
     }
 
+    /**
+     * OpenAI 호출 (스트리밍 모드이고 onBook이 있으면 추천이 완성될 때마다 전달)
+     */
+    private List<AiRecommendedBookDto> complete(String prompt, int count, Consumer<AiRecommendedBookDto> onBook) {
+        List<AiRecommendedBookDto> recommendations = streamEnabled && onBook != null
+                ? callOpenAiApiStreaming(prompt, onBook)
+                : callOpenAiApi(prompt, count);
+
+        System.out.println("✅ AI 추천 완료: " + recommendations.size() + "권");
+        return recommendations;
+    }
+
     /**
      * 개인화 추천을 위한 프롬프트 생성
      */
@@ -193,32 +566,25 @@ public class AiRecommendationService {
             headers.setContentType(MediaType.APPLICATION_JSON);
             headers.setBearerAuth(openaiApiKey);
 
-            // 요청 본문 설정
-            JSONObject requestBody = new JSONObject();
-            requestBody.put("model", "gpt-3.5-turbo");
-            requestBody.put("temperature", 0.7);
-
-            JSONArray messages = new JSONArray();
-            JSONObject message = new JSONObject();
-            message.put("role", "user");
-            message.put("content", prompt);
-            messages.put(message);
-            requestBody.put("messages", messages);
-
-            HttpEntity<String> entity = new HttpEntity<>(requestBody.toString(), headers);
+            HttpEntity<String> entity = new HttpEntity<>(buildRequestBody(prompt).toString(), headers);
 
             // API 호출
             System.out.println("🤖 OpenAI API 호출 중...");
-            ResponseEntity<String> response = restTemplate.exchange(
-                    OPENAI_API_URL,
-                    HttpMethod.POST,
-                    entity,
-                    String.class
-            );
+            ResponseEntity<String> response = circuitBreakers.get(ProviderCircuitBreakers.OPENAI)
+                    .execute(rateLimiters.get(ProviderCircuitBreakers.OPENAI),
+                            () -> restTemplate.exchange(
+                                    openaiApiUrl,
+                                    HttpMethod.POST,
+                                    entity,
+                                    String.class
+                            ));
 
             // 응답 파싱
             return parseOpenAiResponse(response.getBody());
 
+        } catch (ProviderUnavailableException e) {
+            System.out.println("⛔ OpenAI API 호출 생략: " + e.getMessage());
+            return new ArrayList<>();
         } catch (Exception e) {
             System.out.println("❌ OpenAI API 호출 실패: " + e.getMessage());
             e.printStackTrace();
@@ -226,6 +592,98 @@ public class AiRecommendationService {
         }
     }
 
+    /**
+     * OpenAI API 스트리밍 호출 (stream: true)
+     * 응답은 "data: {청크}" 줄의 SSE, 청크의 choices[0].delta.content 조각을 증분 파서에 넣어
+     * recommendations 배열 요소가 닫힐 때마다 onBook 호출
+     * 중간에 실패하면 빈 목록 (이미 전달된 추천은 그대로 두고, 캐시하지 않음)
+     */
+    private List<AiRecommendedBookDto> callOpenAiApiStreaming(String prompt, Consumer<AiRecommendedBookDto> onBook) {
+        long start = System.currentTimeMillis();
+        List<AiRecommendedBookDto> books = new ArrayList<>();
+        RecommendationStreamParser parser = new RecommendationStreamParser(book -> {
+            books.add(book);
+            if (books.size() == 1) {
+                System.out.println("⏱ 첫 추천까지 " + (System.currentTimeMillis() - start) + "ms");
+            }
+            System.out.println("✓ 추천: " + book.getTitle() + " - " + book.getAuthor());
+            onBook.accept(book);
+        });
+
+        try {
+            JSONObject requestBody = buildRequestBody(prompt);
+            requestBody.put("stream", true);
+            byte[] body = requestBody.toString().getBytes(StandardCharsets.UTF_8);
+
+            System.out.println("🤖 OpenAI API 스트리밍 호출 중...");
+            circuitBreakers.get(ProviderCircuitBreakers.OPENAI)
+                    .execute(rateLimiters.get(ProviderCircuitBreakers.OPENAI),
+                            () -> restTemplate.execute(
+                                    openaiApiUrl,
+                                    HttpMethod.POST,
+                                    request -> {
+                                        request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                                        request.getHeaders().setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+                                        request.getHeaders().setBearerAuth(openaiApiKey);
+                                        request.getBody().write(body);
+                                    },
+                                    response -> {
+                                        BufferedReader reader = new BufferedReader(
+                                                new InputStreamReader(response.getBody(), StandardCharsets.UTF_8));
+                                        String line;
+                                        while ((line = reader.readLine()) != null) {
+                                            if (!line.startsWith("data:")) {
+                                                continue;
+                                            }
+                                            String data = line.substring(5).trim();
+                                            if ("[DONE]".equals(data)) {
+                                                break;
+                                            }
+                                            parser.feed(deltaContent(data));
+                                        }
+                                        return null;
+                                    }));
+            return books;
+
+        } catch (ProviderUnavailableException e) {
+            System.out.println("⛔ OpenAI API 호출 생략: " + e.getMessage());
+            return new ArrayList<>();
+        } catch (Exception e) {
+            System.out.println("❌ OpenAI API 스트리밍 실패 (" + books.size() + "권 전달 후): " + e.getMessage());
+            e.printStackTrace();
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * 스트리밍 청크 하나의 텍스트 조각 (없으면 빈 문자열)
+     */
+    private String deltaContent(String chunkJson) {
+        JSONArray choices = new JSONObject(chunkJson).optJSONArray("choices");
+        if (choices == null || choices.isEmpty()) {
+            return "";
+        }
+        JSONObject delta = choices.getJSONObject(0).optJSONObject("delta");
+        return delta != null ? delta.optString("content", "") : "";
+    }
+
+    /**
+     * 요청 본문 (일반/스트리밍 공통)
+     */
+    private JSONObject buildRequestBody(String prompt) {
+        JSONObject requestBody = new JSONObject();
+        requestBody.put("model", "gpt-3.5-turbo");
+        requestBody.put("temperature", 0.7);
+
+        JSONArray messages = new JSONArray();
+        JSONObject message = new JSONObject();
+        message.put("role", "user");
+        message.put("content", prompt);
+        messages.put(message);
+        requestBody.put("messages", messages);
+        return requestBody;
+    }
+
     /**
      * OpenAI API 응답 파싱
      */
@@ -258,15 +716,7 @@ public class AiRecommendationService {
                 JSONArray recommendations = jsonContent.getJSONArray("recommendations");
 
                 for (int i = 0; i < recommendations.length(); i++) {
-                    JSONObject bookJson = recommendations.getJSONObject(i);
-
-                    AiRecommendedBookDto book = new AiRecommendedBookDto();
-                    book.setTitle(bookJson.optString("title", ""));
-                    book.setAuthor(bookJson.optString("author", ""));
-                    book.setPublisher(bookJson.optString("publisher", ""));
-                    book.setCategory(bookJson.optString("category", ""));
-                    book.setDescription(bookJson.optString("description", ""));
-                    book.setReason(bookJson.optString("reason", ""));
+                    AiRecommendedBookDto book = RecommendationStreamParser.toRecommendedBook(recommendations.getJSONObject(i));
 
                     books.add(book);
                     System.out.println("✓ 추천: " + book.getTitle() + " - " + book.getAuthor());
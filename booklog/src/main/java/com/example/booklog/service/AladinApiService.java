@@ -1,17 +1,27 @@
 package com.example.booklog.service;
 
+import com.example.booklog.cache.TtlCache;
 import com.example.booklog.entity.AladinBookDto;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import com.example.booklog.parser.AladinBookJsonParser;
+import com.example.booklog.resilience.ProviderCircuitBreakers;
+import com.example.booklog.resilience.ProviderRateLimiters;
+import com.example.booklog.resilience.ProviderUnavailableException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class AladinApiService {
@@ -19,9 +29,38 @@ public class AladinApiService {
     @Value("${aladin.api.key}")
     private String apiKey;
 
-    private static final String API_URL = "http://www.aladin.co.kr/ttb/api/ItemList.aspx";
+    // 목록 캐시 유지 시간 (날짜가 바뀌면 TTL과 관계없이 만료)
+    @Value("${aladin.cache.ttl-minutes:60}")
+    private long cacheTtlMinutes;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Value("${aladin.cache.max-size:16}")
+    private int cacheMaxSize;
+
+    // TTB API 기본 주소 (부하 테스트 시 로컬 대역 서버로 교체)
+    @Value("${aladin.api.base-url:http://www.aladin.co.kr/ttb/api}")
+    private String apiBaseUrl;
+
+    @Autowired
+    @Qualifier("aladinRestTemplate")
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private ProviderCircuitBreakers circuitBreakers;
+
+    @Autowired
+    private ProviderRateLimiters rateLimiters;
+
+    // 받은 책은 로컬 카탈로그에 저장
+    @Autowired
+    private CatalogService catalogService;
+
+    // queryType별 전체 목록 캐시 (Bestseller, ItemNewAll)
+    private TtlCache<String, List<AladinBookDto>> listCache;
+
+    @PostConstruct
+    public void initCache() {
+        listCache = new TtlCache<>(cacheMaxSize, Duration.ofMinutes(cacheTtlMinutes), true);
+    }
 
     /**
      * 베스트셀러 가져오기 (날짜별 랜덤)
@@ -38,115 +77,157 @@ public class AladinApiService {
     }
 
     /**
-     * 알라딘 API 호출 (공통)
+     * 키워드 검색 (제목 + 저자)
      */
-    private List<AladinBookDto> getBookList(String queryType, int count) {
+    public List<AladinBookDto> search(String query, int maxResults) {
         try {
-            // API에서 더 많은 책을 가져와서 랜덤으로 선택
-            int fetchCount = Math.max(count * 10, 50); // 최소 50개 또는 요청 수의 10배
-
-            String url = UriComponentsBuilder.fromUriString(API_URL)
-                    .queryParam("ttbkey", apiKey)
-                    .queryParam("QueryType", queryType)
-                    .queryParam("MaxResults", String.valueOf(fetchCount))
-                    .queryParam("start", "1")
-                    .queryParam("SearchTarget", "Book")
-                    .queryParam("output", "js")  // JSON 형식
-                    .queryParam("Version", "20131101")
-                    .build()
-                    .encode()
-                    .toUriString();
-
-            System.out.println("=== 알라딘 API 요청 (" + queryType + ") ===");
-            System.out.println("URL: " + url);
-
-            String response = restTemplate.getForObject(url, String.class);
+            String url = itemSearchUrl(query, maxResults);
 
-            if (response == null || response.trim().isEmpty()) {
-                System.out.println("알라딘 API 응답 없음");
-                return new ArrayList<>();
-            }
+            System.out.println("=== 알라딘 검색 API 요청 ===");
 
-            List<AladinBookDto> allBooks = parseResponse(response);
-
-            // 날짜 기반 시드로 랜덤 섞기 (매일 바뀜, 하루 동안은 고정)
-            if (allBooks.size() > count) {
-                long seed = LocalDate.now().toEpochDay(); // 오늘 날짜를 시드로 사용
-                Collections.shuffle(allBooks, new java.util.Random(seed));
-                return allBooks.subList(0, count);
-            }
-
-            return allBooks;
+            List<AladinBookDto> books = fetchItems(url);
+            catalogService.recordAladinBooks(books);
+            return books;
 
+        } catch (ProviderUnavailableException e) {
+            System.out.println("=== 알라딘 검색 생략: " + e.getMessage() + " ===");
+            return new ArrayList<>();
         } catch (Exception e) {
-            System.out.println("=== 알라딘 API 에러 ===");
+            System.out.println("=== 알라딘 검색 에러 ===");
             e.printStackTrace();
             return new ArrayList<>();
         }
     }
 
     /**
-     * JSON 응답 파싱
+     * 목록 캐시 통계 (hit / miss)
      */
-    private List<AladinBookDto> parseResponse(String jsonResponse) {
-        List<AladinBookDto> books = new ArrayList<>();
-
-        try {
-            JSONObject json = new JSONObject(jsonResponse);
-
-            if (!json.has("item")) {
-                System.out.println("item 배열 없음");
-                return books;
-            }
-
-            JSONArray items = json.getJSONArray("item");
-            System.out.println("검색 결과: " + items.length() + "건");
-
-            for (int i = 0; i < items.length(); i++) {
-                JSONObject item = items.getJSONObject(i);
+    public Map<String, Object> getCacheStats() {
+        return listCache.stats();
+    }
 
-                AladinBookDto book = new AladinBookDto();
+    /**
+     * 알라딘 목록 조회 (공통)
+     * 캐시된 전체 목록에서 날짜 기반으로 count개 선택
+     */
+    private List<AladinBookDto> getBookList(String queryType, int count) {
+        // API에서 더 많은 책을 가져와서 랜덤으로 선택
+        int fetchCount = fetchCountFor(count);
 
-                // 제목
-                book.setTitle(item.optString("title", ""));
+        List<AladinBookDto> cachedBooks = listCache.get(queryType, () -> fetchBookList(queryType, fetchCount));
+        if (cachedBooks == null) {
+            // API 실패/서킷 열림 → 만료된 목록이라도 있으면 사용
+            cachedBooks = listCache.getStale(queryType);
+        }
+        if (cachedBooks == null) {
+            return new ArrayList<>();
+        }
 
-                // 저자
-                book.setAuthor(item.optString("author", ""));
+        return pickForToday(cachedBooks, count);
+    }
 
-                // 출판사
-                book.setPublisher(item.optString("publisher", ""));
+    /**
+     * 전체 목록에서 날짜 기반으로 count개 선택
+     */
+    static List<AladinBookDto> pickForToday(List<AladinBookDto> cachedBooks, int count) {
+        // 캐시된 목록은 공유되므로 복사본을 섞음
+        List<AladinBookDto> allBooks = new ArrayList<>(cachedBooks);
+
+        // 날짜 기반 시드로 랜덤 섞기 (매일 바뀜, 하루 동안은 고정)
+        if (allBooks.size() > count) {
+            long seed = LocalDate.now().toEpochDay(); // 오늘 날짜를 시드로 사용
+            Collections.shuffle(allBooks, new java.util.Random(seed));
+            return new ArrayList<>(allBooks.subList(0, count));
+        }
 
-                // ISBN13
-                book.setIsbn(item.optString("isbn13", ""));
+        return allBooks;
+    }
 
-                // 표지 이미지
-                book.setCoverUrl(item.optString("cover", ""));
+    /**
+     * 목록 API URL
+     */
+    String itemListUrl(String queryType, int fetchCount) {
+        return UriComponentsBuilder.fromUriString(apiBaseUrl + "/ItemList.aspx")
+                .queryParam("ttbkey", apiKey)
+                .queryParam("QueryType", queryType)
+                .queryParam("MaxResults", String.valueOf(fetchCount))
+                .queryParam("start", "1")
+                .queryParam("SearchTarget", "Book")
+                .queryParam("output", "js")  // JSON 형식
+                .queryParam("Version", "20131101")
+                .build()
+                .encode()
+                .toUriString();
+    }
 
-                // 출판일
-                book.setPubDate(item.optString("pubDate", ""));
+    /**
+     * 검색 API URL
+     */
+    String itemSearchUrl(String query, int maxResults) {
+        return UriComponentsBuilder.fromUriString(apiBaseUrl + "/ItemSearch.aspx")
+                .queryParam("ttbkey", apiKey)
+                .queryParam("Query", query)
+                .queryParam("QueryType", "Keyword")
+                .queryParam("MaxResults", String.valueOf(maxResults))
+                .queryParam("start", "1")
+                .queryParam("SearchTarget", "Book")
+                .queryParam("output", "js")  // JSON 형식
+                .queryParam("Version", "20131101")
+                .build()
+                .encode()
+                .toUriString();
+    }
 
-                // 설명
-                book.setDescription(item.optString("description", ""));
+    // 비동기 조회(ReactiveAladinApiService)와 목록 캐시 공유
+    TtlCache<String, List<AladinBookDto>> getListCache() {
+        return listCache;
+    }
 
-                // 카테고리
-                book.setCategoryName(item.optString("categoryName", ""));
+    // 목록 하나를 받아올 때 가져오는 책 수 (최소 50개 또는 요청 수의 10배)
+    static int fetchCountFor(int count) {
+        return Math.max(count * 10, 50);
+    }
 
-                // 가격
-                book.setPriceStandard(item.optInt("priceStandard", 0));
-                book.setPriceSales(item.optInt("priceSales", 0));
+    /**
+     * 알라딘 API 호출 (캐시 미스일 때만)
+     * 실패하거나 결과가 없으면 null (캐시하지 않음)
+     */
+    private List<AladinBookDto> fetchBookList(String queryType, int fetchCount) {
+        try {
+            String url = itemListUrl(queryType, fetchCount);
 
-                // 링크
-                book.setLink(item.optString("link", ""));
+            System.out.println("=== 알라딘 API 요청 (" + queryType + ") ===");
+            System.out.println("URL: " + url);
 
-                System.out.println("책 파싱: " + book.getTitle());
-                books.add(book);
-            }
+            List<AladinBookDto> allBooks = fetchItems(url);
+            System.out.println("검색 결과: " + allBooks.size() + "건");
+            catalogService.recordAladinBooks(allBooks);
+            return allBooks.isEmpty() ? null : List.copyOf(allBooks);
 
+        } catch (ProviderUnavailableException e) {
+            System.out.println("=== 알라딘 API 호출 생략: " + e.getMessage() + " ===");
+            return null;
         } catch (Exception e) {
-            System.out.println("=== JSON 파싱 에러 ===");
+            System.out.println("=== 알라딘 API 에러 ===");
             e.printStackTrace();
+            return null;
         }
+    }
 
-        return books;
+    /**
+     * API 호출 + JSON 스트리밍 파싱 (서킷 브레이커 경유)
+     * 응답이 비었거나 형식이 잘못되면 빈 목록
+     */
+    private List<AladinBookDto> fetchItems(String url) {
+        return circuitBreakers.get(ProviderCircuitBreakers.ALADIN)
+                .execute(rateLimiters.get(ProviderCircuitBreakers.ALADIN),
+                        () -> restTemplate.execute(url, HttpMethod.GET, null, response -> {
+                            try {
+                                return AladinBookJsonParser.parse(response.getBody());
+                            } catch (JsonProcessingException e) {
+                                System.out.println("=== JSON 파싱 에러: " + e.getOriginalMessage() + " ===");
+                                return new ArrayList<>();
+                            }
+                        }));
     }
 }
@@ -16,6 +16,14 @@ public class BookService {
     
     @Autowired
     private BookRepository bookRepository;
+
+    // 제목/저자 자동완성 색인 (저장/삭제 시 갱신)
+    @Autowired
+    private BookSuggestService suggestService;
+
+    // 서재가 바뀌면 해당 사용자의 AI 추천 캐시 무효화
+    @Autowired
+    private AiRecommendationService aiRecommendationService;
     
     // 모든 책 조회
     public List<Book> getAllBooks() {
@@ -60,12 +68,18 @@ public class BookService {
     
     // 책 저장 (등록/수정)
     public Book saveBook(Book book) {
-        return bookRepository.save(book);
+        Book saved = bookRepository.save(book);
+        suggestService.onBookSaved(saved);
+        aiRecommendationService.invalidate(saved.getUser());
+        return saved;
     }
     
     // 책 삭제
     public void deleteBook(Long id) {
+        User owner = bookRepository.findById(id).map(Book::getUser).orElse(null);
         bookRepository.deleteById(id);
+        suggestService.onBookDeleted(id, owner);
+        aiRecommendationService.invalidate(owner);
     }
     
     // 제목으로 검색
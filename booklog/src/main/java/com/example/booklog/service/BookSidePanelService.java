@@ -0,0 +1,118 @@
+package com.example.booklog.service;
+
+import com.example.booklog.entity.AladinBookDto;
+import com.example.booklog.entity.RecommendedBookDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 책 목록 화면 사이드 패널 (사서 추천 / 베스트셀러 / 신간)
+ * 세 API를 동시에 호출하고, 요청당 하나의 마감 시간 안에 끝나지 않은 패널은 빈 목록으로 표시
+ */
+@Service
+public class BookSidePanelService {
+
+    private static final int PANEL_SIZE = 5;
+
+    @Autowired
+    private NationalLibraryApiService nlApiService;
+
+    @Autowired
+    private AladinApiService aladinApiService;
+
+    @Autowired
+    @Qualifier("providerExecutor")
+    private Executor providerExecutor;
+
+    // 사이드 패널 전체에 주어지는 시간 (요청 시작 기준)
+    @Value("${books.side-panel.deadline-ms:1500}")
+    private long deadlineMs;
+
+    /**
+     * 세 패널 조회 시작 (즉시 반환)
+     * 호출한 쪽은 그동안 DB 조회 등 다른 작업을 진행할 수 있음
+     */
+    public SidePanels load() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+
+        return new SidePanels(deadline,
+                supply(() -> nlApiService.getLatestRecommendedBooks(PANEL_SIZE)),
+                supply(() -> aladinApiService.getBestsellers(PANEL_SIZE)),
+                supply(() -> aladinApiService.getNewBooks(PANEL_SIZE)));
+    }
+
+    private <T> CompletableFuture<List<T>> supply(Supplier<List<T>> supplier) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, providerExecutor);
+        } catch (RejectedExecutionException e) {
+            // 풀이 포화 상태면 기다리지 않고 빈 패널
+            System.out.println("=== 사이드 패널 작업 거부 (스레드 풀 포화) ===");
+            return CompletableFuture.completedFuture(new ArrayList<>());
+        }
+    }
+
+    /**
+     * 진행 중인 사이드 패널 조회 결과
+     * 각 getter는 남은 시간만큼만 기다리고, 시간이 지나면 빈 목록 반환
+     */
+    public static class SidePanels {
+
+        private final long deadline;
+        private final CompletableFuture<List<RecommendedBookDto>> recommendedBooks;
+        private final CompletableFuture<List<AladinBookDto>> bestsellers;
+        private final CompletableFuture<List<AladinBookDto>> newBooks;
+
+        private SidePanels(long deadline,
+                           CompletableFuture<List<RecommendedBookDto>> recommendedBooks,
+                           CompletableFuture<List<AladinBookDto>> bestsellers,
+                           CompletableFuture<List<AladinBookDto>> newBooks) {
+            this.deadline = deadline;
+            this.recommendedBooks = recommendedBooks;
+            this.bestsellers = bestsellers;
+            this.newBooks = newBooks;
+        }
+
+        public List<RecommendedBookDto> getRecommendedBooks() {
+            return await(recommendedBooks, "사서 추천");
+        }
+
+        public List<AladinBookDto> getBestsellers() {
+            return await(bestsellers, "베스트셀러");
+        }
+
+        public List<AladinBookDto> getNewBooks() {
+            return await(newBooks, "신간");
+        }
+
+        private <T> List<T> await(CompletableFuture<List<T>> future, String panelName) {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            try {
+                List<T> result = future.get(remaining, TimeUnit.NANOSECONDS);
+                return result != null ? result : new ArrayList<>();
+            } catch (TimeoutException e) {
+                // 호출 자체는 계속 진행되어 캐시를 채우고, 이번 응답에서는 빈 패널
+                System.out.println("=== 사이드 패널 시간 초과: " + panelName + " ===");
+                return new ArrayList<>();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new ArrayList<>();
+            } catch (ExecutionException e) {
+                System.out.println("=== 사이드 패널 에러: " + panelName + " ===");
+                e.printStackTrace();
+                return new ArrayList<>();
+            }
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.booklog.service;
+
+import com.example.booklog.entity.Book;
+import com.example.booklog.entity.CatalogBook;
+import com.example.booklog.entity.SuggestionDto;
+import com.example.booklog.entity.User;
+import com.example.booklog.repository.BookRepository;
+import com.example.booklog.repository.CatalogBookRepository;
+import com.example.booklog.suggest.PrefixIndex;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검색어 자동완성 (/books/api/suggest)
+ * - books 테이블과 로컬 카탈로그의 제목/저자를 메모리 접두어 색인(PrefixIndex)에 올려 DB 조회 없이 응답
+ * - 카탈로그는 모든 사용자가 공유, 서재(books)는 사용자별 색인으로 나눠 본인 책만 후보로 보임
+ * - 시작 시 한 번 전체 적재, 이후에는 책 저장/삭제와 카탈로그 저장 시 해당 출처만 갱신
+ */
+@Service
+public class BookSuggestService {
+
+    // 한 번에 돌려줄 최대 후보 수 (노드마다 이 개수만큼 미리 계산)
+    @Value("${suggest.max-results:10}")
+    private int maxResults;
+
+    // 외부 API로 받은 로컬 카탈로그(catalog_books)도 색인에 포함
+    @Value("${suggest.include-catalog:true}")
+    private boolean includeCatalog;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private CatalogBookRepository catalogBookRepository;
+
+    @Autowired
+    @Qualifier("providerExecutor")
+    private Executor providerExecutor;
+
+    // 공용 색인 (로컬 카탈로그)
+    private PrefixIndex catalogIndex;
+
+    // 사용자명 → 그 사용자 서재 색인
+    private final Map<String, PrefixIndex> libraryIndexes = new ConcurrentHashMap<>();
+
+    // 초기 적재 중 삭제된 출처 (적재 스냅샷으로 되살리지 않도록)
+    private final Set<String> removedWhileLoading = new HashSet<>();
+    private boolean loading;
+    private volatile boolean loaded;
+    private volatile long loadMillis;
+
+    private final AtomicLong queries = new AtomicLong();
+    private final AtomicLong queryNanos = new AtomicLong();
+
+    @PostConstruct
+    public void initIndex() {
+        catalogIndex = new PrefixIndex(maxResults);
+    }
+
+    /**
+     * 애플리케이션 시작 후 백그라운드에서 전체 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            providerExecutor.execute(this::load);
+        } catch (RejectedExecutionException e) {
+            load();
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 제목/저자 후보
+     * 로그인한 사용자는 자기 서재 후보를 먼저, 이어서 카탈로그 후보 (username이 null이면 카탈로그만)
+     */
+    public List<SuggestionDto> suggest(String query, int limit, String username) {
+        long start = System.nanoTime();
+        int max = limit > 0 ? Math.min(limit, maxResults) : maxResults;
+
+        List<SuggestionDto> result = new ArrayList<>(max);
+        Set<String> seen = new HashSet<>();
+        PrefixIndex library = username != null ? libraryIndexes.get(username) : null;
+        if (library != null) {
+            addSuggestions(result, seen, library.suggest(query, max), max);
+        }
+        addSuggestions(result, seen, catalogIndex.suggest(query, max), max);
+
+        queryNanos.addAndGet(System.nanoTime() - start);
+        queries.incrementAndGet();
+        return result;
+    }
+
+    /**
+     * 책 등록/수정 반영 (제목이나 저자가 바뀌면 이전 값은 빠짐)
+     */
+    public void onBookSaved(Book book) {
+        if (book == null || book.getId() == null || book.getUser() == null) {
+            return;
+        }
+        libraryIndex(book.getUser().getUsername()).put(bookSource(book.getId()), book.getTitle(), book.getAuthor());
+    }
+
+    /**
+     * 책 삭제 반영
+     */
+    public void onBookDeleted(Long id, User owner) {
+        String source = bookSource(id);
+        synchronized (this) {
+            if (loading) {
+                removedWhileLoading.add(source);
+            }
+            if (owner != null) {
+                PrefixIndex library = libraryIndexes.get(owner.getUsername());
+                if (library != null) {
+                    library.remove(source);
+                }
+            }
+        }
+    }
+
+    /**
+     * 카탈로그 저장 반영
+     */
+    public void onCatalogSaved(List<CatalogBook> books) {
+        if (!includeCatalog) {
+            return;
+        }
+        for (CatalogBook book : books) {
+            catalogIndex.put(catalogSource(book.getIsbn13()), book.getTitle(), book.getAuthor());
+        }
+    }
+
+    /**
+     * 색인 통계 (모니터링용)
+     */
+    public Map<String, Object> stats() {
+        long count = queries.get();
+        int sources = catalogIndex.sourceCount();
+        int entries = catalogIndex.size();
+        int nodes = catalogIndex.nodeCount();
+        for (PrefixIndex library : libraryIndexes.values()) {
+            sources += library.sourceCount();
+            entries += library.size();
+            nodes += library.nodeCount();
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("loaded", loaded);
+        stats.put("loadMillis", loadMillis);
+        stats.put("libraries", libraryIndexes.size());
+        stats.put("sources", sources);
+        stats.put("entries", entries);
+        stats.put("nodes", nodes);
+        stats.put("queries", count);
+        stats.put("avgQueryMicros", count == 0 ? 0 : queryNanos.get() / count / 1000.0);
+        return stats;
+    }
+
+    private void load() {
+        long start = System.currentTimeMillis();
+        synchronized (this) {
+            loading = true;
+        }
+        try {
+            // 출처, 색인, 제목, 저자
+            List<Object[]> rows = new ArrayList<>();
+            for (Object[] row : bookRepository.findAllTitlesAndAuthors()) {
+                rows.add(new Object[]{bookSource((Long) row[0]), libraryIndex((String) row[1]), row[2], row[3]});
+            }
+            if (includeCatalog) {
+                for (Object[] row : catalogBookRepository.findAllTitlesAndAuthors()) {
+                    rows.add(new Object[]{catalogSource((String) row[0]), catalogIndex, row[1], row[2]});
+                }
+            }
+
+            // 적재 중 들어온 저장은 더 최신이므로 그대로 두고, 삭제된 출처는 건너뜀
+            for (Object[] row : rows) {
+                String source = (String) row[0];
+                synchronized (this) {
+                    if (!removedWhileLoading.contains(source)) {
+                        ((PrefixIndex) row[1]).putIfAbsent(source, (String) row[2], (String) row[3]);
+                    }
+                }
+            }
+
+            loaded = true;
+            loadMillis = System.currentTimeMillis() - start;
+            Map<String, Object> stats = stats();
+            System.out.println("=== 자동완성 색인 적재: 서재 " + stats.get("libraries") + "개, 출처 "
+                    + stats.get("sources") + "건, 후보 " + stats.get("entries") + "건, " + loadMillis + "ms ===");
+        } catch (Exception e) {
+            System.out.println("=== 자동완성 색인 적재 에러 ===");
+            e.printStackTrace();
+        } finally {
+            synchronized (this) {
+                loading = false;
+                removedWhileLoading.clear();
+            }
+        }
+    }
+
+    private PrefixIndex libraryIndex(String username) {
+        return libraryIndexes.computeIfAbsent(username, name -> new PrefixIndex(maxResults));
+    }
+
+    // 서재와 카탈로그에 같은 제목/저자가 있으면 한 번만 (앞쪽 = 서재 후보 유지)
+    private void addSuggestions(List<SuggestionDto> result, Set<String> seen,
+                                List<SuggestionDto> candidates, int max) {
+        for (SuggestionDto candidate : candidates) {
+            if (result.size() >= max) {
+                return;
+            }
+            if (seen.add(candidate.getType() + '\u0000' + PrefixIndex.normalize(candidate.getText()))) {
+                result.add(candidate);
+            }
+        }
+    }
+
+    private String bookSource(Long id) {
+        return "book:" + id;
+    }
+
+    private String catalogSource(String isbn13) {
+        return "catalog:" + isbn13;
+    }
+}
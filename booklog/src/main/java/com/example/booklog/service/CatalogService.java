@@ -0,0 +1,288 @@
+package com.example.booklog.service;
+
+import com.example.booklog.entity.AladinBookDto;
+import com.example.booklog.entity.BookApiDto;
+import com.example.booklog.entity.CatalogBook;
+import com.example.booklog.entity.RecommendedBookDto;
+import com.example.booklog.genre.GenreMapper;
+import com.example.booklog.repository.CatalogBookRepository;
+import com.example.booklog.resilience.ProviderCircuitBreakers;
+import com.example.booklog.util.IsbnUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 도서 메타데이터 로컬 카탈로그 (catalog_books)
+ * - 외부 API 응답으로 받은 책을 ISBN-13 기준으로 저장/갱신 (백그라운드 일괄 처리)
+ * - ISBN 조회는 카탈로그를 먼저 보고, 없거나 오래된 경우에만 제공자 호출
+ */
+@Service
+public class CatalogService {
+
+    // 이 기간이 지난 레코드는 제공자에서 다시 조회
+    @Value("${catalog.stale-after-days:30}")
+    private long staleAfterDays;
+
+    @Autowired
+    private CatalogBookRepository catalogBookRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier("catalogWriterExecutor")
+    private Executor catalogWriterExecutor;
+
+    @Autowired
+    private GenreMapper genreMapper;
+
+    // 저장한 제목/저자는 자동완성 색인에도 반영
+    @Autowired
+    private BookSuggestService suggestService;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong upserted = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * ISBN 조회 (카탈로그 우선)
+     * fetcher 규칙은 IsbnLookupCache와 같음: 찾음 → Optional.of, 없음 → Optional.empty(), 에러 → null
+     * 제공자 조회에 실패하면 오래된 카탈로그 레코드라도 반환
+     */
+    public Optional<BookApiDto> lookup(String isbn, String source, Supplier<Optional<BookApiDto>> fetcher) {
+        String isbn13 = IsbnUtils.normalize(isbn);
+        CatalogBook cached = isbn13 != null ? catalogBookRepository.findByIsbn13(isbn13).orElse(null) : null;
+
+        if (cached != null && isFresh(cached)) {
+            hits.incrementAndGet();
+            return Optional.of(toBookApiDto(cached));
+        }
+
+        Optional<BookApiDto> fetched = fetcher.get();
+        if (fetched != null && fetched.isPresent()) {
+            misses.incrementAndGet();
+            recordBooks(source, List.of(fetched.get()));
+            return fetched;
+        }
+
+        if (cached != null) {
+            // 제공자 장애/미등록 → 오래된 레코드 사용
+            staleHits.incrementAndGet();
+            return Optional.of(toBookApiDto(cached));
+        }
+        misses.incrementAndGet();
+        return fetched;
+    }
+
+    /**
+     * 카카오/국립중앙도서관 검색 결과 저장 (비동기)
+     */
+    public void recordBooks(String source, List<BookApiDto> books) {
+        record(books, book -> {
+            CatalogBook entry = newEntry(book.getIsbn(), book.getTitle(), source);
+            if (entry != null) {
+                entry.setAuthor(book.getAuthor());
+                entry.setPublisher(book.getPublisher());
+                entry.setCoverUrl(book.getCoverUrl());
+                entry.setPublishDate(book.getPublishDate());
+                entry.setDescription(book.getDescription());
+                entry.setGenre(book.getSubject());
+            }
+            return entry;
+        });
+    }
+
+    /**
+     * 알라딘 목록/검색 결과 저장 (비동기)
+     */
+    public void recordAladinBooks(List<AladinBookDto> books) {
+        record(books, book -> {
+            CatalogBook entry = newEntry(book.getIsbn(), book.getTitle(), ProviderCircuitBreakers.ALADIN);
+            if (entry != null) {
+                entry.setAuthor(book.getAuthor());
+                entry.setPublisher(book.getPublisher());
+                entry.setCoverUrl(book.getCoverUrl());
+                entry.setPublishDate(book.getPubDate());
+                entry.setDescription(book.getDescription());
+                entry.setGenre(genreMapper.map(book.getCategoryName()));
+            }
+            return entry;
+        });
+    }
+
+    /**
+     * 사서 추천 도서 저장 (비동기)
+     */
+    public void recordRecommendedBooks(List<RecommendedBookDto> books) {
+        record(books, book -> {
+            CatalogBook entry = newEntry(book.getIsbn(), book.getTitle(), ProviderCircuitBreakers.NATIONAL_LIBRARY);
+            if (entry != null) {
+                entry.setAuthor(book.getAuthor());
+                entry.setPublisher(book.getPublisher());
+                entry.setCoverUrl(book.getCoverUrl());
+                entry.setPublishDate(book.getPublishYear() != null && book.getPublishYear() > 0
+                        ? String.valueOf(book.getPublishYear()) : null);
+                entry.setDescription(book.getContents());
+                entry.setGenre(genreMapper.map(book.getCategory()));
+            }
+            return entry;
+        });
+    }
+
+    /**
+     * 카탈로그 통계 (모니터링용)
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", hits.get());
+        stats.put("staleHits", staleHits.get());
+        stats.put("misses", misses.get());
+        stats.put("upserted", upserted.get());
+        stats.put("dropped", dropped.get());
+        return stats;
+    }
+
+    /**
+     * DTO → 카탈로그 엔티티 변환은 호출 스레드에서, DB 저장은 catalogWriterExecutor에서
+     */
+    private <T> void record(List<T> books, Function<T, CatalogBook> converter) {
+        if (books == null || books.isEmpty()) {
+            return;
+        }
+
+        // 같은 ISBN이 여러 번 나오면 하나로 합침
+        Map<String, CatalogBook> byIsbn = new LinkedHashMap<>();
+        for (T book : books) {
+            CatalogBook entry = converter.apply(book);
+            if (entry != null) {
+                byIsbn.merge(entry.getIsbn13(), entry, (existing, incoming) -> {
+                    mergeInto(existing, incoming);
+                    return existing;
+                });
+            }
+        }
+        if (byIsbn.isEmpty()) {
+            return;
+        }
+
+        try {
+            catalogWriterExecutor.execute(() -> upsertAll(byIsbn));
+        } catch (RejectedExecutionException e) {
+            // 카탈로그 저장은 부가 기능이므로 바쁠 때는 버림
+            dropped.addAndGet(byIsbn.size());
+        }
+    }
+
+    private void upsertAll(Map<String, CatalogBook> incoming) {
+        List<CatalogBook> toSave = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+
+                Map<String, CatalogBook> existing = new LinkedHashMap<>();
+                for (CatalogBook book : catalogBookRepository.findByIsbn13In(incoming.keySet())) {
+                    existing.put(book.getIsbn13(), book);
+                }
+
+                for (CatalogBook entry : incoming.values()) {
+                    CatalogBook target = existing.get(entry.getIsbn13());
+                    if (target == null) {
+                        target = entry;
+                    } else {
+                        mergeInto(target, entry);
+                    }
+                    target.setRefreshedAt(now);
+                    toSave.add(target);
+                }
+
+                catalogBookRepository.saveAll(toSave);
+            });
+            upserted.addAndGet(incoming.size());
+            suggestService.onCatalogSaved(toSave);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 ISBN을 다른 스레드가 먼저 넣은 경우 (다음 응답에서 갱신됨)
+            dropped.addAndGet(incoming.size());
+            System.out.println("=== 카탈로그 저장 충돌: " + incoming.size() + "건 건너뜀 ===");
+        } catch (Exception e) {
+            dropped.addAndGet(incoming.size());
+            System.out.println("=== 카탈로그 저장 에러 ===");
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * ISBN-13과 제목이 있어야 저장 (없으면 null)
+     */
+    private CatalogBook newEntry(String isbn, String title, String source) {
+        String isbn13 = IsbnUtils.normalize(isbn);
+        if (isbn13 == null || isEmpty(title)) {
+            return null;
+        }
+        CatalogBook entry = new CatalogBook();
+        entry.setIsbn13(isbn13);
+        entry.setTitle(title);
+        entry.setSource(source);
+        return entry;
+    }
+
+    /**
+     * 새 응답의 값이 있으면 덮어씀 (소개 글은 더 긴 쪽 유지, 장르 "기타"는 덮어쓰지 않음)
+     */
+    private void mergeInto(CatalogBook target, CatalogBook incoming) {
+        if (!isEmpty(incoming.getTitle())) target.setTitle(incoming.getTitle());
+        if (!isEmpty(incoming.getAuthor())) target.setAuthor(incoming.getAuthor());
+        if (!isEmpty(incoming.getPublisher())) target.setPublisher(incoming.getPublisher());
+        if (!isEmpty(incoming.getCoverUrl())) target.setCoverUrl(incoming.getCoverUrl());
+        if (!isEmpty(incoming.getPublishDate())) target.setPublishDate(incoming.getPublishDate());
+        if (!isEmpty(incoming.getDescription())
+                && (isEmpty(target.getDescription()) || incoming.getDescription().length() > target.getDescription().length())) {
+            target.setDescription(incoming.getDescription());
+        }
+        if (!isEmpty(incoming.getGenre())
+                && (isEmpty(target.getGenre()) || !"기타".equals(incoming.getGenre()))) {
+            target.setGenre(incoming.getGenre());
+        }
+        target.setSource(incoming.getSource());
+    }
+
+    private boolean isFresh(CatalogBook book) {
+        return book.getRefreshedAt() != null
+                && book.getRefreshedAt().isAfter(LocalDateTime.now().minus(Duration.ofDays(staleAfterDays)));
+    }
+
+    private BookApiDto toBookApiDto(CatalogBook book) {
+        BookApiDto dto = new BookApiDto();
+        dto.setTitle(book.getTitle());
+        dto.setAuthor(book.getAuthor());
+        dto.setPublisher(book.getPublisher());
+        dto.setIsbn(book.getIsbn13());
+        dto.setCoverUrl(book.getCoverUrl());
+        dto.setPublishDate(book.getPublishDate());
+        dto.setDescription(book.getDescription());
+        dto.setSubject(book.getGenre());
+        return dto;
+    }
+
+    private boolean isEmpty(String value) {
+        return value == null || value.isEmpty();
+    }
+}
@@ -0,0 +1,663 @@
+package com.example.booklog.service;
+
+import com.example.booklog.cache.SingleFlight;
+import com.example.booklog.cache.TtlCache;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 표지 이미지 프록시 + 로컬 디스크 캐시
+ * - 템플릿은 외부 표지 URL 대신 /covers/{URL 해시} 주소 사용 (proxyUrl)
+ * - 처음 요청될 때 한 번만 내려받아 내용 해시(SHA-256)로 저장 → 같은 이미지는 파일 하나
+ * - 섬네일은 허용된 너비로만 한 번 만들어 두고 재사용 (원본이 더 작으면 "원본 사용" 표시 파일을 남겨 다시 읽지 않음)
+ * - 내려받지 못한 표지는 cover.failure-ttl-seconds 동안 다시 시도하지 않고 원본 URL로 보냄
+ * - 디스크 캐시는 주기적으로 정리 (기한이 지난 파일, 한도를 넘으면 오래된 파일부터 삭제)
+ *
+ * 디스크 구조 (cover.cache-dir)
+ * - sources/{URL 해시}.url : 원본 URL (템플릿 렌더링 중에는 메모리에만 두고 주기적으로 기록)
+ * - refs/{URL 해시}        : 내용 해시
+ * - blobs/{앞 2자}/{내용 해시}[-w{너비}.jpg | -w{너비}.orig] : 원본 / 섬네일 / 섬네일 없음 표시
+ */
+@Service
+public class CoverImageService {
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{32}");
+
+    // 등록 여부 메모 (디스크 확인 생략용) 최대 크기
+    private static final int MAX_REGISTERED = 100_000;
+
+    // 실패 기록 최대 개수
+    private static final int MAX_FAILURES = 10_000;
+
+    // 정리 시 건드리지 않는 작업 중 임시 파일 나이
+    private static final Duration TEMP_FILE_GRACE = Duration.ofHours(1);
+
+    @Value("${cover.proxy-enabled:true}")
+    private boolean proxyEnabled;
+
+    @Value("${cover.cache-dir:${java.io.tmpdir}/booklog-covers}")
+    private String cacheDir;
+
+    // 원본 이미지 최대 크기 (넘으면 캐시하지 않고 원본 URL로 보냄)
+    @Value("${cover.max-bytes:2097152}")
+    private long maxBytes;
+
+    // 만들어 둘 섬네일 너비 (요청 너비는 이 중 가장 가까운 큰 값으로 맞춤)
+    @Value("${cover.thumbnail-widths:160,300}")
+    private List<Integer> thumbnailWidths;
+
+    // 프록시할 표지 호스트 (하위 도메인 포함)
+    @Value("${cover.allowed-hosts:kakaocdn.net,daumcdn.net,aladin.co.kr,nl.go.kr}")
+    private List<String> allowedHosts;
+
+    // 내려받지 못한 표지를 다시 시도하지 않는 시간 (negative caching)
+    @Value("${cover.failure-ttl-seconds:300}")
+    private long failureTtlSeconds;
+
+    // 디스크 캐시 최대 크기 (넘으면 오래된 파일부터 삭제, 0이면 무제한)
+    @Value("${cover.cache-max-bytes:536870912}")
+    private long cacheMaxBytes;
+
+    // 캐시 파일 보관 기간 (0이면 무제한)
+    @Value("${cover.cache-max-age-days:30}")
+    private long cacheMaxAgeDays;
+
+    @Autowired
+    @Qualifier("coverRestTemplate")
+    private RestTemplate restTemplate;
+
+    private Path sourcesDir;
+    private Path refsDir;
+    private Path blobsDir;
+
+    private final Set<String> registered = ConcurrentHashMap.newKeySet();
+
+    // 아직 디스크에 기록하지 않은 URL 해시 → 원본 URL
+    private final Map<String, String> pendingSources = new ConcurrentHashMap<>();
+
+    // 내려받지 못한 URL 해시
+    private TtlCache<String, Boolean> failedDownloads;
+
+    // 같은 표지/섬네일 동시 요청은 한 번만 처리
+    private final SingleFlight<String, Path> downloadFlight = new SingleFlight<>();
+    private final SingleFlight<String, Path> thumbnailFlight = new SingleFlight<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong downloads = new AtomicLong();
+    private final AtomicLong downloadFailures = new AtomicLong();
+    private final AtomicLong failureHits = new AtomicLong();
+    private final AtomicLong thumbnails = new AtomicLong();
+    private final AtomicLong evictedFiles = new AtomicLong();
+
+    @PostConstruct
+    public void init() throws IOException {
+        Path root = Paths.get(cacheDir);
+        sourcesDir = Files.createDirectories(root.resolve("sources"));
+        refsDir = Files.createDirectories(root.resolve("refs"));
+        blobsDir = Files.createDirectories(root.resolve("blobs"));
+        thumbnailWidths = thumbnailWidths.stream().sorted().toList();
+        failedDownloads = new TtlCache<>(MAX_FAILURES, Duration.ofSeconds(failureTtlSeconds));
+        System.out.println("=== 표지 캐시 디렉터리: " + root.toAbsolutePath() + " ===");
+    }
+
+    /**
+     * 템플릿용 표지 주소 (${@coverImageService.proxyUrl(book.coverUrl, 160)})
+     * 프록시할 수 없는 주소면 원본 URL 그대로
+     */
+    public String proxyUrl(String sourceUrl, int width) {
+        if (!proxyEnabled || sourceUrl == null || sourceUrl.isBlank() || !isAllowed(sourceUrl)) {
+            return sourceUrl;
+        }
+
+        String hash = urlHash(sourceUrl);
+        register(hash, sourceUrl);
+        return "/covers/" + hash + (width > 0 ? "?w=" + width : "");
+    }
+
+    /**
+     * 해시에 해당하는 표지 파일 (없으면 내려받고, width가 있으면 섬네일)
+     * 등록되지 않은 해시이거나 내려받지 못하면 null
+     */
+    public CoverFile resolve(String hash, int width) {
+        if (!HASH.matcher(hash).matches()) {
+            return null;
+        }
+
+        String contentHash = readRef(hash);
+        if (contentHash != null && Files.exists(blobPath(contentHash))) {
+            hits.incrementAndGet();
+        } else {
+            String sourceUrl = sourceUrl(hash);
+            if (sourceUrl == null) {
+                return null;
+            }
+            if (failedDownloads.get(hash) != null) {
+                failureHits.incrementAndGet();
+                return null;
+            }
+            Path downloaded = downloadFlight.execute(hash, () -> download(hash, sourceUrl));
+            if (downloaded == null) {
+                failedDownloads.put(hash, Boolean.TRUE);
+                return null;
+            }
+            contentHash = downloaded.getFileName().toString();
+        }
+
+        Path original = blobPath(contentHash);
+        int variantWidth = variantWidth(width);
+        if (variantWidth > 0) {
+            String finalContentHash = contentHash;
+            Path thumbnail = thumbnailFlight.execute(contentHash + "-w" + variantWidth,
+                    () -> thumbnail(finalContentHash, variantWidth));
+            if (thumbnail != null) {
+                return new CoverFile(thumbnail, MediaType.IMAGE_JPEG_VALUE, contentHash + "-w" + variantWidth);
+            }
+        }
+        return new CoverFile(original, detectContentType(original), contentHash);
+    }
+
+    /**
+     * 해시의 원본 URL (캐시 실패 시 원본으로 보내기 위함, 모르면 null)
+     */
+    public String sourceUrl(String hash) {
+        if (!HASH.matcher(hash).matches()) {
+            return null;
+        }
+        String pending = pendingSources.get(hash);
+        if (pending != null) {
+            return pending;
+        }
+        try {
+            Path source = sourcesDir.resolve(hash + ".url");
+            return Files.exists(source) ? Files.readString(source, StandardCharsets.UTF_8).trim() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 렌더링 중 등록된 원본 URL을 디스크에 기록
+     */
+    @Scheduled(fixedDelayString = "${cover.source-flush-interval-ms:2000}")
+    public void flushSources() {
+        for (Map.Entry<String, String> entry : pendingSources.entrySet()) {
+            String hash = entry.getKey();
+            try {
+                Path source = sourcesDir.resolve(hash + ".url");
+                if (!Files.exists(source)) {
+                    writeAtomically(source, entry.getValue().getBytes(StandardCharsets.UTF_8));
+                }
+            } catch (IOException e) {
+                // 다음 렌더링 때 다시 등록
+                registered.remove(hash);
+                System.out.println("=== 표지 URL 기록 실패: " + e.getMessage() + " ===");
+            }
+            pendingSources.remove(hash, entry.getValue());
+        }
+    }
+
+    /**
+     * 디스크 캐시 정리
+     * - 표지/섬네일: 보관 기간이 지났거나 전체 크기가 한도를 넘으면 오래된 파일부터 삭제
+     * - 원본 URL/내용 해시 기록: 보관 기간이 지나면 삭제 (다음 렌더링/요청 때 다시 만들어짐)
+     */
+    @Scheduled(initialDelayString = "${cover.cleanup-interval-ms:3600000}",
+               fixedDelayString = "${cover.cleanup-interval-ms:3600000}")
+    public void cleanUp() {
+        Instant cutoff = cacheMaxAgeDays > 0
+                ? Instant.now().minus(Duration.ofDays(cacheMaxAgeDays))
+                : Instant.MIN;
+        Instant tempCutoff = Instant.now().minus(TEMP_FILE_GRACE);
+
+        try {
+            List<CachedFile> blobs = listFiles(blobsDir);
+            blobs.sort(Comparator.comparing((CachedFile f) -> f.modified));
+            long total = 0;
+            for (CachedFile blob : blobs) {
+                total += blob.size;
+            }
+
+            long removedBytes = 0;
+            int removed = 0;
+            for (CachedFile blob : blobs) {
+                boolean expired = blob.modified.isBefore(cutoff);
+                boolean overLimit = cacheMaxBytes > 0 && total > cacheMaxBytes;
+                if (!expired && !overLimit) {
+                    break;
+                }
+                // 내려받는 중이거나 섬네일을 만드는 중인 임시 파일은 남겨 둠
+                if (blob.path.getFileName().toString().endsWith(".tmp") && blob.modified.isAfter(tempCutoff)) {
+                    continue;
+                }
+                if (deleteQuietly(blob.path)) {
+                    total -= blob.size;
+                    removedBytes += blob.size;
+                    removed++;
+                }
+            }
+
+            for (CachedFile ref : listFiles(refsDir)) {
+                if (ref.modified.isBefore(cutoff) && deleteQuietly(ref.path)) {
+                    removed++;
+                }
+            }
+            for (CachedFile source : listFiles(sourcesDir)) {
+                if (source.modified.isBefore(cutoff) && deleteQuietly(source.path)) {
+                    String name = source.path.getFileName().toString();
+                    registered.remove(name.substring(0, name.length() - ".url".length()));
+                    removed++;
+                }
+            }
+
+            evictedFiles.addAndGet(removed);
+            if (removed > 0) {
+                System.out.println("=== 표지 캐시 정리: " + removed + "개 삭제 (" + removedBytes / 1024
+                        + "KB), 남은 표지 " + total / 1024 + "KB ===");
+            }
+        } catch (IOException | UncheckedIOException e) {
+            System.out.println("=== 표지 캐시 정리 실패: " + e.getMessage() + " ===");
+        }
+    }
+
+    /**
+     * 표지 캐시 통계 (모니터링용)
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", hits.get());
+        stats.put("downloads", downloads.get());
+        stats.put("downloadFailures", downloadFailures.get());
+        stats.put("failureHits", failureHits.get());
+        stats.put("thumbnails", thumbnails.get());
+        stats.put("evictedFiles", evictedFiles.get());
+        stats.put("registered", registered.size());
+        return stats;
+    }
+
+    private boolean isAllowed(String sourceUrl) {
+        try {
+            URI uri = URI.create(sourceUrl);
+            String host = uri.getHost();
+            if (host == null || !("http".equals(uri.getScheme()) || "https".equals(uri.getScheme()))) {
+                return false;
+            }
+            host = host.toLowerCase(Locale.ROOT);
+            for (String allowed : allowedHosts) {
+                String suffix = allowed.trim().toLowerCase(Locale.ROOT);
+                if (host.equals(suffix) || host.endsWith("." + suffix)) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 해시 → 원본 URL 등록 (렌더링 중에는 메모리에만 두고 디스크 기록은 flushSources에서)
+     */
+    private void register(String hash, String sourceUrl) {
+        if (registered.contains(hash)) {
+            return;
+        }
+        pendingSources.putIfAbsent(hash, sourceUrl);
+        if (registered.size() >= MAX_REGISTERED) {
+            registered.clear();
+        }
+        registered.add(hash);
+    }
+
+    /**
+     * 원본 내려받기 → 내용 해시로 저장 (실패 시 null)
+     */
+    private Path download(String hash, String sourceUrl) {
+        // 기다리는 동안 다른 요청이 받아 두었을 수 있음
+        String existing = readRef(hash);
+        if (existing != null && Files.exists(blobPath(existing))) {
+            return blobPath(existing);
+        }
+
+        Path temp = null;
+        try {
+            Path tempFile = Files.createTempFile(blobsDir, "download-", ".tmp");
+            temp = tempFile;
+            String contentHash = restTemplate.execute(URI.create(sourceUrl), HttpMethod.GET,
+                    request -> request.getHeaders().setAccept(List.of(MediaType.parseMediaType("image/*"))),
+                    response -> {
+                        MediaType contentType = response.getHeaders().getContentType();
+                        if (contentType != null && !"image".equals(contentType.getType())) {
+                            throw new IOException("이미지가 아닌 응답: " + contentType);
+                        }
+                        return copyWithLimit(response.getBody(), tempFile);
+                    });
+
+            Path blob = blobPath(contentHash);
+            Files.createDirectories(blob.getParent());
+            if (Files.exists(blob)) {
+                Files.delete(tempFile);
+            } else {
+                Files.move(tempFile, blob, StandardCopyOption.ATOMIC_MOVE);
+            }
+            writeAtomically(refsDir.resolve(hash), contentHash.getBytes(StandardCharsets.UTF_8));
+            downloads.incrementAndGet();
+            return blob;
+
+        } catch (Exception e) {
+            downloadFailures.incrementAndGet();
+            System.out.println("=== 표지 다운로드 실패: " + sourceUrl + " (" + e.getMessage() + ") ===");
+            deleteQuietly(temp);
+            return null;
+        }
+    }
+
+    /**
+     * 응답 본문을 파일로 복사하면서 SHA-256 계산 (maxBytes 초과 시 IOException)
+     */
+    private String copyWithLimit(InputStream body, Path target) throws IOException {
+        MessageDigest digest = sha256();
+        try (InputStream in = new DigestInputStream(body, digest);
+             OutputStream out = Files.newOutputStream(target)) {
+            byte[] buffer = new byte[16 * 1024];
+            long total = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                total += read;
+                if (total > maxBytes) {
+                    throw new IOException("표지 이미지가 너무 큼 (" + maxBytes + "바이트 초과)");
+                }
+                out.write(buffer, 0, read);
+            }
+            if (total == 0) {
+                throw new IOException("빈 응답");
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 섬네일 생성 (이미 있으면 재사용)
+     * 원본이 더 작거나 읽을 수 없는 형식이면 null → 원본 사용 (표시 파일을 남겨 다음에는 바로 null)
+     */
+    private Path thumbnail(String contentHash, int width) {
+        Path target = blobPath(contentHash).resolveSibling(contentHash + "-w" + width + ".jpg");
+        if (Files.exists(target)) {
+            return target;
+        }
+        Path originalMarker = blobPath(contentHash).resolveSibling(contentHash + "-w" + width + ".orig");
+        if (Files.exists(originalMarker)) {
+            return null;
+        }
+
+        try {
+            BufferedImage source = ImageIO.read(blobPath(contentHash).toFile());
+            if (source == null || source.getWidth() <= width) {
+                Files.write(originalMarker, new byte[0]);
+                return null;
+            }
+
+            int height = Math.max(1, Math.round(source.getHeight() * (width / (float) source.getWidth())));
+            BufferedImage scaled = scale(source, width, height);
+
+            Path temp = Files.createTempFile(target.getParent(), "thumb-", ".tmp");
+            try {
+                writeJpeg(scaled, temp);
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                deleteQuietly(temp);
+            }
+            thumbnails.incrementAndGet();
+            return target;
+
+        } catch (IOException e) {
+            System.out.println("=== 섬네일 생성 실패: " + contentHash + " (" + e.getMessage() + ") ===");
+            return null;
+        }
+    }
+
+    /**
+     * 절반씩 줄인 뒤 마지막에 목표 크기로 (한 번에 크게 줄이면 계단 현상)
+     */
+    private BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+
+            // JPEG는 알파 채널이 없으므로 흰 배경 RGB로 그림
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.setColor(java.awt.Color.WHITE);
+                g.fillRect(0, 0, currentWidth, currentHeight);
+                g.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (currentWidth != width || currentHeight != height);
+
+        return current;
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(0.85f);
+
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * 요청 너비 → 허용된 섬네일 너비 중 같거나 큰 최소값 (없으면 0 = 원본)
+     */
+    private int variantWidth(int width) {
+        if (width <= 0) {
+            return 0;
+        }
+        for (int allowed : thumbnailWidths) {
+            if (allowed >= width) {
+                return allowed;
+            }
+        }
+        return 0;
+    }
+
+    private String readRef(String hash) {
+        try {
+            Path ref = refsDir.resolve(hash);
+            return Files.exists(ref) ? Files.readString(ref, StandardCharsets.UTF_8).trim() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private Path blobPath(String contentHash) {
+        return blobsDir.resolve(contentHash.substring(0, 2)).resolve(contentHash);
+    }
+
+    /**
+     * 파일 앞부분으로 이미지 형식 판별 (응답 헤더는 저장하지 않음)
+     */
+    private String detectContentType(Path file) {
+        byte[] head = new byte[12];
+        int read;
+        try (InputStream in = Files.newInputStream(file)) {
+            read = in.readNBytes(head, 0, head.length);
+        } catch (IOException e) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+
+        if (read >= 3 && (head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xD8) {
+            return MediaType.IMAGE_JPEG_VALUE;
+        }
+        if (read >= 8 && (head[0] & 0xFF) == 0x89 && head[1] == 'P' && head[2] == 'N' && head[3] == 'G') {
+            return MediaType.IMAGE_PNG_VALUE;
+        }
+        if (read >= 6 && head[0] == 'G' && head[1] == 'I' && head[2] == 'F') {
+            return MediaType.IMAGE_GIF_VALUE;
+        }
+        if (read >= 12 && head[0] == 'R' && head[1] == 'I' && head[2] == 'F' && head[3] == 'F'
+                && head[8] == 'W' && head[9] == 'E' && head[10] == 'B' && head[11] == 'P') {
+            return "image/webp";
+        }
+        return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+    }
+
+    private void writeAtomically(Path target, byte[] content) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), "write-", ".tmp");
+        try {
+            Files.write(temp, content);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    private boolean deleteQuietly(Path path) {
+        if (path == null) {
+            return false;
+        }
+        try {
+            return Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 다음 다운로드 때 덮어씀
+            return false;
+        }
+    }
+
+    private List<CachedFile> listFiles(Path dir) throws IOException {
+        List<CachedFile> files = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.forEach(path -> {
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    if (attributes.isRegularFile()) {
+                        files.add(new CachedFile(path, attributes.size(), attributes.lastModifiedTime().toInstant()));
+                    }
+                } catch (IOException ignored) {
+                    // 그 사이 지워진 파일
+                }
+            });
+        }
+        return files;
+    }
+
+    private static String urlHash(String sourceUrl) {
+        byte[] digest = sha256().digest(sourceUrl.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest, 0, 16);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 정리 대상 캐시 파일
+    private static final class CachedFile {
+
+        private final Path path;
+        private final long size;
+        private final Instant modified;
+
+        private CachedFile(Path path, long size, Instant modified) {
+            this.path = path;
+            this.size = size;
+            this.modified = modified;
+        }
+    }
+
+    /**
+     * 응답할 표지 파일
+     */
+    public static class CoverFile {
+
+        private final Path path;
+        private final String contentType;
+        private final String etag;
+
+        private CoverFile(Path path, String contentType, String etag) {
+            this.path = path;
+            this.contentType = contentType;
+            this.etag = etag;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public long getLength() {
+            try {
+                return Files.size(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
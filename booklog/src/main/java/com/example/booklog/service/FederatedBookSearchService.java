@@ -0,0 +1,236 @@
+package com.example.booklog.service;
+
+import com.example.booklog.entity.AladinBookDto;
+import com.example.booklog.entity.BookApiDto;
+import com.example.booklog.genre.GenreClassifier;
+import com.example.booklog.genre.GenreMapper;
+import com.example.booklog.resilience.ProviderCircuitBreakers;
+import com.example.booklog.util.IsbnUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * 통합 검색 (카카오 + 국립중앙도서관 + 알라딘)
+ * - 설정된 제공자를 동시에 호출하고, 하나의 마감 시간 안에 도착한 결과만 사용 (부분 결과 허용)
+ * - ISBN-13 기준으로 중복 제거 후 순위 합산(reciprocal rank fusion)으로 정렬
+ */
+@Service
+public class FederatedBookSearchService {
+
+    // 순위 합산 시 상위 순위 가중치 완화 상수
+    private static final int RANK_CONSTANT = 10;
+
+    private static final int ALADIN_MAX_RESULTS = 20;
+
+    @Autowired
+    private KakaoBookApiService kakaoApiService;
+
+    @Autowired
+    private NationalLibraryApiService nlApiService;
+
+    @Autowired
+    private AladinApiService aladinApiService;
+
+    // 알라딘 분류 경로 → 장르
+    @Autowired
+    private GenreMapper genreMapper;
+
+    @Autowired
+    @Qualifier("providerExecutor")
+    private Executor providerExecutor;
+
+    @Value("${books.federated-search.deadline-ms:2500}")
+    private long deadlineMs;
+
+    // 사용할 제공자 (앞에 있을수록 같은 책일 때 정보 우선)
+    @Value("${books.federated-search.providers:kakao,nl,aladin}")
+    private List<String> providers;
+
+    /**
+     * 통합 검색
+     */
+    public List<BookApiDto> search(String query) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+
+        Map<String, CompletableFuture<List<BookApiDto>>> futures = new LinkedHashMap<>();
+        for (String provider : providers) {
+            futures.put(provider.trim(), searchAsync(provider.trim(), query));
+        }
+
+        // 마감 시간까지 도착한 제공자 결과만 수집
+        Map<String, List<BookApiDto>> results = new LinkedHashMap<>();
+        futures.forEach((provider, future) -> {
+            List<BookApiDto> books = await(provider, future, deadline);
+            if (!books.isEmpty()) {
+                results.put(provider, books);
+            }
+        });
+
+        System.out.println("=== 통합 검색 완료: " + results.keySet() + " / 요청 " + futures.keySet() + " ===");
+        return merge(results);
+    }
+
+    private CompletableFuture<List<BookApiDto>> searchAsync(String provider, String query) {
+        try {
+            return CompletableFuture.supplyAsync(() -> searchProvider(provider, query), providerExecutor);
+        } catch (RejectedExecutionException e) {
+            System.out.println("=== 통합 검색 작업 거부: " + provider + " ===");
+            return CompletableFuture.completedFuture(new ArrayList<>());
+        }
+    }
+
+    private List<BookApiDto> searchProvider(String provider, String query) {
+        switch (provider) {
+            case ProviderCircuitBreakers.KAKAO:
+                return kakaoApiService.search(query);
+            case ProviderCircuitBreakers.NATIONAL_LIBRARY:
+                return nlApiService.search(query);
+            case ProviderCircuitBreakers.ALADIN:
+                return aladinApiService.search(query, ALADIN_MAX_RESULTS).stream()
+                        .map(this::fromAladin)
+                        .collect(Collectors.toList());
+            default:
+                System.out.println("알 수 없는 검색 제공자: " + provider);
+                return new ArrayList<>();
+        }
+    }
+
+    private List<BookApiDto> await(String provider, CompletableFuture<List<BookApiDto>> future, long deadline) {
+        long remaining = Math.max(0, deadline - System.nanoTime());
+        try {
+            List<BookApiDto> books = future.get(remaining, TimeUnit.NANOSECONDS);
+            return books != null ? books : new ArrayList<>();
+        } catch (TimeoutException e) {
+            System.out.println("=== 통합 검색 시간 초과: " + provider + " ===");
+            return new ArrayList<>();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ArrayList<>();
+        } catch (ExecutionException e) {
+            System.out.println("=== 통합 검색 에러: " + provider + " ===");
+            e.printStackTrace();
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * 제공자별 결과 병합
+     * 같은 ISBN-13(없으면 제목+저자)은 하나로 합치고, 각 제공자에서의 순위로 점수 계산
+     * 장르는 분류 정보(KDC/알라딘 카테고리)에서 나온 값을 카카오의 키워드 추측보다 우선
+     */
+    List<BookApiDto> merge(Map<String, List<BookApiDto>> results) {
+        Map<String, MergedBook> merged = new LinkedHashMap<>();
+
+        results.forEach((provider, books) -> {
+            for (int rank = 0; rank < books.size(); rank++) {
+                BookApiDto book = books.get(rank);
+                String key = mergeKey(book);
+                if (key == null) {
+                    continue;
+                }
+
+                MergedBook entry = merged.get(key);
+                if (entry == null) {
+                    // 제공자 결과 객체는 캐시에서 공유되므로 복사해서 사용
+                    entry = new MergedBook(copy(book), merged.size());
+                    entry.categorizedSubject = isCategorizedSubject(provider, book);
+                    merged.put(key, entry);
+                } else {
+                    fillMissing(entry.book, book);
+                    if (!entry.categorizedSubject && isCategorizedSubject(provider, book)) {
+                        entry.book.setSubject(book.getSubject());
+                        entry.categorizedSubject = true;
+                    }
+                }
+                entry.score += 1.0 / (RANK_CONSTANT + rank + 1);
+            }
+        });
+
+        return merged.values().stream()
+                .sorted(Comparator.comparingDouble((MergedBook m) -> m.score).reversed()
+                        .thenComparingInt(m -> m.order))
+                .map(m -> m.book)
+                .collect(Collectors.toList());
+    }
+
+    private String mergeKey(BookApiDto book) {
+        String isbn13 = IsbnUtils.normalize(book.getIsbn());
+        if (isbn13 != null) {
+            return isbn13;
+        }
+        if (book.getTitle() == null || book.getTitle().isBlank()) {
+            return null;
+        }
+        String author = book.getAuthor() != null ? book.getAuthor() : "";
+        return (book.getTitle() + "|" + author).replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+
+    // 카카오 장르는 제목/소개 키워드 추측, 국립중앙도서관/알라딘은 분류 정보에서 매핑 ("기타"는 분류 없음)
+    private boolean isCategorizedSubject(String provider, BookApiDto book) {
+        return !ProviderCircuitBreakers.KAKAO.equals(provider)
+                && !isEmpty(book.getSubject())
+                && !GenreClassifier.DEFAULT_GENRE.equals(book.getSubject());
+    }
+
+    // 비어 있는 항목만 다른 제공자 정보로 채움
+    private void fillMissing(BookApiDto target, BookApiDto source) {
+        if (isEmpty(target.getCoverUrl())) target.setCoverUrl(source.getCoverUrl());
+        if (isEmpty(target.getDescription())) target.setDescription(source.getDescription());
+        if (isEmpty(target.getPublishDate())) target.setPublishDate(source.getPublishDate());
+        if (isEmpty(target.getPublisher())) target.setPublisher(source.getPublisher());
+        if (isEmpty(target.getAuthor())) target.setAuthor(source.getAuthor());
+        if (isEmpty(target.getSubject())) target.setSubject(source.getSubject());
+    }
+
+    BookApiDto fromAladin(AladinBookDto aladinBook) {
+        BookApiDto book = new BookApiDto();
+        book.setTitle(aladinBook.getTitle());
+        book.setAuthor(aladinBook.getAuthor());
+        book.setPublisher(aladinBook.getPublisher());
+        book.setIsbn(aladinBook.getIsbn());
+        book.setCoverUrl(isEmpty(aladinBook.getCoverUrl()) ? null : aladinBook.getCoverUrl());
+        book.setPublishDate(aladinBook.getPubDate());
+        book.setDescription(aladinBook.getDescription());
+        book.setSubject(genreMapper.map(aladinBook.getCategoryName()));
+        return book;
+    }
+
+    private BookApiDto copy(BookApiDto source) {
+        BookApiDto book = new BookApiDto(source.getTitle(), source.getAuthor(), source.getPublisher(),
+                source.getIsbn(), source.getCoverUrl(), source.getPublishDate(), source.getPage(), source.getSubject());
+        book.setDescription(source.getDescription());
+        return book;
+    }
+
+    private boolean isEmpty(String value) {
+        return value == null || value.isEmpty();
+    }
+
+    private static class MergedBook {
+        private final BookApiDto book;
+        private final int order;
+        private double score;
+        private boolean categorizedSubject;
+
+        private MergedBook(BookApiDto book, int order) {
+            this.book = book;
+            this.order = order;
+        }
+    }
+}
@@ -1,32 +1,165 @@
 package com.example.booklog.service;
 
+import com.example.booklog.cache.IsbnLookupCache;
+import com.example.booklog.cache.SingleFlight;
+import com.example.booklog.cache.TtlCache;
 import com.example.booklog.entity.BookApiDto;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import com.example.booklog.entity.BookSearchPage;
+import com.example.booklog.genre.GenreClassifier;
+import com.example.booklog.parser.KakaoBookJsonParser;
+import com.example.booklog.resilience.ProviderCircuitBreakers;
+import com.example.booklog.resilience.ProviderRateLimiters;
+import com.example.booklog.resilience.ProviderUnavailableException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
+import java.net.URI;
+import java.time.Duration;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 public class KakaoBookApiService {
     
+    // 카카오 검색 API 허용 범위 (page 1~50, size 1~50)
+    static final int MAX_PAGE = 50;
+    static final int MAX_PAGE_SIZE = 50;
+    
     @Value("${kakao.api.url}")
     private String apiUrl;
     
     @Value("${kakao.api.key}")
     private String apiKey;
     
-    private final RestTemplate restTemplate = new RestTemplate();
+    // 인증 헤더가 설정된 공용 RestTemplate (HttpClientConfig)
+    @Autowired
+    @Qualifier("kakaoRestTemplate")
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private ProviderCircuitBreakers circuitBreakers;
+
+    @Autowired
+    private ProviderRateLimiters rateLimiters;
+
+    // 카카오 응답에는 분류 정보가 없어 제목/소개 키워드로 장르 추측
+    @Autowired
+    private GenreClassifier genreClassifier;
+
+    // 받은 책은 로컬 카탈로그에 저장
+    @Autowired
+    private CatalogService catalogService;
+
+    // ISBN 단건 조회 캐시 (찾지 못한 ISBN도 짧게 캐시)
+    @Value("${isbn.cache.max-size:5000}")
+    private int isbnCacheMaxSize;
+
+    @Value("${isbn.cache.ttl-hours:168}")
+    private long isbnCacheTtlHours;
+
+    @Value("${isbn.cache.negative-ttl-minutes:30}")
+    private long isbnCacheNegativeTtlMinutes;
+
+    private IsbnLookupCache<BookApiDto> isbnCache;
+
+    // 검색 결과 단기 캐시 (인기 검색어 몰림 대비)
+    @Value("${kakao.search.cache-ttl-seconds:60}")
+    private long searchCacheTtlSeconds;
+
+    @Value("${kakao.search.cache-max-size:500}")
+    private int searchCacheMaxSize;
+
+    // 키: 검색어|페이지|크기
+    private TtlCache<String, BookSearchPage> searchCache;
+
+    // 같은 검색어(페이지) 동시 요청 합치기
+    private final SingleFlight<String, BookSearchPage> searchFlight = new SingleFlight<>();
+
+    @PostConstruct
+    public void initCache() {
+        isbnCache = new IsbnLookupCache<>(isbnCacheMaxSize,
+                Duration.ofHours(isbnCacheTtlHours),
+                Duration.ofMinutes(isbnCacheNegativeTtlMinutes));
+        searchCache = new TtlCache<>(searchCacheMaxSize, Duration.ofSeconds(searchCacheTtlSeconds));
+    }
+
+    /**
+     * ISBN 캐시 통계
+     */
+    public Map<String, Object> getIsbnCacheStats() {
+        return isbnCache.stats();
+    }
+
+    /**
+     * 검색 캐시 + 요청 합치기 통계
+     */
+    public Map<String, Object> getSearchCacheStats() {
+        Map<String, Object> stats = searchCache.stats();
+        stats.put("singleFlight", searchFlight.stats());
+        return stats;
+    }
+    
+    // 비동기 검색(ReactiveKakaoBookApiService)과 검색 캐시 공유
+    TtlCache<String, BookSearchPage> getSearchCache() {
+        return searchCache;
+    }
     
     /**
-     * 책 검색 (제목, 저자, 출판사 통합 검색)
+     * 책 검색 (제목, 저자, 출판사 통합 검색) - 첫 페이지 최대 크기
+     * 통합 검색처럼 한 번에 많이 받아 병합하는 경우에 사용
      */
     public List<BookApiDto> search(String query) {
+        return search(query, 1, MAX_PAGE_SIZE).getBooks();
+    }
+    
+    /**
+     * 책 검색 한 페이지
+     * 같은 검색어/페이지의 동시 요청은 API 한 번으로 합치고, 결과는 짧게 캐시
+     * 반환 결과는 여러 요청이 공유하므로 수정 불가
+     * 카카오가 제공하지 않는 페이지(MAX_PAGE 초과)는 호출 없이 마지막 페이지로 응답
+     */
+    public BookSearchPage search(String query, int page, int size) {
+        int safeSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        if (page > MAX_PAGE) {
+            return BookSearchPage.empty(page, safeSize);
+        }
+        int safePage = Math.max(1, page);
+        String key = cacheKey(query, safePage, safeSize);
+
+        BookSearchPage cached = searchCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        BookSearchPage result = searchFlight.execute(key, () -> {
+            BookSearchPage fetched = fetchSearch(query, safePage, safeSize);
+            if (fetched != null) {
+                // 결과가 0건인 검색도 캐시 (에러는 제외)
+                searchCache.put(key, fetched);
+            }
+            return fetched;
+        });
+
+        if (result == null) {
+            // API 에러/호출 한도 초과 → 만료된 검색 결과라도 있으면 사용
+            result = searchCache.getStale(key);
+        }
+        return result != null ? result : BookSearchPage.empty(safePage, safeSize);
+    }
+    
+    /**
+     * 검색 API 호출 (에러 시 null)
+     */
+    private BookSearchPage fetchSearch(String query, int page, int size) {
         try {
             System.out.println("=== 카카오 책 검색 시작 ===");
             System.out.println("검색어: " + query);
@@ -37,304 +170,118 @@ public class KakaoBookApiService {
             System.out.println("API KEY 앞 10자: " + (apiKey != null && apiKey.length() >= 10 ? apiKey.substring(0, 10) + "..." : apiKey));
             
             
-            // API 요청 URL
-            String url = apiUrl + "?query=" + query + "&size=50";
+            // API 요청 URL (검색어의 &, #, =, + 등은 인코딩해 다른 파라미터로 섞이지 않도록)
+            URI uri = UriComponentsBuilder.fromUriString(apiUrl)
+                    .queryParam("query", "{query}")
+                    .queryParam("page", page)
+                    .queryParam("size", size)
+                    .encode()
+                    .buildAndExpand(query)
+                    .toUri();
             
-            System.out.println("요청 URL: " + url);
+            System.out.println("요청 URL: " + uri);
             
-            // RestTemplate으로 API 호출
-            RestTemplate template = new RestTemplate();
-            template.getInterceptors().add((request, body, execution) -> {
-                request.getHeaders().set("Authorization", "KakaoAK " + apiKey);
-                return execution.execute(request, body);
-            });
-            
-            String response = template.getForObject(url, String.class);
+            // RestTemplate으로 API 호출 (응답 본문을 바로 스트리밍 파싱)
+            BookSearchPage result = fetchPage(uri);
+            if (result == null) {
+                // 응답 형식 오류 → 캐시하지 않음
+                return null;
+            }
             
-            System.out.println("=== 응답 받음 ===");
-            // 응답 내용 출력 (처음 500자)
-            System.out.println("응답 내용: " + (response != null ? response.substring(0, Math.min(500, response.length())) : "null"));
+            System.out.println("=== 응답 받음: " + result.getBooks().size() + "건 (전체 " + result.getTotalCount() + "건) ===");
+            catalogService.recordBooks(ProviderCircuitBreakers.KAKAO, result.getBooks());
             
-            return parseResponse(response);
+            result.setBooks(List.copyOf(result.getBooks()));
+            result.setPage(page);
+            result.setSize(size);
+            markLastPage(result);
+            return result;
             
+        } catch (ProviderUnavailableException e) {
+            System.out.println("=== 카카오 API 호출 생략: " + e.getMessage() + " ===");
+            return null;
         } catch (Exception e) {
             System.out.println("=== 카카오 API 에러 ===");
             e.printStackTrace();
-            return new ArrayList<>();
+            return null;
         }
     }
     
     /**
-     * ISBN으로 책 검색
+     * 카카오는 MAX_PAGE까지만 제공하므로 그 페이지에서 끝 처리 (남은 결과가 있어도 is_end=false로 옴)
      */
-    public BookApiDto getBookByIsbn(String isbn) {
-        try {
-            String url = apiUrl + "?query=" + isbn + "&target=isbn";
-            
-            RestTemplate template = new RestTemplate();
-            template.getInterceptors().add((request, body, execution) -> {
-                request.getHeaders().set("Authorization", "KakaoAK " + apiKey);
-                return execution.execute(request, body);
-            });
-            
-            String response = template.getForObject(url, String.class);
-            List<BookApiDto> books = parseResponse(response);
-            
-            return books.isEmpty() ? null : books.get(0);
-            
-        } catch (Exception e) {
-            e.printStackTrace();
-            return null;
+    static void markLastPage(BookSearchPage result) {
+        if (result.getPage() >= MAX_PAGE) {
+            result.setEnd(true);
         }
     }
     
     /**
-     * JSON 응답 파싱
+     * 검색어 정규화 (캐시/합치기 키)
+     */
+    static String normalizeQuery(String query) {
+        return query == null ? "" : query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * 검색 캐시 키 (검색어|페이지|크기)
+     */
+    static String cacheKey(String query, int page, int size) {
+        return normalizeQuery(query) + "|" + page + "|" + size;
+    }
+    
+    /**
+     * ISBN으로 책 검색 (메모리 캐시 → 로컬 카탈로그 → API 순서)
+     */
+    public BookApiDto getBookByIsbn(String isbn) {
+        return isbnCache.get(isbn, () -> catalogService.lookup(isbn, ProviderCircuitBreakers.KAKAO,
+                () -> fetchBookByIsbn(isbn)));
+    }
+    
+    /**
+     * ISBN 조회 API 호출
+     * 찾음 → Optional.of, 없음 → Optional.empty(), 에러 → null (캐시하지 않음)
      */
-    private List<BookApiDto> parseResponse(String jsonResponse) {
-        List<BookApiDto> books = new ArrayList<>();
-        
+    private Optional<BookApiDto> fetchBookByIsbn(String isbn) {
         try {
-            JSONObject json = new JSONObject(jsonResponse);
-            JSONArray documents = json.getJSONArray("documents");
+            URI uri = UriComponentsBuilder.fromUriString(apiUrl)
+                    .queryParam("query", "{isbn}")
+                    .queryParam("target", "isbn")
+                    .encode()
+                    .buildAndExpand(isbn)
+                    .toUri();
             
-            System.out.println("검색 결과: " + documents.length() + "건");
-            
-            for (int i = 0; i < documents.length(); i++) {
-                JSONObject doc = documents.getJSONObject(i);
-                
-                BookApiDto book = new BookApiDto();
-                
-                // 제목
-                book.setTitle(doc.optString("title", ""));
-                
-                // 저자 (배열을 문자열로 변환)
-                JSONArray authors = doc.optJSONArray("authors");
-                if (authors != null && authors.length() > 0) {
-                    List<String> authorList = new ArrayList<>();
-                    for (int j = 0; j < authors.length(); j++) {
-                        authorList.add(authors.getString(j));
-                    }
-                    book.setAuthor(String.join(", ", authorList));
-                }
-                
-                // 출판사
-                book.setPublisher(doc.optString("publisher", ""));
-                
-                // ISBN
-                book.setIsbn(doc.optString("isbn", "").split(" ")[0]); // 첫 번째 ISBN 사용
-                
-                // 표지 이미지
-                String thumbnail = doc.optString("thumbnail", "");
-                if (!thumbnail.isEmpty()) {
-                    book.setCoverUrl(thumbnail);
-                }
-                
-                // 출판일
-                String datetime = doc.optString("datetime", "");
-                if (!datetime.isEmpty()) {
-                    book.setPublishDate(datetime.substring(0, 10)); // 날짜 부분만
-                }
-                
-                // 가격
-                book.setPage(doc.optString("price", ""));
-                
-                // 소개
-                String contents = doc.optString("contents", "");
-                if (!contents.isEmpty()) {
-                    book.setDescription(contents.substring(0, Math.min(200, contents.length())) + "...");
-                }
-
-                // 장르 추측 (카카오 API에 카테고리 정보가 없으므로 제목/내용으로 추측)
-                String genre = inferGenreFromTitleAndContent(book.getTitle(), contents);
-                book.setSubject(genre);
-
-                System.out.println("책 파싱: " + book.getTitle() + " / 장르: " + genre);
-                books.add(book);
+            BookSearchPage result = fetchPage(uri);
+            if (result == null) {
+                return null;
             }
+            List<BookApiDto> books = result.getBooks();
             
+            return books.isEmpty() ? Optional.empty() : Optional.of(books.get(0));
+            
+        } catch (ProviderUnavailableException e) {
+            System.out.println("=== 카카오 API 호출 생략: " + e.getMessage() + " ===");
+            return null;
         } catch (Exception e) {
-            System.out.println("=== JSON 파싱 에러 ===");
             e.printStackTrace();
+            return null;
         }
-        
-        return books;
-    }
-
-    /**
-     * 제목과 내용으로 장르 추측
-     */
-    private String inferGenreFromTitleAndContent(String title, String content) {
-        String text = (title + " " + content).toLowerCase();
-
-        // 소설 관련 키워드
-        if (text.matches(".*(소설|이야기|장편|단편|novel).*")) {
-            return "소설";
-        }
-
-        // 에세이 관련 키워드
-        if (text.matches(".*(에세이|수필|산문|일상|기록).*")) {
-            return "에세이";
-        }
-
-        // 자기계발 관련 키워드
-        if (text.matches(".*(자기계발|성공|습관|동기부여|자존감|행복|마음|심리|치유).*")) {
-            return "자기계발";
-        }
-
-        // 경제/경영 관련 키워드
-        if (text.matches(".*(경제|경영|투자|재테크|마케팅|비즈니스|창업|부자).*")) {
-            return "경제/경영";
-        }
-
-        // IT/컴퓨터 관련 키워드
-        if (text.matches(".*(프로그래밍|코딩|개발|java|python|javascript|컴퓨터|알고리즘|데이터).*")) {
-            return "IT/컴퓨터";
-        }
-
-        // 역사 관련 키워드
-        if (text.matches(".*(역사|문화|전쟁|세계사|한국사|조선|고려).*")) {
-            return "역사";
-        }
-
-        // 과학 관련 키워드
-        if (text.matches(".*(과학|물리|화학|생물|수학|우주|진화).*")) {
-            return "과학";
-        }
-
-        // 인문 관련 키워드
-        if (text.matches(".*(철학|인문|사상|사회|교양|예술).*")) {
-            return "인문";
-        }
-
-        // 시 관련 키워드
-        if (text.matches(".*(시집|시|poetry|poem).*") && !text.contains("역사") && !text.contains("시대")) {
-            return "시";
-        }
-
-        // 기본값
-        return "기타";
     }
-
+    
     /**
-     * 카테고리/주제분류를 장르로 매핑
-     * 카테고리 형식:
-     * - 카카오: "국내도서>소설>한국소설"
-     * - 국립도서관: "813.7" (KDC), "문학", "소설" 등
+     * API 호출 + JSON 스트리밍 파싱 (서킷 브레이커 경유)
+     * 응답 형식 오류는 장애로 보지 않되(서킷 브레이커 성공 처리) 결과를 캐시하지 않도록 null
      */
-    public String mapCategoryToGenre(String category) {
-        if (category == null || category.isEmpty()) {
-            return "기타";
-        }
-
-        String lowerCategory = category.toLowerCase();
-
-        // KDC(한국십진분류법) 숫자 분류 처리
-        if (category.matches("^\\d+.*")) {
-            String kdcCode = category.substring(0, Math.min(3, category.length()));
-
-            // 800번대: 문학
-            if (kdcCode.startsWith("8")) {
-                // 810-820: 한국문학 (소설)
-                if (kdcCode.startsWith("81")) {
-                    return "소설";
-                }
-                // 840: 영미문학
-                if (kdcCode.startsWith("84")) {
-                    return "소설";
-                }
-                // 800번대 전체는 일단 소설로
-                return "소설";
-            }
-
-            // 100번대: 철학
-            if (kdcCode.startsWith("1")) {
-                return "인문";
-            }
-
-            // 300번대: 사회과학
-            if (kdcCode.startsWith("3")) {
-                // 320: 경제
-                if (kdcCode.startsWith("32")) {
-                    return "경제/경영";
-                }
-                return "인문";
-            }
-
-            // 400번대: 자연과학
-            if (kdcCode.startsWith("4")) {
-                return "과학";
-            }
-
-            // 500번대: 기술과학 (컴퓨터 포함)
-            if (kdcCode.startsWith("5")) {
-                return "IT/컴퓨터";
-            }
-
-            // 900번대: 역사
-            if (kdcCode.startsWith("9")) {
-                return "역사";
-            }
-        }
-
-        // 텍스트 기반 분류
-        // 소설
-        if (lowerCategory.contains("소설") || lowerCategory.contains("문학")) {
-            return "소설";
-        }
-
-        // 에세이
-        if (lowerCategory.contains("에세이") || lowerCategory.contains("수필")) {
-            return "에세이";
-        }
-
-        // 시
-        if (lowerCategory.contains("시") && !lowerCategory.contains("역사") && !lowerCategory.contains("시대")) {
-            return "시";
-        }
-
-        // 자기계발
-        if (lowerCategory.contains("자기계발") || lowerCategory.contains("자기관리") ||
-            lowerCategory.contains("성공") || lowerCategory.contains("동기부여") ||
-            lowerCategory.contains("자기개발")) {
-            return "자기계발";
-        }
-
-        // 경제/경영
-        if (lowerCategory.contains("경제") || lowerCategory.contains("경영") ||
-            lowerCategory.contains("재테크") || lowerCategory.contains("투자") ||
-            lowerCategory.contains("마케팅") || lowerCategory.contains("비즈니스")) {
-            return "경제/경영";
-        }
-
-        // 인문
-        if (lowerCategory.contains("인문") || lowerCategory.contains("철학") ||
-            lowerCategory.contains("심리") || lowerCategory.contains("사회") ||
-            lowerCategory.contains("교양")) {
-            return "인문";
-        }
-
-        // 역사
-        if (lowerCategory.contains("역사") || lowerCategory.contains("문화")) {
-            return "역사";
-        }
-
-        // 과학
-        if (lowerCategory.contains("과학") || lowerCategory.contains("수학") ||
-            lowerCategory.contains("물리") || lowerCategory.contains("화학") ||
-            lowerCategory.contains("생물") || lowerCategory.contains("자연")) {
-            return "과학";
-        }
-
-        // IT/컴퓨터
-        if (lowerCategory.contains("컴퓨터") || lowerCategory.contains("프로그래밍") ||
-            lowerCategory.contains("it") || lowerCategory.contains("개발") ||
-            lowerCategory.contains("코딩") || lowerCategory.contains("웹") ||
-            lowerCategory.contains("앱") || lowerCategory.contains("소프트웨어")) {
-            return "IT/컴퓨터";
-        }
-
-        // 기타
-        return "기타";
+    private BookSearchPage fetchPage(URI uri) {
+        return circuitBreakers.get(ProviderCircuitBreakers.KAKAO)
+                .execute(rateLimiters.get(ProviderCircuitBreakers.KAKAO),
+                        () -> restTemplate.execute(uri, HttpMethod.GET, null, response -> {
+                            try {
+                                return KakaoBookJsonParser.parsePage(response.getBody(), genreClassifier::classify);
+                            } catch (JsonProcessingException e) {
+                                System.out.println("=== JSON 파싱 에러: " + e.getOriginalMessage() + " ===");
+                                return null;
+                            }
+                        }));
     }
-}
\ No newline at end of file
+}
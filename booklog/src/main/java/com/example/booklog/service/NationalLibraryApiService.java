@@ -1,30 +1,43 @@
 package com.example.booklog.service;
 
+import com.example.booklog.cache.IsbnLookupCache;
 import com.example.booklog.entity.BookApiDto;
 import com.example.booklog.entity.RecommendedBookDto;
+import com.example.booklog.genre.GenreMapper;
+import com.example.booklog.parser.RecommendXmlParser;
+import com.example.booklog.resilience.ProviderCircuitBreakers;
+import com.example.booklog.resilience.ProviderRateLimiters;
+import com.example.booklog.resilience.ProviderUnavailableException;
+import com.example.booklog.util.IsbnUtils;
+import jakarta.annotation.PostConstruct;
 import org.json.JSONArray;
 import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import java.io.ByteArrayInputStream;
-import java.nio.charset.StandardCharsets;
+import javax.xml.stream.XMLStreamException;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
 public class NationalLibraryApiService {
@@ -35,9 +48,68 @@ public class NationalLibraryApiService {
     @Value("${nl.api.key}")
     private String apiKey;
     
-    private static final String RECOMMEND_API_URL = "https://nl.go.kr/NL/search/openApi/saseoApi.do";
+    // 제목/저자/출판사 검색 한 번에 가져올 결과 수
+    @Value("${nl.search.page-size:20}")
+    private int searchPageSize;
+    
+    // 백그라운드 갱신 시 가져올 사서 추천 도서 수
+    @Value("${nl.recommend.fetch-size:50}")
+    private int recommendFetchSize;
+    
+    // 사서추천 API 주소 (부하 테스트 시 로컬 대역 서버로 교체)
+    @Value("${nl.recommend.api.url:https://nl.go.kr/NL/search/openApi/saseoApi.do}")
+    private String recommendApiUrl;
    
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Autowired
+    @Qualifier("nlRestTemplate")
+    private RestTemplate restTemplate;
+    
+    @Autowired
+    private ProviderCircuitBreakers circuitBreakers;
+    
+    @Autowired
+    private ProviderRateLimiters rateLimiters;
+    
+    @Autowired
+    @Qualifier("providerExecutor")
+    private Executor providerExecutor;
+    
+    @Autowired
+    private GenreMapper genreMapper;
+    
+    // 받은 책은 로컬 카탈로그에 저장
+    @Autowired
+    private CatalogService catalogService;
+    
+    // ISBN 단건 조회 캐시 (찾지 못한 ISBN도 짧게 캐시)
+    @Value("${isbn.cache.max-size:5000}")
+    private int isbnCacheMaxSize;
+    
+    @Value("${isbn.cache.ttl-hours:168}")
+    private long isbnCacheTtlHours;
+    
+    @Value("${isbn.cache.negative-ttl-minutes:30}")
+    private long isbnCacheNegativeTtlMinutes;
+    
+    private IsbnLookupCache<BookApiDto> isbnCache;
+    
+    // 마지막으로 성공한 사서 추천 목록 (요청 처리 시에는 이 목록만 읽음)
+    private volatile List<RecommendedBookDto> latestRecommendedBooks = List.of();
+    private volatile LocalDateTime latestRecommendedRefreshedAt;
+    
+    @PostConstruct
+    public void initCache() {
+        isbnCache = new IsbnLookupCache<>(isbnCacheMaxSize,
+                Duration.ofHours(isbnCacheTtlHours),
+                Duration.ofMinutes(isbnCacheNegativeTtlMinutes));
+    }
+    
+    /**
+     * ISBN 캐시 통계
+     */
+    public Map<String, Object> getIsbnCacheStats() {
+        return isbnCache.stats();
+    }
     
     /**
      * HTTP 헤더 생성 (User-Agent 포함)
@@ -50,33 +122,54 @@ public class NationalLibraryApiService {
         return headers;
     }
     
+    /**
+     * 헤더 포함 GET 호출 (서킷 브레이커 경유)
+     */
+    private String getWithHeaders(String url) {
+        HttpEntity<String> entity = new HttpEntity<>(createHeaders());
+        return circuitBreakers.get(ProviderCircuitBreakers.NATIONAL_LIBRARY)
+                .execute(rateLimiters.get(ProviderCircuitBreakers.NATIONAL_LIBRARY),
+                        () -> restTemplate.exchange(url, HttpMethod.GET, entity, String.class).getBody());
+    }
+    
+    /**
+     * 검색 API URL (field = title, author, publisher, isbn)
+     */
+    String searchUrl(String field, String value, int pageSize) {
+        return UriComponentsBuilder.fromUriString(apiUrl)
+                .queryParam("cert_key", apiKey)
+                .queryParam("result_style", "json")
+                .queryParam("page_no", "1")
+                .queryParam("page_size", String.valueOf(pageSize))
+                .queryParam(field, value)
+                .build()
+                .encode()
+                .toUriString();
+    }
+    
+    int getSearchPageSize() {
+        return searchPageSize;
+    }
+    
     /**
      * 제목으로 책 검색
      */
     public List<BookApiDto> searchByTitle(String title) {
         try {
-            String url = UriComponentsBuilder.fromUriString(apiUrl)
-                    .queryParam("cert_key", apiKey)
-                    .queryParam("result_style", "json")
-                    .queryParam("page_no", "1")
-                    .queryParam("page_size", "20")
-                    .queryParam("title", title)
-                    .build()
-                    .encode()
-                    .toUriString();
+            String url = searchUrl("title", title, searchPageSize);
             
             System.out.println("=== 제목 검색 API 요청 ===");
             System.out.println("URL: " + url);
             
-            // 헤더 추가
-            HttpEntity<String> entity = new HttpEntity<>(createHeaders());
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
+            String responseBody = getWithHeaders(url);
             
-            String responseBody = response.getBody();
             System.out.println("응답 길이: " + (responseBody != null ? responseBody.length() : 0));
             
             return parseResponse(responseBody);
             
+        } catch (ProviderUnavailableException e) {
+            System.out.println("=== 제목 검색 생략: " + e.getMessage() + " ===");
+            return new ArrayList<>();
         } catch (Exception e) {
             System.out.println("=== 제목 검색 에러 ===");
             e.printStackTrace();
@@ -89,24 +182,17 @@ public class NationalLibraryApiService {
      */
     public List<BookApiDto> searchByAuthor(String author) {
         try {
-            String url = UriComponentsBuilder.fromUriString(apiUrl)
-                    .queryParam("cert_key", apiKey)
-                    .queryParam("result_style", "json")
-                    .queryParam("page_no", "1")
-                    .queryParam("page_size", "20")
-                    .queryParam("author", author)
-                    .build()
-                    .encode()
-                    .toUriString();
+            String url = searchUrl("author", author, searchPageSize);
             
             System.out.println("=== 저자 검색 API 요청 ===");
             
-            // 헤더 추가
-            HttpEntity<String> entity = new HttpEntity<>(createHeaders());
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
+            String responseBody = getWithHeaders(url);
             
-            return parseResponse(response.getBody());
+            return parseResponse(responseBody);
             
+        } catch (ProviderUnavailableException e) {
+            System.out.println("=== 저자 검색 생략: " + e.getMessage() + " ===");
+            return new ArrayList<>();
         } catch (Exception e) {
             System.out.println("=== 저자 검색 에러 ===");
             e.printStackTrace();
@@ -119,21 +205,11 @@ public class NationalLibraryApiService {
      */
     public List<BookApiDto> searchByPublisher(String publisher) {
         try {
-            String url = UriComponentsBuilder.fromUriString(apiUrl)
-                    .queryParam("cert_key", apiKey)
-                    .queryParam("result_style", "json")
-                    .queryParam("page_no", "1")
-                    .queryParam("page_size", "20")
-                    .queryParam("publisher", publisher)
-                    .build()
-                    .encode()
-                    .toUriString();
+            String url = searchUrl("publisher", publisher, searchPageSize);
             
-            // 헤더 추가
-            HttpEntity<String> entity = new HttpEntity<>(createHeaders());
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
+            String responseBody = getWithHeaders(url);
             
-            return parseResponse(response.getBody());
+            return parseResponse(responseBody);
             
         } catch (Exception e) {
             e.printStackTrace();
@@ -143,26 +219,36 @@ public class NationalLibraryApiService {
     
     /**
      * 제목 또는 저자로 통합 검색
+     * 제목 검색은 providerExecutor에서, 저자 검색은 호출 스레드에서 동시에 실행
      */
     public List<BookApiDto> search(String query) {
         System.out.println("=== 통합 검색 시작 ===");
         System.out.println("검색어: " + query);
         
-        List<BookApiDto> results = new ArrayList<>();
+        CompletableFuture<List<BookApiDto>> titleFuture = new CompletableFuture<>();
+        AtomicBoolean titleStarted = new AtomicBoolean(false);
+        Runnable titleTask = () -> {
+            // 풀 스레드와 호출 스레드 중 먼저 잡은 쪽만 실행
+            if (titleStarted.compareAndSet(false, true)) {
+                titleFuture.complete(searchByTitle(query));
+            }
+        };
+        try {
+            providerExecutor.execute(titleTask);
+        } catch (RejectedExecutionException e) {
+            System.out.println("제목 검색 작업 거절됨 → 호출 스레드에서 실행");
+        }
+        
+        List<BookApiDto> authorResults = searchByAuthor(query);
         
-        List<BookApiDto> titleResults = searchByTitle(query);
-        results.addAll(titleResults);
+        // 아직 풀에서 시작되지 않았으면 직접 실행 (풀이 가득 찬 경우 대기하지 않도록)
+        titleTask.run();
+        List<BookApiDto> titleResults = titleFuture.join();
         System.out.println("제목 검색 결과: " + titleResults.size() + "건");
+        System.out.println("저자 검색 결과: " + authorResults.size() + "건");
         
-        List<BookApiDto> authorResults = searchByAuthor(query);
-        for (BookApiDto book : authorResults) {
-            boolean exists = results.stream()
-                    .anyMatch(b -> b.getIsbn() != null && b.getIsbn().equals(book.getIsbn()));
-            if (!exists) {
-                results.add(book);
-            }
-        }
-        System.out.println("저자 검색 추가: " + authorResults.size() + "건");
+        List<BookApiDto> results = mergeByIsbn(titleResults, authorResults);
+        catalogService.recordBooks(ProviderCircuitBreakers.NATIONAL_LIBRARY, results);
         
         System.out.println("=== 최종 검색 결과: " + results.size() + "건 ===");
         
@@ -170,27 +256,47 @@ public class NationalLibraryApiService {
     }
     
     /**
-     * ISBN으로 책 상세 정보 검색
+     * ISBN 기준 중복 제거 병합 (입력 순서 유지, O(n + m))
+     * ISBN이 없는 책은 비교할 수 없으므로 모두 유지
+     */
+    static List<BookApiDto> mergeByIsbn(List<BookApiDto> first, List<BookApiDto> second) {
+        Map<String, BookApiDto> byIsbn = new LinkedHashMap<>(first.size() + second.size());
+        int noIsbnCount = 0;
+        
+        for (List<BookApiDto> books : List.of(first, second)) {
+            for (BookApiDto book : books) {
+                String isbn = IsbnUtils.normalize(book.getIsbn());
+                if (isbn == null) {
+                    byIsbn.put("#" + noIsbnCount++, book);
+                } else {
+                    byIsbn.putIfAbsent(isbn, book);
+                }
+            }
+        }
+        return new ArrayList<>(byIsbn.values());
+    }
+    
+    /**
+     * ISBN으로 책 상세 정보 검색 (메모리 캐시 → 로컬 카탈로그 → API 순서)
      */
     public BookApiDto getBookByIsbn(String isbn) {
+        return isbnCache.get(isbn, () -> catalogService.lookup(isbn, ProviderCircuitBreakers.NATIONAL_LIBRARY,
+                () -> fetchBookByIsbn(isbn)));
+    }
+    
+    /**
+     * ISBN 조회 API 호출
+     * 찾음 → Optional.of, 없음 → Optional.empty(), 에러 → null (캐시하지 않음)
+     */
+    private Optional<BookApiDto> fetchBookByIsbn(String isbn) {
         try {
-            String url = UriComponentsBuilder.fromUriString(apiUrl)
-                    .queryParam("cert_key", apiKey)
-                    .queryParam("result_style", "json")
-                    .queryParam("page_no", "1")
-                    .queryParam("page_size", "1")
-                    .queryParam("isbn", isbn)
-                    .build()
-                    .encode()
-                    .toUriString();
+            String url = searchUrl("isbn", isbn, 1);
             
-            // 헤더 추가
-            HttpEntity<String> entity = new HttpEntity<>(createHeaders());
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
+            String responseBody = getWithHeaders(url);
             
-            List<BookApiDto> books = parseResponse(response.getBody());
+            List<BookApiDto> books = parseResponse(responseBody);
             
-            return books.isEmpty() ? null : books.get(0);
+            return books.isEmpty() ? Optional.empty() : Optional.of(books.get(0));
             
         } catch (Exception e) {
             e.printStackTrace();
@@ -201,7 +307,7 @@ public class NationalLibraryApiService {
     /**
      * JSON 응답 파싱
      */
-    private List<BookApiDto> parseResponse(String jsonResponse) {
+    List<BookApiDto> parseResponse(String jsonResponse) {
         List<BookApiDto> books = new ArrayList<>();
         
         try {
@@ -230,7 +336,8 @@ public class NationalLibraryApiService {
                     book.setCoverUrl(doc.optString("TITLE_URL", ""));
                     book.setPublishDate(doc.optString("PUBLISH_PREDATE", ""));
                     book.setPage(doc.optString("PAGE", ""));
-                    book.setSubject(doc.optString("SUBJECT", ""));
+                    // SUBJECT는 KDC 코드 → 장르명으로 변환
+                    book.setSubject(genreMapper.map(doc.optString("SUBJECT", "")));
                     
                     if (book.getCoverUrl() == null || book.getCoverUrl().isEmpty()) {
                         book.setCoverUrl(null);
@@ -255,13 +362,55 @@ public class NationalLibraryApiService {
     /**
      * 최신 사서 추천 도서 가져오기 (날짜별 랜덤)
      * 같은 날에는 같은 책들이 보이고, 다음 날에는 다른 책들이 보임
+     * 외부 API를 호출하지 않고 백그라운드에서 갱신해 둔 목록만 사용
      */
     public List<RecommendedBookDto> getLatestRecommendedBooks(int count) {
-        try {
-            // API에서 더 많은 책을 가져와서 랜덤으로 선택
-            int fetchCount = Math.max(count * 10, 50); // 최소 50개 또는 요청 수의 10배
+        // 공유 목록이므로 복사본을 섞음
+        List<RecommendedBookDto> allBooks = new ArrayList<>(latestRecommendedBooks);
+
+        // 날짜 기반 시드로 랜덤 섞기 (매일 바뀜, 하루 동안은 고정)
+        if (allBooks.size() > count) {
+            long seed = LocalDate.now().toEpochDay(); // 오늘 날짜를 시드로 사용
+            Collections.shuffle(allBooks, new java.util.Random(seed));
+            return new ArrayList<>(allBooks.subList(0, count));
+        }
+
+        return allBooks;
+    }
+
+    /**
+     * 사서 추천 목록 백그라운드 갱신
+     * 실패하거나 빈 응답이면 기존 목록을 그대로 유지 (stale-while-revalidate)
+     */
+    @Scheduled(initialDelayString = "${nl.recommend.initial-delay-ms:0}",
+               fixedDelayString = "${nl.recommend.refresh-interval-ms:1800000}")
+    public void refreshRecommendedBooks() {
+        List<RecommendedBookDto> books = fetchRecommendedBooks(recommendFetchSize);
+
+        if (books.isEmpty()) {
+            System.out.println("=== 사서추천 갱신 실패, 기존 목록 유지 (" + latestRecommendedBooks.size() + "권) ===");
+            return;
+        }
 
-            String url = UriComponentsBuilder.fromUriString(RECOMMEND_API_URL)
+        latestRecommendedBooks = List.copyOf(books);
+        catalogService.recordRecommendedBooks(latestRecommendedBooks);
+        latestRecommendedRefreshedAt = LocalDateTime.now();
+        System.out.println("=== 사서추천 갱신 완료: " + books.size() + "권 ===");
+    }
+
+    /**
+     * 마지막으로 사서 추천 목록을 갱신한 시각 (한 번도 성공하지 못했으면 null)
+     */
+    public LocalDateTime getRecommendedRefreshedAt() {
+        return latestRecommendedRefreshedAt;
+    }
+
+    /**
+     * 사서추천 API 호출 (실패 시 빈 목록)
+     */
+    private List<RecommendedBookDto> fetchRecommendedBooks(int fetchCount) {
+        try {
+            String url = UriComponentsBuilder.fromUriString(recommendApiUrl)
                     .queryParam("key", apiKey)
                     .queryParam("startRowNumApi", "1")
                     .queryParam("endRowNumApi", String.valueOf(fetchCount))
@@ -269,26 +418,13 @@ public class NationalLibraryApiService {
                     .encode()
                     .toUriString();
 
-            System.out.println("=== 사서추천 API 요청 (랜덤 선택) ===");
-
-            String response = restTemplate.getForObject(url, String.class);
-
-            if (response == null || response.trim().isEmpty()) {
-                System.out.println("사서추천 API 응답 없음");
-                return new ArrayList<>();
-            }
+            System.out.println("=== 사서추천 API 요청 (백그라운드 갱신) ===");
 
-            List<RecommendedBookDto> allBooks = parseRecommendXmlResponse(response);
-
-            // 날짜 기반 시드로 랜덤 섞기 (매일 바뀜, 하루 동안은 고정)
-            if (allBooks.size() > count) {
-                long seed = LocalDate.now().toEpochDay(); // 오늘 날짜를 시드로 사용
-                Collections.shuffle(allBooks, new java.util.Random(seed));
-                return allBooks.subList(0, count);
-            }
-
-            return allBooks;
+            return fetchRecommendXml(url);
 
+        } catch (ProviderUnavailableException e) {
+            System.out.println("=== 사서추천 API 호출 생략: " + e.getMessage() + " ===");
+            return new ArrayList<>();
         } catch (Exception e) {
             System.out.println("=== 사서추천 API 에러 ===");
             e.printStackTrace();
@@ -309,7 +445,7 @@ public class NationalLibraryApiService {
             String startDate = firstDay.format(formatter);
             String endDate = lastDay.format(formatter);
             
-            String url = UriComponentsBuilder.fromUriString(RECOMMEND_API_URL)
+            String url = UriComponentsBuilder.fromUriString(recommendApiUrl)
                     .queryParam("key", apiKey)
                     .queryParam("startRowNumApi", "1")
                     .queryParam("endRowNumApi", String.valueOf(count))
@@ -319,8 +455,7 @@ public class NationalLibraryApiService {
                     .encode()
                     .toUriString();
             
-            String response = restTemplate.getForObject(url, String.class);
-            return parseRecommendXmlResponse(response);
+            return fetchRecommendXml(url);
             
         } catch (Exception e) {
             e.printStackTrace();
@@ -333,7 +468,7 @@ public class NationalLibraryApiService {
      */
     public List<RecommendedBookDto> getRecommendedBooksByCategory(String categoryCode, int count) {
         try {
-            String url = UriComponentsBuilder.fromUriString(RECOMMEND_API_URL)
+            String url = UriComponentsBuilder.fromUriString(recommendApiUrl)
                     .queryParam("key", apiKey)
                     .queryParam("startRowNumApi", "1")
                     .queryParam("endRowNumApi", String.valueOf(count))
@@ -342,8 +477,7 @@ public class NationalLibraryApiService {
                     .encode()
                     .toUriString();
             
-            String response = restTemplate.getForObject(url, String.class);
-            return parseRecommendXmlResponse(response);
+            return fetchRecommendXml(url);
             
         } catch (Exception e) {
             e.printStackTrace();
@@ -352,90 +486,22 @@ public class NationalLibraryApiService {
     }
     
     /**
-     * 사서추천도서 XML 응답 파싱
-     */
-    private List<RecommendedBookDto> parseRecommendXmlResponse(String xmlResponse) {
-        List<RecommendedBookDto> books = new ArrayList<>();
-        
-        try {
-            System.out.println("=== XML 파싱 시작 ===");
-            
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            Document doc = builder.parse(new ByteArrayInputStream(xmlResponse.getBytes(StandardCharsets.UTF_8)));
-            
-            doc.getDocumentElement().normalize();
-            
-            NodeList totalCountNodes = doc.getElementsByTagName("totalCount");
-            if (totalCountNodes.getLength() > 0) {
-                String totalCount = totalCountNodes.item(0).getTextContent();
-                System.out.println("총 추천 도서 수: " + totalCount);
-            }
-            
-            NodeList itemList = doc.getElementsByTagName("item");
-            System.out.println("item 개수: " + itemList.getLength());
-            
-            for (int i = 0; i < itemList.getLength(); i++) {
-                Element item = (Element) itemList.item(i);
-                
-                RecommendedBookDto book = new RecommendedBookDto();
-                
-                // 올바른 태그 이름 사용
-                String title = getTagValue("recomtitle", item);
-                String author = getTagValue("recomauthor", item);
-                String publisher = getTagValue("recompublisher", item);
-                String isbn = getTagValue("recomisbn", item);
-                
-                System.out.println("추천 책 " + (i+1) + ": " + title);
-                
-                book.setTitle(title);
-                book.setAuthor(author);
-                book.setPublisher(publisher);
-                book.setIsbn(isbn);
-                book.setCoverUrl(getTagValue("recomfilepath", item));
-                book.setContents(getTagValue("recomcontens", item));
-                book.setCategory(getTagValue("drCodeName", item));
-                book.setCategoryCode(getTagValue("drCode", item));
-                
-                String publishYear = getTagValue("publishYear", item);
-                if (publishYear != null && !publishYear.isEmpty()) {
-                    try {
-                        book.setPublishYear(Integer.parseInt(publishYear));
-                    } catch (NumberFormatException e) {
-                        book.setPublishYear(0);
-                    }
-                }
-                
-                if (book.getCoverUrl() == null || book.getCoverUrl().isEmpty()) {
-                    book.setCoverUrl(null);
-                }
-                
-                books.add(book);
-            }
-            
-            System.out.println("=== 파싱 완료: " + books.size() + "권 ===");
-            
-        } catch (Exception e) {
-            System.out.println("=== XML 파싱 에러 ===");
-            e.printStackTrace();
-        }
-        
-        return books;
-    }
-    
-    /**
-     * XML 태그 값 가져오기 헬퍼 메서드
+     * 사서추천 API 호출 + XML 스트리밍 파싱 (서킷 브레이커 경유)
+     * 응답 본문을 문자열로 모으지 않고 바로 파서에 넘김
      */
-    private String getTagValue(String tag, Element element) {
-        try {
-            NodeList nodeList = element.getElementsByTagName(tag);
-            if (nodeList.getLength() > 0) {
-                String value = nodeList.item(0).getTextContent();
-                return value != null && !value.trim().isEmpty() ? value : "";
-            }
-        } catch (Exception e) {
-            // 태그 없음
-        }
-        return "";
+    private List<RecommendedBookDto> fetchRecommendXml(String url) {
+        return circuitBreakers.get(ProviderCircuitBreakers.NATIONAL_LIBRARY)
+                .execute(rateLimiters.get(ProviderCircuitBreakers.NATIONAL_LIBRARY),
+                        () -> restTemplate.execute(url, HttpMethod.GET, null, response -> {
+                            try {
+                                List<RecommendedBookDto> books = RecommendXmlParser.parse(response.getBody());
+                                System.out.println("=== 사서추천 파싱 완료: " + books.size() + "권 ===");
+                                return books;
+                            } catch (XMLStreamException e) {
+                                // 응답 형식 오류는 장애로 보지 않고 빈 목록 처리
+                                System.out.println("=== XML 파싱 에러: " + e.getMessage() + " ===");
+                                return new ArrayList<>();
+                            }
+                        }));
     }
-}
\ No newline at end of file
+}
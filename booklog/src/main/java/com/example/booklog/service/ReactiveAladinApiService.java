@@ -0,0 +1,145 @@
+package com.example.booklog.service;
+
+import com.example.booklog.cache.TtlCache;
+import com.example.booklog.entity.AladinBookDto;
+import com.example.booklog.parser.AladinBookJsonParser;
+import com.example.booklog.resilience.ProviderCircuitBreakers;
+import com.example.booklog.resilience.ProviderRateLimiters;
+import com.example.booklog.resilience.ProviderUnavailableException;
+import com.example.booklog.resilience.ReactiveResilience;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 알라딘 목록/검색 (WebClient 비동기 버전)
+ * - 목록 캐시와 날짜별 선택 규칙은 AladinApiService와 공유
+ * - 캐시 미스 시 같은 목록의 동시 요청은 진행 중인 Mono 하나를 함께 구독
+ */
+@Service
+public class ReactiveAladinApiService {
+
+    @Autowired
+    @Qualifier("aladinWebClient")
+    private WebClient webClient;
+
+    @Autowired
+    private AladinApiService aladinApiService;
+
+    @Autowired
+    private ProviderCircuitBreakers circuitBreakers;
+
+    @Autowired
+    private ProviderRateLimiters rateLimiters;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    // queryType별 진행 중인 목록 호출
+    private final Map<String, Mono<List<AladinBookDto>>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 베스트셀러 가져오기 (날짜별 랜덤)
+     */
+    public Mono<List<AladinBookDto>> getBestsellers(int count) {
+        return getBookList("Bestseller", count);
+    }
+
+    /**
+     * 신간 도서 가져오기 (날짜별 랜덤)
+     */
+    public Mono<List<AladinBookDto>> getNewBooks(int count) {
+        return getBookList("ItemNewAll", count);
+    }
+
+    /**
+     * 키워드 검색 (에러 시 빈 목록)
+     */
+    public Mono<List<AladinBookDto>> search(String query, int maxResults) {
+        return fetchItems(aladinApiService.itemSearchUrl(query, maxResults))
+                .doOnNext(catalogService::recordAladinBooks)
+                .onErrorResume(e -> {
+                    logError("알라딘 검색", e);
+                    return Mono.just(new ArrayList<>());
+                });
+    }
+
+    /**
+     * 목록 조회 (캐시 → 진행 중인 호출 → API 순서)
+     * API 실패 시 만료된 목록, 그것도 없으면 빈 목록
+     */
+    private Mono<List<AladinBookDto>> getBookList(String queryType, int count) {
+        TtlCache<String, List<AladinBookDto>> listCache = aladinApiService.getListCache();
+
+        List<AladinBookDto> cachedBooks = listCache.get(queryType);
+        if (cachedBooks != null) {
+            return Mono.just(AladinApiService.pickForToday(cachedBooks, count));
+        }
+
+        String url = aladinApiService.itemListUrl(queryType, AladinApiService.fetchCountFor(count));
+        return inFlight.computeIfAbsent(queryType, key -> fetchItems(url)
+                        .doOnNext(books -> {
+                            catalogService.recordAladinBooks(books);
+                            // 결과가 없으면 캐시하지 않음
+                            if (!books.isEmpty()) {
+                                listCache.put(key, List.copyOf(books));
+                            }
+                        })
+                        .doFinally(signal -> inFlight.remove(key))
+                        .cache())
+                .onErrorResume(e -> {
+                    logError("알라딘 API", e);
+                    return Mono.empty();
+                })
+                .filter(books -> !books.isEmpty())
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    List<AladinBookDto> stale = listCache.getStale(queryType);
+                    return stale != null ? stale : new ArrayList<>();
+                }))
+                .map(books -> AladinApiService.pickForToday(books, count));
+    }
+
+    /**
+     * API 호출 + JSON 스트리밍 파싱 (서킷 브레이커 경유)
+     * 응답이 비었거나 형식이 잘못되면 빈 목록
+     */
+    private Mono<List<AladinBookDto>> fetchItems(String url) {
+        URI uri = URI.create(url);
+        return ReactiveResilience.guard(circuitBreakers.get(ProviderCircuitBreakers.ALADIN),
+                        rateLimiters.get(ProviderCircuitBreakers.ALADIN),
+                        () -> webClient.get().uri(uri).retrieve().bodyToMono(byte[].class))
+                .map(this::parse)
+                .defaultIfEmpty(new ArrayList<>());
+    }
+
+    private List<AladinBookDto> parse(byte[] body) {
+        try {
+            return AladinBookJsonParser.parse(new ByteArrayInputStream(body));
+        } catch (JsonProcessingException e) {
+            System.out.println("=== JSON 파싱 에러: " + e.getOriginalMessage() + " ===");
+            return new ArrayList<>();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void logError(String label, Throwable e) {
+        if (e instanceof ProviderUnavailableException) {
+            System.out.println("=== " + label + " 호출 생략: " + e.getMessage() + " ===");
+        } else {
+            System.out.println("=== " + label + " 에러: " + e + " ===");
+        }
+    }
+}
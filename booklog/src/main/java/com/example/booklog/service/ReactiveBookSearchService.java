@@ -0,0 +1,127 @@
+package com.example.booklog.service;
+
+import com.example.booklog.entity.BookApiDto;
+import com.example.booklog.resilience.ProviderCircuitBreakers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuples;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 비동기 제공자 서비스 조합 (통합 검색, 사이드 패널)
+ * - 제공자 호출을 기다리는 동안 요청 스레드를 점유하지 않음
+ * - 마감 시간과 부분 결과 규칙은 FederatedBookSearchService, BookSidePanelService와 같음
+ * - 마감 시간이 지나도 진행 중인 호출은 계속되어 캐시를 채움 (공유 Mono를 구독만 해제)
+ */
+@Service
+public class ReactiveBookSearchService {
+
+    private static final int PANEL_SIZE = 5;
+
+    private static final int ALADIN_MAX_RESULTS = 20;
+
+    @Autowired
+    private ReactiveKakaoBookApiService kakaoApiService;
+
+    @Autowired
+    private ReactiveNationalLibraryApiService nlApiService;
+
+    @Autowired
+    private ReactiveAladinApiService aladinApiService;
+
+    // 순위 합산 병합, 알라딘 → 공통 DTO 변환 공유
+    @Autowired
+    private FederatedBookSearchService federatedSearchService;
+
+    @Value("${books.federated-search.deadline-ms:2500}")
+    private long searchDeadlineMs;
+
+    @Value("${books.federated-search.providers:kakao,nl,aladin}")
+    private List<String> providers;
+
+    @Value("${books.side-panel.deadline-ms:1500}")
+    private long sidePanelDeadlineMs;
+
+    /**
+     * 책 검색 (mode = "federated"면 통합 검색, 그 외에는 카카오)
+     */
+    public Mono<List<BookApiDto>> search(String query, String mode) {
+        if (!"federated".equals(mode)) {
+            return kakaoApiService.search(query);
+        }
+
+        Duration deadline = Duration.ofMillis(searchDeadlineMs);
+
+        // 제공자 순서를 유지해야 같은 책일 때 앞선 제공자 정보가 우선
+        List<String> requested = providers.stream().map(String::trim).collect(Collectors.toList());
+        return Flux.fromIterable(requested)
+                .flatMapSequential(provider -> searchProvider(provider, query)
+                        .timeout(deadline)
+                        .onErrorResume(e -> {
+                            System.out.println("=== 통합 검색 시간 초과/에러: " + provider + " ===");
+                            return Mono.just(new ArrayList<>());
+                        })
+                        .map(books -> Tuples.of(provider, books)))
+                .filter(result -> !result.getT2().isEmpty())
+                .collectMap(result -> result.getT1(), result -> result.getT2(), LinkedHashMap::new)
+                .map(results -> {
+                    System.out.println("=== 통합 검색 완료: " + results.keySet() + " / 요청 " + requested + " ===");
+                    return federatedSearchService.merge(results);
+                });
+    }
+
+    /**
+     * 사이드 패널 세 개 (사서 추천 / 베스트셀러 / 신간)
+     * 마감 시간 안에 끝나지 않은 패널은 빈 목록
+     */
+    public Mono<Map<String, Object>> sidePanels() {
+        Duration deadline = Duration.ofMillis(sidePanelDeadlineMs);
+
+        return Mono.zip(
+                        panel(nlApiService.getLatestRecommendedBooks(PANEL_SIZE), deadline, "사서 추천"),
+                        panel(aladinApiService.getBestsellers(PANEL_SIZE), deadline, "베스트셀러"),
+                        panel(aladinApiService.getNewBooks(PANEL_SIZE), deadline, "신간"))
+                .map(panels -> {
+                    Map<String, Object> result = new LinkedHashMap<>();
+                    result.put("recommendedBooks", panels.getT1());
+                    result.put("bestsellers", panels.getT2());
+                    result.put("newBooks", panels.getT3());
+                    return result;
+                });
+    }
+
+    private Mono<List<BookApiDto>> searchProvider(String provider, String query) {
+        switch (provider) {
+            case ProviderCircuitBreakers.KAKAO:
+                return kakaoApiService.search(query);
+            case ProviderCircuitBreakers.NATIONAL_LIBRARY:
+                return nlApiService.search(query);
+            case ProviderCircuitBreakers.ALADIN:
+                return aladinApiService.search(query, ALADIN_MAX_RESULTS)
+                        .map(books -> books.stream()
+                                .map(federatedSearchService::fromAladin)
+                                .collect(Collectors.toList()));
+            default:
+                System.out.println("알 수 없는 검색 제공자: " + provider);
+                return Mono.just(new ArrayList<>());
+        }
+    }
+
+    private <T> Mono<List<T>> panel(Mono<List<T>> books, Duration deadline, String panelName) {
+        return books
+                .timeout(deadline)
+                .onErrorResume(e -> {
+                    System.out.println("=== 사이드 패널 시간 초과/에러: " + panelName + " ===");
+                    return Mono.just(new ArrayList<>());
+                });
+    }
+}
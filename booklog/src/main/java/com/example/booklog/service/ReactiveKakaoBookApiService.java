@@ -0,0 +1,143 @@
+package com.example.booklog.service;
+
+import com.example.booklog.entity.BookApiDto;
+import com.example.booklog.entity.BookSearchPage;
+import com.example.booklog.genre.GenreClassifier;
+import com.example.booklog.parser.KakaoBookJsonParser;
+import com.example.booklog.resilience.ProviderCircuitBreakers;
+import com.example.booklog.resilience.ProviderRateLimiters;
+import com.example.booklog.resilience.ProviderUnavailableException;
+import com.example.booklog.resilience.ReactiveResilience;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 카카오 책 검색 (WebClient 비동기 버전)
+ * - 검색 캐시는 KakaoBookApiService와 공유
+ * - 같은 검색어의 동시 요청은 진행 중인 Mono 하나를 함께 구독
+ */
+@Service
+public class ReactiveKakaoBookApiService {
+
+    @Value("${kakao.api.url}")
+    private String apiUrl;
+
+    // 인증 헤더가 설정된 공용 WebClient (WebClientConfig)
+    @Autowired
+    @Qualifier("kakaoWebClient")
+    private WebClient webClient;
+
+    @Autowired
+    private KakaoBookApiService kakaoApiService;
+
+    @Autowired
+    private ProviderCircuitBreakers circuitBreakers;
+
+    @Autowired
+    private ProviderRateLimiters rateLimiters;
+
+    @Autowired
+    private GenreClassifier genreClassifier;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    // 검색어별 진행 중인 호출
+    private final Map<String, Mono<BookSearchPage>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 책 검색 - 첫 페이지 최대 크기 (통합 검색용)
+     */
+    public Mono<List<BookApiDto>> search(String query) {
+        return search(query, 1, KakaoBookApiService.MAX_PAGE_SIZE).map(BookSearchPage::getBooks);
+    }
+
+    /**
+     * 책 검색 한 페이지 (캐시 → 진행 중인 호출 → API 순서)
+     * API 에러/호출 한도 초과 시 만료된 검색 결과, 그것도 없으면 빈 페이지
+     * MAX_PAGE 초과는 호출 없이 마지막 페이지로 응답
+     */
+    public Mono<BookSearchPage> search(String query, int page, int size) {
+        int safeSize = Math.max(1, Math.min(size, KakaoBookApiService.MAX_PAGE_SIZE));
+        if (page > KakaoBookApiService.MAX_PAGE) {
+            return Mono.just(BookSearchPage.empty(page, safeSize));
+        }
+        int safePage = Math.max(1, page);
+        String key = KakaoBookApiService.cacheKey(query, safePage, safeSize);
+
+        BookSearchPage cached = kakaoApiService.getSearchCache().get(key);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+
+        return inFlight.computeIfAbsent(key, k -> fetchSearch(query, safePage, safeSize)
+                        .doOnNext(result -> kakaoApiService.getSearchCache().put(k, result))
+                        .doFinally(signal -> inFlight.remove(k))
+                        .cache())
+                .onErrorResume(e -> {
+                    logError(e);
+                    BookSearchPage stale = kakaoApiService.getSearchCache().getStale(key);
+                    return Mono.just(stale != null ? stale : BookSearchPage.empty(safePage, safeSize));
+                });
+    }
+
+    private Mono<BookSearchPage> fetchSearch(String query, int page, int size) {
+        URI uri = UriComponentsBuilder.fromUriString(apiUrl)
+                .queryParam("query", "{query}")
+                .queryParam("page", page)
+                .queryParam("size", size)
+                .encode()
+                .buildAndExpand(query)
+                .toUri();
+
+        return ReactiveResilience.guard(circuitBreakers.get(ProviderCircuitBreakers.KAKAO),
+                        rateLimiters.get(ProviderCircuitBreakers.KAKAO),
+                        () -> webClient.get().uri(uri).retrieve().bodyToMono(byte[].class))
+                .map(this::parse)
+                .defaultIfEmpty(BookSearchPage.empty(page, size))
+                .map(result -> {
+                    catalogService.recordBooks(ProviderCircuitBreakers.KAKAO, result.getBooks());
+                    result.setBooks(List.copyOf(result.getBooks()));
+                    result.setPage(page);
+                    result.setSize(size);
+                    KakaoBookApiService.markLastPage(result);
+                    return result;
+                });
+    }
+
+    /**
+     * 응답 형식 오류는 장애로 보지 않음 (서킷 브레이커 밖에서 파싱), 결과를 캐시하지 않도록 에러로 전달
+     */
+    private BookSearchPage parse(byte[] body) {
+        try {
+            return KakaoBookJsonParser.parsePage(new ByteArrayInputStream(body), genreClassifier::classify);
+        } catch (JsonProcessingException e) {
+            // 에러로 넘겨 캐시하지 않고 만료된 검색 결과(없으면 빈 페이지)로 대체
+            throw new IllegalStateException("JSON 파싱 에러: " + e.getOriginalMessage(), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void logError(Throwable e) {
+        if (e instanceof ProviderUnavailableException) {
+            System.out.println("=== 카카오 API 호출 생략: " + e.getMessage() + " ===");
+        } else {
+            System.out.println("=== 카카오 API 에러: " + e + " ===");
+        }
+    }
+}
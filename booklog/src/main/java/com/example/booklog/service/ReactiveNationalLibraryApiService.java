@@ -0,0 +1,83 @@
+package com.example.booklog.service;
+
+import com.example.booklog.entity.BookApiDto;
+import com.example.booklog.entity.RecommendedBookDto;
+import com.example.booklog.resilience.ProviderCircuitBreakers;
+import com.example.booklog.resilience.ProviderRateLimiters;
+import com.example.booklog.resilience.ProviderUnavailableException;
+import com.example.booklog.resilience.ReactiveResilience;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 국립중앙도서관 검색 (WebClient 비동기 버전)
+ * - 제목/저자 검색을 동시에 보내고, 둘 다 도착하면 ISBN 기준으로 병합
+ * - URL 생성과 응답 파싱은 NationalLibraryApiService와 공유
+ */
+@Service
+public class ReactiveNationalLibraryApiService {
+
+    // User-Agent 등 헤더가 설정된 공용 WebClient (WebClientConfig)
+    @Autowired
+    @Qualifier("nlWebClient")
+    private WebClient webClient;
+
+    @Autowired
+    private NationalLibraryApiService nlApiService;
+
+    @Autowired
+    private ProviderCircuitBreakers circuitBreakers;
+
+    @Autowired
+    private ProviderRateLimiters rateLimiters;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    /**
+     * 제목 또는 저자로 통합 검색
+     */
+    public Mono<List<BookApiDto>> search(String query) {
+        return Mono.zip(searchBy("title", query), searchBy("author", query))
+                .map(results -> {
+                    List<BookApiDto> books = NationalLibraryApiService.mergeByIsbn(results.getT1(), results.getT2());
+                    catalogService.recordBooks(ProviderCircuitBreakers.NATIONAL_LIBRARY, books);
+                    return books;
+                });
+    }
+
+    /**
+     * 사서 추천 도서 (백그라운드에서 갱신해 둔 목록이라 API를 호출하지 않음)
+     */
+    public Mono<List<RecommendedBookDto>> getLatestRecommendedBooks(int count) {
+        return Mono.fromSupplier(() -> nlApiService.getLatestRecommendedBooks(count));
+    }
+
+    /**
+     * 항목별 검색 (에러 시 빈 목록)
+     */
+    private Mono<List<BookApiDto>> searchBy(String field, String value) {
+        URI uri = URI.create(nlApiService.searchUrl(field, value, nlApiService.getSearchPageSize()));
+
+        return ReactiveResilience.guard(circuitBreakers.get(ProviderCircuitBreakers.NATIONAL_LIBRARY),
+                        rateLimiters.get(ProviderCircuitBreakers.NATIONAL_LIBRARY),
+                        () -> webClient.get().uri(uri).retrieve().bodyToMono(String.class))
+                .map(nlApiService::parseResponse)
+                .defaultIfEmpty(new ArrayList<>())
+                .onErrorResume(e -> {
+                    if (e instanceof ProviderUnavailableException) {
+                        System.out.println("=== " + field + " 검색 생략: " + e.getMessage() + " ===");
+                    } else {
+                        System.out.println("=== " + field + " 검색 에러: " + e + " ===");
+                    }
+                    return Mono.just(new ArrayList<>());
+                });
+    }
+}
@@ -0,0 +1,457 @@
+package com.example.booklog.suggest;
+
+import com.example.booklog.entity.SuggestionDto;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 제목/저자 자동완성용 압축 접두어 트리 (radix tree)
+ * - 키: 소문자 + 글자/숫자만 남긴 문자열, 단어 시작 위치마다 따로 등록 ("해리 포터" → "해리포터", "포터")
+ * - 노드마다 하위 트리의 상위 N개 후보를 미리 계산해 두어, 조회는 접두어 길이만큼만 내려감
+ * - 출처(책 id, 카탈로그 ISBN) 단위로 등록/삭제하며, 같은 제목을 가진 출처 수가 순위 점수
+ * - 조회는 읽기 락, 갱신은 쓰기 락
+ */
+public class PrefixIndex {
+
+    public static final String TITLE = "title";
+    public static final String AUTHOR = "author";
+
+    // 단어 시작 위치 등록 상한 (긴 제목의 키 폭증 방지)
+    private static final int MAX_WORD_STARTS = 8;
+
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    // 출처 수 많은 순 → 짧은 순 → 가나다순 (정규화 문자열 기준)
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingInt((Entry e) -> -e.count)
+            .thenComparingInt(e -> e.keys.get(0).length())
+            .thenComparing(e -> e.keys.get(0))
+            .thenComparing(e -> e.id);
+
+    // 자동완성 후보 하나 (같은 종류 + 같은 정규화 단어열이면 하나로 합침)
+    private static final class Entry {
+        private final String id;
+        private final String type;
+        private final String text;
+        private final List<String> keys;
+        private int count;
+
+        private Entry(String id, String type, String text, List<String> keys) {
+            this.id = id;
+            this.type = type;
+            this.text = text;
+            this.keys = keys;
+        }
+    }
+
+    private static final class Node {
+        private String label;
+        private Map<Character, Node> children;
+        private List<Entry> entries;
+        private Entry[] top = NO_ENTRIES;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private Node child(char c) {
+            return children == null ? null : children.get(c);
+        }
+
+        private void putChild(Node child) {
+            if (children == null) {
+                children = new HashMap<>(4);
+            }
+            children.put(child.label.charAt(0), child);
+        }
+
+        private boolean hasEntries() {
+            return entries != null && !entries.isEmpty();
+        }
+
+        private int childCount() {
+            return children == null ? 0 : children.size();
+        }
+    }
+
+    private final int topSize;
+    private final Node root = new Node("");
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Map<String, List<Entry>> sources = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private int nodeCount = 1;
+
+    public PrefixIndex(int topSize) {
+        this.topSize = Math.max(1, topSize);
+    }
+
+    /**
+     * 출처 등록 (이미 있으면 새 제목/저자로 교체)
+     */
+    public void put(String sourceId, String title, String author) {
+        List<Entry> incoming = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            for (Map.Entry<String, String> term : terms(title, author).entrySet()) {
+                incoming.add(acquire(term.getKey(), term.getValue()));
+            }
+            List<Entry> previous = sources.put(sourceId, incoming);
+            if (previous != null) {
+                previous.forEach(this::release);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 없는 출처만 등록 (초기 적재 중 들어온 최신 갱신을 덮어쓰지 않음)
+     */
+    public boolean putIfAbsent(String sourceId, String title, String author) {
+        lock.writeLock().lock();
+        try {
+            if (sources.containsKey(sourceId)) {
+                return false;
+            }
+            put(sourceId, title, author);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 출처 삭제
+     */
+    public void remove(String sourceId) {
+        lock.writeLock().lock();
+        try {
+            List<Entry> previous = sources.remove(sourceId);
+            if (previous != null) {
+                previous.forEach(this::release);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 제목/저자 (최대 limit개, 노드에 미리 계산된 순위 그대로)
+     */
+    public List<SuggestionDto> suggest(String query, int limit) {
+        String key = queryKey(query);
+        if (key.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int i = 0;
+            while (i < key.length()) {
+                Node child = node.child(key.charAt(i));
+                if (child == null) {
+                    return new ArrayList<>();
+                }
+                int rest = key.length() - i;
+                int match = Math.min(rest, child.label.length());
+                if (!key.regionMatches(i, child.label, 0, match)) {
+                    return new ArrayList<>();
+                }
+                i += match;
+                node = child;
+            }
+
+            int n = Math.min(limit, node.top.length);
+            List<SuggestionDto> result = new ArrayList<>(n);
+            for (int j = 0; j < n; j++) {
+                Entry entry = node.top[j];
+                result.add(new SuggestionDto(entry.text, entry.type, entry.count));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int sourceCount() {
+        lock.readLock().lock();
+        try {
+            return sources.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int nodeCount() {
+        lock.readLock().lock();
+        try {
+            return nodeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 후보 비교용 정규화 (같은 후보로 합쳐지는 제목/저자는 같은 값)
+     */
+    public static String normalize(String text) {
+        return String.join(" ", tokens(text));
+    }
+
+    /**
+     * 색인 키 (단어 시작 위치마다 하나, 첫 키는 전체 문자열)
+     */
+    static List<String> keys(String text) {
+        List<String> tokens = tokens(text);
+        List<String> keys = new ArrayList<>();
+        int starts = Math.min(tokens.size(), MAX_WORD_STARTS);
+        for (int i = 0; i < starts; i++) {
+            String key = String.join("", tokens.subList(i, tokens.size()));
+            if (!keys.contains(key)) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 검색어 정규화 (입력 중인 한글 자음/모음 하나로 끝나면 떼고 조회)
+     */
+    static String queryKey(String query) {
+        if (query == null) {
+            return "";
+        }
+        String trimmed = query.trim();
+        int end = trimmed.length();
+        while (end > 0 && isCompatibilityJamo(trimmed.charAt(end - 1))) {
+            end--;
+        }
+        return String.join("", tokens(trimmed.substring(0, end)));
+    }
+
+    // 종류 + 정규화 단어열 → 원문 (저자는 쉼표로 나눠 각각)
+    private Map<String, String> terms(String title, String author) {
+        Map<String, String> terms = new LinkedHashMap<>();
+        addTerm(terms, TITLE, title);
+        if (author != null) {
+            for (String name : author.split(",")) {
+                addTerm(terms, AUTHOR, name);
+            }
+        }
+        return terms;
+    }
+
+    private void addTerm(Map<String, String> terms, String type, String text) {
+        if (text == null || text.trim().isEmpty()) {
+            return;
+        }
+        String trimmed = text.trim();
+        List<String> tokens = tokens(trimmed);
+        if (!tokens.isEmpty()) {
+            terms.putIfAbsent(type + '\u0000' + String.join(" ", tokens), trimmed);
+        }
+    }
+
+    // 출처 하나 증가 (처음 보는 후보면 트리에 키 등록)
+    private Entry acquire(String id, String text) {
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            String type = id.substring(0, id.indexOf('\u0000'));
+            entry = new Entry(id, type, text, keys(text));
+            entry.count = 1;
+            entries.put(id, entry);
+            for (String key : entry.keys) {
+                insertKey(key, entry);
+            }
+            return entry;
+        }
+        entry.count++;
+        refresh(entry);
+        return entry;
+    }
+
+    // 출처 하나 감소 (남은 출처가 없으면 트리에서 제거)
+    private void release(Entry entry) {
+        entry.count--;
+        if (entry.count > 0) {
+            refresh(entry);
+            return;
+        }
+        entries.remove(entry.id);
+        for (String key : entry.keys) {
+            removeKey(key, entry);
+        }
+    }
+
+    private void insertKey(String key, Entry entry) {
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.child(key.charAt(i));
+            if (child == null) {
+                child = new Node(key.substring(i));
+                node.putChild(child);
+                nodeCount++;
+                node = child;
+                i = key.length();
+                break;
+            }
+
+            int common = commonPrefix(child.label, key, i);
+            if (common < child.label.length()) {
+                // 간선 중간에서 갈라짐 → 공통 부분을 새 노드로 분리
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.putChild(child);
+                node.putChild(middle);
+                nodeCount++;
+                child = middle;
+            }
+            i += common;
+            node = child;
+        }
+
+        if (node.entries == null) {
+            node.entries = new ArrayList<>(1);
+        }
+        node.entries.add(entry);
+        recompute(path(key));
+    }
+
+    private void removeKey(String key, Entry entry) {
+        List<Node> path = path(key);
+        if (path.isEmpty()) {
+            return;
+        }
+        Node terminal = path.get(path.size() - 1);
+        if (terminal.entries == null || !terminal.entries.removeIf(e -> e == entry)) {
+            return;
+        }
+
+        // 빈 잎 노드 제거, 후보 없이 자식 하나만 남은 노드는 자식과 합침
+        Node node = terminal;
+        int depth = path.size() - 1;
+        while (depth >= 0 && !node.hasEntries() && node.childCount() <= 1) {
+            Node parent = depth > 0 ? path.get(depth - 1) : root;
+            if (node.childCount() == 0) {
+                parent.children.remove(node.label.charAt(0));
+                nodeCount--;
+            } else {
+                Node only = node.children.values().iterator().next();
+                only.label = node.label + only.label;
+                parent.putChild(only);
+                nodeCount--;
+                break;
+            }
+            node = parent;
+            depth--;
+            if (node == root) {
+                break;
+            }
+        }
+        recompute(path(key));
+    }
+
+    // 순위만 바뀐 경우 키 경로의 상위 후보 다시 계산
+    private void refresh(Entry entry) {
+        for (String key : entry.keys) {
+            recompute(path(key));
+        }
+    }
+
+    // 루트 아래에서 키와 간선이 온전히 일치하는 노드들 (위 → 아래)
+    private List<Node> path(String key) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.child(key.charAt(i));
+            if (child == null || !key.startsWith(child.label, i)) {
+                break;
+            }
+            path.add(child);
+            i += child.label.length();
+            node = child;
+        }
+        return path;
+    }
+
+    // 아래 노드부터 상위 후보 계산 (자기 후보 + 자식들의 상위 후보, 중복 제거)
+    private void recompute(List<Node> path) {
+        for (int p = path.size() - 1; p >= 0; p--) {
+            Node node = path.get(p);
+            List<Entry> candidates = new ArrayList<>();
+            if (node.entries != null) {
+                candidates.addAll(node.entries);
+            }
+            if (node.children != null) {
+                for (Node child : node.children.values()) {
+                    candidates.addAll(Arrays.asList(child.top));
+                }
+            }
+            candidates.sort(RANKING);
+
+            List<Entry> top = new ArrayList<>(topSize);
+            Entry last = null;
+            for (Entry candidate : candidates) {
+                if (candidate == last) {
+                    continue;
+                }
+                top.add(candidate);
+                last = candidate;
+                if (top.size() == topSize) {
+                    break;
+                }
+            }
+            node.top = top.toArray(NO_ENTRIES);
+        }
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    // NFKC + 소문자, 글자/숫자 덩어리로 분리
+    private static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        for (String token : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    // 한글 호환 자모 (ㄱ~ㆎ)
+    private static boolean isCompatibilityJamo(char c) {
+        return c >= 'ㄱ' && c <= 'ㆎ';
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.booklog.util;
+
+/**
+ * ISBN 정규화 유틸리티
+ * 제공자마다 형식이 달라서 ("89-364-3426-8", "8936434268 9788936434267", "9788936434267")
+ * 캐시 키/중복 제거용으로 ISBN-13 숫자 문자열로 통일
+ */
+public final class IsbnUtils {
+
+    private IsbnUtils() {
+    }
+
+    /**
+     * ISBN-13으로 정규화 (해석할 수 없으면 null)
+     * 공백으로 구분된 여러 ISBN이 있으면 ISBN-13을 우선 사용
+     */
+    public static String normalize(String isbn) {
+        if (isbn == null || isbn.isBlank()) {
+            return null;
+        }
+
+        String isbn10 = null;
+        for (String token : isbn.trim().split("\\s+")) {
+            String cleaned = clean(token);
+            if (cleaned.length() == 13) {
+                return cleaned;
+            }
+            if (cleaned.length() == 10 && isbn10 == null) {
+                isbn10 = cleaned;
+            }
+        }
+
+        return isbn10 != null ? toIsbn13(isbn10) : null;
+    }
+
+    /**
+     * ISBN-10 → ISBN-13 (978 접두어 + 체크 디지트 재계산)
+     */
+    public static String toIsbn13(String isbn10) {
+        String body = "978" + isbn10.substring(0, 9);
+
+        int sum = 0;
+        for (int i = 0; i < body.length(); i++) {
+            int digit = body.charAt(i) - '0';
+            sum += (i % 2 == 0) ? digit : digit * 3;
+        }
+        int check = (10 - sum % 10) % 10;
+
+        return body + check;
+    }
+
+    // 숫자와 ISBN-10 체크 문자(X)만 남김
+    private static String clean(String token) {
+        StringBuilder sb = new StringBuilder(token.length());
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c >= '0' && c <= '9') {
+                sb.append(c);
+            } else if ((c == 'X' || c == 'x') && sb.length() == 9) {
+                sb.append('X');
+            }
+        }
+        return sb.toString();
+    }
+}
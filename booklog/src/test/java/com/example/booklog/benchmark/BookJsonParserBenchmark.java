@@ -0,0 +1,167 @@
+package com.example.booklog.benchmark;
+
+import com.example.booklog.entity.AladinBookDto;
+import com.example.booklog.entity.BookApiDto;
+import com.example.booklog.parser.AladinBookJsonParser;
+import com.example.booklog.parser.KakaoBookJsonParser;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 카카오/알라딘 JSON 파싱 벤치마크 (org.json 트리 vs Jackson 스트리밍)
+ * 실행: main 메서드 직접 실행 (응답 한 건당 평균 시간, 할당 바이트 출력)
+ */
+public class BookJsonParserBenchmark {
+
+    private static final int[] PAGE_SIZES = {50, 500};
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURE_ROUNDS = 500;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) throws Exception {
+        for (int size : PAGE_SIZES) {
+            String kakao = sampleKakao(size);
+            byte[] kakaoBytes = kakao.getBytes(StandardCharsets.UTF_8);
+            report("kakao ", size,
+                    measure(() -> parseKakaoWithOrgJson(new String(kakaoBytes, StandardCharsets.UTF_8)).size()),
+                    measure(() -> KakaoBookJsonParser.parse(new ByteArrayInputStream(kakaoBytes), (t, c) -> "기타").size()));
+
+            String aladin = sampleAladin(size);
+            byte[] aladinBytes = aladin.getBytes(StandardCharsets.UTF_8);
+            report("aladin", size,
+                    measure(() -> parseAladinWithOrgJson(new String(aladinBytes, StandardCharsets.UTF_8)).size()),
+                    measure(() -> AladinBookJsonParser.parse(new ByteArrayInputStream(aladinBytes)).size()));
+        }
+    }
+
+    private static void report(String name, int size, double[] orgJson, double[] streaming) {
+        System.out.printf("%s items=%4d  org.json %7.3f ms %9.0f KB  |  streaming %7.3f ms %9.0f KB%n",
+                name, size, orgJson[0], orgJson[1] / 1024, streaming[0], streaming[1] / 1024);
+    }
+
+    /**
+     * [평균 ms, 평균 할당 바이트]
+     */
+    private static double[] measure(ParseTask task) throws Exception {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += task.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = THREADS.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            sink += task.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = THREADS.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        if (sink < 0) {
+            System.out.println(sink); // JIT가 호출을 없애지 못하도록
+        }
+        return new double[] {
+                elapsed / 1_000_000.0 / MEASURE_ROUNDS,
+                (double) allocated / MEASURE_ROUNDS
+        };
+    }
+
+    private interface ParseTask {
+        int run() throws Exception;
+    }
+
+    private static String sampleKakao(int count) {
+        StringBuilder json = new StringBuilder("{\"documents\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"authors\":[\"저자").append(i).append("\",\"공저자\"],")
+                .append("\"contents\":\"").append("카카오 책 검색 결과의 소개 문구입니다. ".repeat(15)).append("\",")
+                .append("\"datetime\":\"2024-03-15T00:00:00.000+09:00\",")
+                .append("\"isbn\":\"89").append(String.format("%08d", i)).append(" 97889").append(String.format("%08d", i)).append("\",")
+                .append("\"price\":16800,\"publisher\":\"출판사\",\"sale_price\":15120,\"status\":\"정상판매\",")
+                .append("\"thumbnail\":\"https://search1.kakaocdn.net/thumb/").append(i).append(".jpg\",")
+                .append("\"title\":\"검색 결과 도서 ").append(i).append("\",\"translators\":[],")
+                .append("\"url\":\"https://search.daum.net/search?q=").append(i).append("\"}");
+        }
+        json.append("],\"meta\":{\"is_end\":false,\"pageable_count\":").append(count).append(",\"total_count\":").append(count).append("}}");
+        return json.toString();
+    }
+
+    private static String sampleAladin(int count) {
+        StringBuilder json = new StringBuilder("{\"version\":\"20131101\",\"totalResults\":").append(count).append(",\"item\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"title\":\"알라딘 도서 ").append(i).append("\",")
+                .append("\"link\":\"http://www.aladin.co.kr/shop/wproduct.aspx?ItemId=").append(i).append("\",")
+                .append("\"author\":\"저자").append(i).append(" (지은이)\",\"pubDate\":\"2024-03-15\",")
+                .append("\"description\":\"").append("알라딘 상품 설명입니다. ".repeat(10)).append("\",")
+                .append("\"isbn\":\"89").append(String.format("%08d", i)).append("\",")
+                .append("\"isbn13\":\"97889").append(String.format("%08d", i)).append("\",")
+                .append("\"priceSales\":15120,\"priceStandard\":16800,\"mallType\":\"BOOK\",")
+                .append("\"cover\":\"https://image.aladin.co.kr/product/").append(i).append("/cover.jpg\",")
+                .append("\"categoryId\":50993,\"categoryName\":\"국내도서>소설/시/희곡>한국소설\",\"publisher\":\"출판사\",")
+                .append("\"subInfo\":{}}");
+        }
+        json.append("]}");
+        return json.toString();
+    }
+
+    /**
+     * 기존 org.json 파싱 (비교 기준, 출력문 제외)
+     */
+    private static List<BookApiDto> parseKakaoWithOrgJson(String jsonResponse) {
+        List<BookApiDto> books = new ArrayList<>();
+        JSONArray documents = new JSONObject(jsonResponse).getJSONArray("documents");
+        for (int i = 0; i < documents.length(); i++) {
+            JSONObject doc = documents.getJSONObject(i);
+            BookApiDto book = new BookApiDto();
+            book.setTitle(doc.optString("title", ""));
+            JSONArray authors = doc.optJSONArray("authors");
+            if (authors != null && authors.length() > 0) {
+                List<String> authorList = new ArrayList<>();
+                for (int j = 0; j < authors.length(); j++) {
+                    authorList.add(authors.getString(j));
+                }
+                book.setAuthor(String.join(", ", authorList));
+            }
+            book.setPublisher(doc.optString("publisher", ""));
+            book.setIsbn(doc.optString("isbn", "").split(" ")[0]);
+            book.setCoverUrl(doc.optString("thumbnail", ""));
+            book.setPublishDate(doc.optString("datetime", "").substring(0, 10));
+            book.setPage(doc.optString("price", ""));
+            String contents = doc.optString("contents", "");
+            book.setDescription(contents.substring(0, Math.min(200, contents.length())) + "...");
+            book.setSubject("기타");
+            books.add(book);
+        }
+        return books;
+    }
+
+    private static List<AladinBookDto> parseAladinWithOrgJson(String jsonResponse) {
+        List<AladinBookDto> books = new ArrayList<>();
+        JSONArray items = new JSONObject(jsonResponse).getJSONArray("item");
+        for (int i = 0; i < items.length(); i++) {
+            JSONObject item = items.getJSONObject(i);
+            AladinBookDto book = new AladinBookDto();
+            book.setTitle(item.optString("title", ""));
+            book.setAuthor(item.optString("author", ""));
+            book.setPublisher(item.optString("publisher", ""));
+            book.setIsbn(item.optString("isbn13", ""));
+            book.setCoverUrl(item.optString("cover", ""));
+            book.setPubDate(item.optString("pubDate", ""));
+            book.setDescription(item.optString("description", ""));
+            book.setCategoryName(item.optString("categoryName", ""));
+            book.setPriceStandard(item.optInt("priceStandard", 0));
+            book.setPriceSales(item.optInt("priceSales", 0));
+            book.setLink(item.optString("link", ""));
+            books.add(book);
+        }
+        return books;
+    }
+}
@@ -0,0 +1,313 @@
+package com.example.booklog.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * /books 목록 화면 동시 사용자 부하 테스트 (스레드 풀 모드 vs 가상 스레드 모드 비교용)
+ * 동시 사용자 수를 단계적으로 늘리며 각 사용자가 쉬지 않고(또는 think-ms 간격으로) 요청을 반복
+ * p95 응답 시간과 에러율이 기준 안에 있는 가장 큰 동시 사용자 수를 출력
+ *
+ * 비교 절차
+ * 1. 외부 API 대역 서버 실행 (제공자 지연을 실제와 비슷하게): -Dstandin.latency-ms=300 -Dstandin.jitter-ms=200 ProviderStandInServer
+ * 2. 앱 실행 (대역 서버가 출력한 프로퍼티 추가)
+ *    - 스레드 풀 모드: mvn spring-boot:run
+ *    - 가상 스레드 모드: mvn -Pvirtual-threads spring-boot:run (JDK 21)
+ * 3. 각 모드에서 이 클래스 실행: -Dloadtest.label=platform (또는 virtual) -Dloadtest.output=target/books-load.csv
+ *
+ * 측정 결과: docs/benchmark/books-load.md (CSV: books-load-platform.csv, books-load-virtual.csv)
+ * - 1 vCPU, 로그인 사용자 기준 두 모드 모두 최대 25명 (p95 <= 1000ms), CPU가 먼저 한계
+ * - 가상 스레드 모드는 DB 연결 풀(10개) 대기가 늘어 p95가 더 나쁨 → 기본값은 스레드 풀 모드 유지
+ *
+ * 설정 (시스템 프로퍼티)
+ * - loadtest.base-url         : 앱 주소 (기본 http://127.0.0.1:8080)
+ * - loadtest.path             : 요청 경로 (기본 /books)
+ * - loadtest.users            : 단계별 동시 사용자 수 (기본 25,50,100,200,400,800)
+ * - loadtest.warmup-seconds   : 단계마다 측정 전 예열 시간 (기본 5)
+ * - loadtest.duration-seconds : 단계마다 측정 시간 (기본 20)
+ * - loadtest.think-ms         : 사용자별 요청 간격 (기본 0)
+ * - loadtest.p95-slo-ms       : 통과 기준 p95 (기본 1000)
+ * - loadtest.max-error-rate   : 통과 기준 에러율 (기본 0.01)
+ * - loadtest.username / loadtest.password : 지정하면 사용자마다 로그인 후 요청 (내 책 목록 DB 조회 포함)
+ * - loadtest.label / loadtest.output      : 결과를 CSV 파일에 한 줄씩 추가 (두 모드 결과 비교용)
+ */
+public class BooksPageLoadTest {
+
+    private static final Pattern CSRF_INPUT = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+
+    private final String baseUrl;
+    private final String path;
+    private final long thinkMs;
+    private final String username;
+    private final String password;
+
+    // 로그인하지 않을 때는 모든 사용자가 하나의 클라이언트 공유
+    private final HttpClient sharedClient = newClient();
+
+    public BooksPageLoadTest(String baseUrl, String path, long thinkMs, String username, String password) {
+        this.baseUrl = baseUrl;
+        this.path = path;
+        this.thinkMs = thinkMs;
+        this.username = username;
+        this.password = password;
+    }
+
+    public static void main(String[] args) throws Exception {
+        BooksPageLoadTest loadTest = new BooksPageLoadTest(
+                System.getProperty("loadtest.base-url", "http://127.0.0.1:8080"),
+                System.getProperty("loadtest.path", "/books"),
+                Long.getLong("loadtest.think-ms", 0L),
+                System.getProperty("loadtest.username"),
+                System.getProperty("loadtest.password"));
+
+        int[] userSteps = Arrays.stream(System.getProperty("loadtest.users", "25,50,100,200,400,800").split(","))
+                .mapToInt(value -> Integer.parseInt(value.trim()))
+                .toArray();
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 5L));
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 20L));
+        long p95SloMs = Long.getLong("loadtest.p95-slo-ms", 1000L);
+        double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+        String label = System.getProperty("loadtest.label", "default");
+        String output = System.getProperty("loadtest.output");
+
+        System.out.println("=== /books 부하 테스트: " + loadTest.baseUrl + loadTest.path + " (" + label + ") ===");
+        System.out.printf("%8s %10s %10s %9s %9s %9s %9s  %s%n",
+                "users", "requests", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "errors", "result");
+
+        int maxSustainedUsers = 0;
+        for (int users : userSteps) {
+            StepResult result = loadTest.runStep(users, warmup, duration);
+            boolean passed = result.percentileMs(95) <= p95SloMs && result.errorRate() <= maxErrorRate;
+            if (passed) {
+                maxSustainedUsers = users;
+            }
+
+            System.out.printf("%8d %10d %10.1f %9d %9d %9d %8.2f%%  %s%n",
+                    users, result.requests(), result.requests() / (double) duration.toSeconds(),
+                    result.percentileMs(50), result.percentileMs(95), result.percentileMs(99),
+                    result.errorRate() * 100, passed ? "OK" : "FAIL");
+
+            if (output != null) {
+                appendCsv(Path.of(output), label, users, duration, result, passed);
+            }
+            if (!passed && result.errorRate() > 0.5) {
+                // 대부분 실패하는 단계 이후는 의미 없음
+                break;
+            }
+        }
+
+        System.out.println("최대 동시 사용자 (p95 <= " + p95SloMs + "ms, 에러율 <= " + (maxErrorRate * 100) + "%): "
+                + maxSustainedUsers);
+    }
+
+    /**
+     * 동시 사용자 users명으로 예열 후 duration 동안 측정
+     */
+    private StepResult runStep(int users, Duration warmup, Duration duration) throws InterruptedException {
+        AtomicBoolean measuring = new AtomicBoolean(false);
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch ready = new CountDownLatch(users);
+        List<UserRecorder> recorders = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < users; i++) {
+            UserRecorder recorder = new UserRecorder();
+            recorders.add(recorder);
+            Thread thread = new Thread(() -> runUser(recorder, ready, measuring, running), "load-user-" + i);
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+
+        ready.await();
+        Thread.sleep(warmup.toMillis());
+        measuring.set(true);
+        Thread.sleep(duration.toMillis());
+        measuring.set(false);
+        running.set(false);
+        for (Thread thread : threads) {
+            thread.join(Duration.ofSeconds(30).toMillis());
+        }
+
+        return StepResult.merge(recorders);
+    }
+
+    private void runUser(UserRecorder recorder, CountDownLatch ready, AtomicBoolean measuring, AtomicBoolean running) {
+        HttpClient client = sharedClient;
+        try {
+            if (username != null) {
+                client = newClient();
+                login(client);
+            }
+        } catch (Exception e) {
+            System.out.println("로그인 실패: " + e.getMessage());
+        } finally {
+            ready.countDown();
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        while (running.get()) {
+            long start = System.nanoTime();
+            boolean ok;
+            try {
+                HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                ok = response.statusCode() == 200;
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long elapsed = System.nanoTime() - start;
+
+            if (measuring.get()) {
+                recorder.record(elapsed, ok);
+            }
+            if (thinkMs > 0) {
+                try {
+                    Thread.sleep(thinkMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 폼 로그인 (로그인 페이지의 CSRF 토큰 사용, 세션 쿠키는 클라이언트에 보관)
+     */
+    private void login(HttpClient client) throws IOException, InterruptedException {
+        HttpResponse<String> loginPage = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = CSRF_INPUT.matcher(loginPage.body());
+        if (!matcher.find()) {
+            throw new IllegalStateException("CSRF 토큰을 찾을 수 없음");
+        }
+
+        String form = "username=" + URLEncoder.encode(username, StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(password, StandardCharsets.UTF_8)
+                + "&_csrf=" + URLEncoder.encode(matcher.group(1), StandardCharsets.UTF_8);
+        HttpResponse<Void> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(form))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+
+        String location = response.headers().firstValue("Location").orElse("");
+        if (response.statusCode() != 302 || location.contains("error")) {
+            throw new IllegalStateException("로그인 실패 (" + response.statusCode() + " " + location + ")");
+        }
+    }
+
+    private static HttpClient newClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .cookieHandler(new CookieManager())
+                .build();
+    }
+
+    private static void appendCsv(Path output, String label, int users, Duration duration, StepResult result,
+                                  boolean passed) {
+        try {
+            if (output.getParent() != null) {
+                Files.createDirectories(output.getParent());
+            }
+            if (!Files.exists(output)) {
+                Files.writeString(output, "label,users,requests,rps,p50_ms,p95_ms,p99_ms,error_rate,passed\n");
+            }
+            String line = String.format("%s,%d,%d,%.1f,%d,%d,%d,%.4f,%s%n",
+                    label, users, result.requests(), result.requests() / (double) duration.toSeconds(),
+                    result.percentileMs(50), result.percentileMs(95), result.percentileMs(99),
+                    result.errorRate(), passed);
+            Files.writeString(output, line, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 사용자 스레드 하나의 기록 (스레드마다 따로 모아 경합 없음)
+     */
+    private static final class UserRecorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        private void record(long latencyNanos, boolean ok) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+    }
+
+    private static final class StepResult {
+        private final long[] sortedLatencies;
+        private final int errors;
+
+        private StepResult(long[] sortedLatencies, int errors) {
+            this.sortedLatencies = sortedLatencies;
+            this.errors = errors;
+        }
+
+        private static StepResult merge(List<UserRecorder> recorders) {
+            int total = recorders.stream().mapToInt(r -> r.count).sum();
+            long[] all = new long[total];
+            int offset = 0;
+            int errors = 0;
+            for (UserRecorder recorder : recorders) {
+                System.arraycopy(recorder.latencies, 0, all, offset, recorder.count);
+                offset += recorder.count;
+                errors += recorder.errors;
+            }
+            Arrays.sort(all);
+            return new StepResult(all, errors);
+        }
+
+        private int requests() {
+            return sortedLatencies.length;
+        }
+
+        private double errorRate() {
+            return sortedLatencies.length == 0 ? 1.0 : errors / (double) sortedLatencies.length;
+        }
+
+        private long percentileMs(int percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+            return Duration.ofNanos(sortedLatencies[Math.max(0, index)]).toMillis();
+        }
+    }
+}
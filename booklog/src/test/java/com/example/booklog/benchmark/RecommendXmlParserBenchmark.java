@@ -0,0 +1,122 @@
+package com.example.booklog.benchmark;
+
+import com.example.booklog.entity.RecommendedBookDto;
+import com.example.booklog.parser.RecommendXmlParser;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사서추천 XML 파싱 벤치마크 (DOM vs StAX)
+ * 실행: main 메서드 직접 실행 (endRowNumApi 크기별 평균 시간 출력)
+ */
+public class RecommendXmlParserBenchmark {
+
+    private static final int[] PAGE_SIZES = {50, 500, 5000};
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURE_ROUNDS = 30;
+
+    public static void main(String[] args) throws Exception {
+        for (int size : PAGE_SIZES) {
+            String xml = sampleXml(size);
+            byte[] bytes = xml.getBytes(StandardCharsets.UTF_8);
+
+            double dom = measure(() -> parseWithDom(xml).size());
+            double stax = measure(() -> RecommendXmlParser.parse(new ByteArrayInputStream(bytes)).size());
+
+            System.out.printf("items=%5d  DOM %8.2f ms  StAX %8.2f ms  (x%.1f)%n",
+                    size, dom, stax, dom / stax);
+        }
+    }
+
+    private static double measure(ParseTask task) throws Exception {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            sink += task.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink < 0) {
+            System.out.println(sink); // JIT가 호출을 없애지 못하도록
+        }
+        return elapsed / 1_000_000.0 / MEASURE_ROUNDS;
+    }
+
+    private interface ParseTask {
+        int run() throws Exception;
+    }
+
+    /**
+     * 실제 saseoApi 응답과 같은 구조의 샘플 XML
+     */
+    private static String sampleXml(int count) {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<channel>\n");
+        xml.append("<totalCount>").append(count).append("</totalCount>\n<list>\n");
+        for (int i = 0; i < count; i++) {
+            xml.append("<item>")
+               .append("<drCode>11</drCode>")
+               .append("<drCodeName>문학</drCodeName>")
+               .append("<recomtitle><![CDATA[추천 도서 ").append(i).append("]]></recomtitle>")
+               .append("<recomauthor><![CDATA[저자 ").append(i).append("]]></recomauthor>")
+               .append("<recompublisher><![CDATA[출판사]]></recompublisher>")
+               .append("<recomisbn>97889").append(String.format("%08d", i)).append("</recomisbn>")
+               .append("<publishYear>2024</publishYear>")
+               .append("<recomfilepath>https://nl.go.kr/cover/").append(i).append(".jpg</recomfilepath>")
+               .append("<recomcontens><![CDATA[")
+               .append("사서가 추천하는 책에 대한 소개 문구입니다. ".repeat(20))
+               .append("]]></recomcontens>")
+               .append("</item>\n");
+        }
+        xml.append("</list>\n</channel>");
+        return xml.toString();
+    }
+
+    /**
+     * 기존 DOM 파서 (비교 기준)
+     */
+    private static List<RecommendedBookDto> parseWithDom(String xmlResponse) throws Exception {
+        List<RecommendedBookDto> books = new ArrayList<>();
+        Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new ByteArrayInputStream(xmlResponse.getBytes(StandardCharsets.UTF_8)));
+        doc.getDocumentElement().normalize();
+
+        NodeList itemList = doc.getElementsByTagName("item");
+        for (int i = 0; i < itemList.getLength(); i++) {
+            Element item = (Element) itemList.item(i);
+            RecommendedBookDto book = new RecommendedBookDto();
+            book.setTitle(getTagValue("recomtitle", item));
+            book.setAuthor(getTagValue("recomauthor", item));
+            book.setPublisher(getTagValue("recompublisher", item));
+            book.setIsbn(getTagValue("recomisbn", item));
+            book.setCoverUrl(getTagValue("recomfilepath", item));
+            book.setContents(getTagValue("recomcontens", item));
+            book.setCategory(getTagValue("drCodeName", item));
+            book.setCategoryCode(getTagValue("drCode", item));
+            String publishYear = getTagValue("publishYear", item);
+            if (!publishYear.isEmpty()) {
+                book.setPublishYear(Integer.parseInt(publishYear));
+            }
+            books.add(book);
+        }
+        return books;
+    }
+
+    private static String getTagValue(String tag, Element element) {
+        NodeList nodeList = element.getElementsByTagName(tag);
+        if (nodeList.getLength() > 0) {
+            String value = nodeList.item(0).getTextContent();
+            return value != null && !value.trim().isEmpty() ? value : "";
+        }
+        return "";
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.booklog.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    @Test
+    void concurrentCallsShareOneExecution() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>();
+        AtomicInteger executions = new AtomicInteger();
+
+        List<Future<String>> futures = runConcurrently(flight, 8, () -> {
+            executions.incrementAndGet();
+            sleep(100);
+            return "value";
+        });
+
+        for (Future<String> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(flight.stats().get("inFlight")).isEqualTo(0);
+    }
+
+    @Test
+    void failureIsRethrownToEveryWaiter() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>();
+
+        List<Future<String>> futures = runConcurrently(flight, 8, () -> {
+            sleep(100);
+            throw new IllegalStateException("upstream down");
+        });
+
+        for (Future<String> future : futures) {
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void errorDoesNotLeaveWaitersHanging() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>();
+
+        List<Future<String>> futures = runConcurrently(flight, 8, () -> {
+            sleep(100);
+            throw new AssertionError("boom");
+        });
+
+        for (Future<String> future : futures) {
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(AssertionError.class);
+        }
+        assertThat(flight.execute("key", () -> "next")).isEqualTo("next");
+    }
+
+    private static List<Future<String>> runConcurrently(SingleFlight<String, String> flight, int threads,
+                                                        Supplier<String> supplier) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return flight.execute("key", supplier);
+            }));
+        }
+        start.countDown();
+        executor.shutdown();
+        return futures;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
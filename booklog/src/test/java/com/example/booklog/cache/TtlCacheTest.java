@@ -0,0 +1,111 @@
+package com.example.booklog.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TtlCacheTest {
+
+    @Test
+    void expiredEntryIsMissButStillAvailableAsStale() throws Exception {
+        TtlCache<String, String> cache = new TtlCache<>(10, Duration.ofMillis(300));
+        cache.put("a", "1");
+        assertThat(cache.get("a")).isEqualTo("1");
+
+        Thread.sleep(400);
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.getStale("a")).isEqualTo("1");
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntry() {
+        TtlCache<String, String> cache = new TtlCache<>(2, Duration.ofMinutes(1));
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+        cache.put("c", "3");
+
+        assertThat(cache.get("a")).isEqualTo("1");
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isEqualTo("3");
+        assertThat(cache.stats().get("evictions")).isEqualTo(1L);
+    }
+
+    @Test
+    void concurrentMissesLoadOnce() throws Exception {
+        TtlCache<String, String> cache = new TtlCache<>(10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        List<String> results = loadConcurrently(cache, 16, () -> {
+            loads.incrementAndGet();
+            sleep(100);
+            return "value";
+        });
+
+        assertThat(results).hasSize(16).containsOnly("value");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void failedLoadIsSharedWithWaitersAndNotCached() throws Exception {
+        TtlCache<String, String> cache = new TtlCache<>(10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        List<String> results = loadConcurrently(cache, 16, () -> {
+            loads.incrementAndGet();
+            sleep(100);
+            return null;
+        });
+
+        assertThat(results).hasSize(16).containsOnlyNulls();
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.size()).isZero();
+
+        // 다음 요청은 다시 로드
+        assertThat(cache.get("key", () -> "retry")).isEqualTo("retry");
+        assertThat(cache.get("key")).isEqualTo("retry");
+    }
+
+    private static List<String> loadConcurrently(TtlCache<String, String> cache, int threads,
+                                                 Supplier<String> loader) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get("key", loader);
+                }));
+            }
+            start.countDown();
+
+            List<String> results = new ArrayList<>();
+            for (Future<String> future : futures) {
+                results.add(future.get(5, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.booklog.genre;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AhoCorasickTest {
+
+    @Test
+    void findsOverlappingAndNestedKeywords() {
+        AhoCorasick ac = new AhoCorasick();
+        ac.add("he", 0);
+        ac.add("she", 1);
+        ac.add("his", 2);
+        ac.add("hers", 3);
+        ac = ac.build();
+
+        assertThat(scan(ac, "ushers")).containsExactly(0, 1, 3);
+        assertThat(scan(ac, "this")).containsExactly(2);
+        assertThat(scan(ac, "xyz")).isEmpty();
+    }
+
+    @Test
+    void matchesNaiveSearchOnRandomInput() {
+        Random random = new Random(42);
+        String alphabet = "시역사대소설집a";
+
+        for (int round = 0; round < 200; round++) {
+            List<String> keywords = new ArrayList<>();
+            AhoCorasick ac = new AhoCorasick();
+            for (int i = 0; i < 8; i++) {
+                String keyword = randomText(random, alphabet, 1 + random.nextInt(3));
+                keywords.add(keyword);
+                ac.add(keyword, i);
+            }
+            ac = ac.build();
+
+            for (int i = 0; i < 50; i++) {
+                String text = randomText(random, alphabet, random.nextInt(20));
+                Set<Integer> expected = new TreeSet<>();
+                for (int id = 0; id < keywords.size(); id++) {
+                    if (text.contains(keywords.get(id))) {
+                        expected.add(id);
+                    }
+                }
+                assertThat(scan(ac, text)).as("keywords=%s text=%s", keywords, text).isEqualTo(expected);
+            }
+        }
+    }
+
+    private static Set<Integer> scan(AhoCorasick ac, String text) {
+        Set<Integer> found = new TreeSet<>();
+        ac.scan(text, found::add);
+        return found;
+    }
+
+    private static String randomText(Random random, String alphabet, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return text.toString();
+    }
+}
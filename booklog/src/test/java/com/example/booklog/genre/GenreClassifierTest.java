@@ -0,0 +1,125 @@
+package com.example.booklog.genre;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GenreClassifier(genre-keywords.txt)가 기존 정규식 체인과 같은 장르를 고르는지 확인
+ */
+class GenreClassifierTest {
+
+    // 기존 정규식의 키워드 전부 + 제외 키워드 + 관계없는 단어
+    private static final List<String> WORDS = List.of(
+            "소설", "이야기", "장편", "단편", "novel",
+            "에세이", "수필", "산문", "일상", "기록",
+            "자기계발", "성공", "습관", "동기부여", "자존감", "행복", "마음", "심리", "치유",
+            "경제", "경영", "투자", "재테크", "마케팅", "비즈니스", "창업", "부자",
+            "프로그래밍", "코딩", "개발", "java", "python", "javascript", "컴퓨터", "알고리즘", "데이터",
+            "역사", "문화", "전쟁", "세계사", "한국사", "조선", "고려",
+            "과학", "물리", "화학", "생물", "수학", "우주", "진화",
+            "철학", "인문", "사상", "사회", "교양", "예술",
+            "시집", "시", "poetry", "poem", "시대",
+            "Novel", "JAVA", "여행", "요리", "그림책", " ", "의", "를");
+
+    private GenreClassifier classifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        classifier = new GenreClassifier();
+        ReflectionTestUtils.setField(classifier, "keywordsResource", new ClassPathResource("genre-keywords.txt"));
+        classifier.init();
+    }
+
+    @Test
+    void everyKeywordAloneMatchesLegacyRules() {
+        for (String word : WORDS) {
+            assertThat(classifier.classify(word, "")).as(word).isEqualTo(legacy(word, ""));
+            assertThat(classifier.classify("", word)).as(word).isEqualTo(legacy("", word));
+        }
+    }
+
+    @Test
+    void keywordCombinationsMatchLegacyRules() {
+        for (String first : WORDS) {
+            for (String second : WORDS) {
+                assertThat(classifier.classify(first + " 책", second))
+                        .as("%s / %s", first, second)
+                        .isEqualTo(legacy(first + " 책", second));
+            }
+        }
+    }
+
+    @Test
+    void randomTitlesAndContentsMatchLegacyRules() {
+        Random random = new Random(7);
+        for (int i = 0; i < 20_000; i++) {
+            String title = randomText(random, 1 + random.nextInt(3));
+            String content = randomText(random, random.nextInt(6));
+            assertThat(classifier.classify(title, content))
+                    .as("%s / %s", title, content)
+                    .isEqualTo(legacy(title, content));
+        }
+    }
+
+    @Test
+    void examples() {
+        assertThat(classifier.classify("채식주의자", "한강 장편소설")).isEqualTo("소설");
+        assertThat(classifier.classify("조선왕조실록", "시대를 읽는 역사")).isEqualTo("역사");
+        assertThat(classifier.classify("한 줄의 시", "")).isEqualTo("시");
+        assertThat(classifier.classify(null, null)).isEqualTo(GenreClassifier.DEFAULT_GENRE);
+    }
+
+    private static String randomText(Random random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            text.append(WORDS.get(random.nextInt(WORDS.size())));
+            if (random.nextBoolean()) {
+                text.append(' ');
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * 기존 KakaoBookApiService.inferGenreFromTitleAndContent (비교 기준)
+     */
+    private static String legacy(String title, String content) {
+        String text = (title + " " + content).toLowerCase();
+
+        if (text.matches(".*(소설|이야기|장편|단편|novel).*")) {
+            return "소설";
+        }
+        if (text.matches(".*(에세이|수필|산문|일상|기록).*")) {
+            return "에세이";
+        }
+        if (text.matches(".*(자기계발|성공|습관|동기부여|자존감|행복|마음|심리|치유).*")) {
+            return "자기계발";
+        }
+        if (text.matches(".*(경제|경영|투자|재테크|마케팅|비즈니스|창업|부자).*")) {
+            return "경제/경영";
+        }
+        if (text.matches(".*(프로그래밍|코딩|개발|java|python|javascript|컴퓨터|알고리즘|데이터).*")) {
+            return "IT/컴퓨터";
+        }
+        if (text.matches(".*(역사|문화|전쟁|세계사|한국사|조선|고려).*")) {
+            return "역사";
+        }
+        if (text.matches(".*(과학|물리|화학|생물|수학|우주|진화).*")) {
+            return "과학";
+        }
+        if (text.matches(".*(철학|인문|사상|사회|교양|예술).*")) {
+            return "인문";
+        }
+        if (text.matches(".*(시집|시|poetry|poem).*") && !text.contains("역사") && !text.contains("시대")) {
+            return "시";
+        }
+        return "기타";
+    }
+}
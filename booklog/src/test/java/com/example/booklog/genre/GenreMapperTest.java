@@ -0,0 +1,171 @@
+package com.example.booklog.genre;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GenreMapper(KDC 트라이 + genre-categories.txt)가 기존 mapCategoryToGenre와 같은 장르를 고르는지 확인
+ */
+class GenreMapperTest {
+
+    // 알라딘 분류 경로, 국립중앙도서관 주제명 예시
+    private static final List<String> CATEGORIES = List.of(
+            "국내도서>소설/시/희곡>한국소설>2000년대 이후 한국소설",
+            "국내도서>소설/시/희곡>한국시>현대시",
+            "국내도서>에세이>한국에세이",
+            "국내도서>자기계발>성공>성공학",
+            "국내도서>자기계발>자기관리",
+            "국내도서>경제경영>재테크/투자>주식/증권",
+            "국내도서>경제경영>마케팅/세일즈",
+            "국내도서>인문학>심리학/정신분석학",
+            "국내도서>인문학>철학 일반",
+            "국내도서>사회과학>사회학",
+            "국내도서>역사>한국사>조선시대",
+            "국내도서>역사>세계사",
+            "국내도서>과학>수학",
+            "국내도서>과학>기초과학/교양과학",
+            "국내도서>컴퓨터/모바일>프로그래밍 언어>자바",
+            "국내도서>컴퓨터/모바일>웹디자인/홈페이지",
+            "국내도서>어린이>동화/명작/고전",
+            "국내도서>요리/살림>집밥",
+            "국내도서>여행>국내여행",
+            "외국도서>Fiction>Literary",
+            "Computers>IT Management",
+            "문학", "소설", "시", "시대", "한국사", "자연", "앱 개발", "수필", "자기개발", "비즈니스",
+            "", "기타");
+
+    private GenreMapper mapper;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mapper = new GenreMapper();
+        ReflectionTestUtils.setField(mapper, "categoriesResource", new ClassPathResource("genre-categories.txt"));
+        ReflectionTestUtils.setField(mapper, "cacheMaxSize", 100);
+        mapper.init();
+    }
+
+    @Test
+    void sampleCategoriesMatchLegacyMapping() {
+        for (String category : CATEGORIES) {
+            assertThat(mapper.map(category)).as(category).isEqualTo(legacy(category));
+        }
+        assertThat(mapper.map(null)).isEqualTo(legacy(null));
+    }
+
+    @Test
+    void kdcCodesMatchLegacyMapping() {
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            codes.add(String.format("%03d", i));
+            codes.add(String.format("%03d.7", i));
+        }
+        codes.addAll(List.of("0", "1", "3", "32", "8", "9", "813.7", "320.1", "005.133", "3abc", "32경제", "7시"));
+
+        for (String code : codes) {
+            assertThat(mapper.map(code)).as(code).isEqualTo(legacy(code));
+        }
+    }
+
+    @Test
+    void randomCategoryPathsMatchLegacyMapping() {
+        String[] parts = {"국내도서", "소설", "시", "역사", "시대", "에세이", "경제", "경영", "인문", "사회", "과학",
+                "it", "IT", "웹", "앱", "문화", "문학", "수필", "성공", "투자", "심리", "자연", "어린이", "8", "3", "2"};
+        Random random = new Random(11);
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder category = new StringBuilder();
+            int depth = 1 + random.nextInt(4);
+            for (int d = 0; d < depth; d++) {
+                if (d > 0) {
+                    category.append('>');
+                }
+                category.append(parts[random.nextInt(parts.length)]);
+            }
+            String value = category.toString();
+            assertThat(mapper.map(value)).as(value).isEqualTo(legacy(value));
+        }
+    }
+
+    /**
+     * 기존 KakaoBookApiService.mapCategoryToGenre (비교 기준)
+     */
+    private static String legacy(String category) {
+        if (category == null || category.isEmpty()) {
+            return "기타";
+        }
+
+        String lowerCategory = category.toLowerCase();
+
+        if (category.matches("^\\d+.*")) {
+            String kdcCode = category.substring(0, Math.min(3, category.length()));
+            if (kdcCode.startsWith("8")) {
+                return "소설";
+            }
+            if (kdcCode.startsWith("1")) {
+                return "인문";
+            }
+            if (kdcCode.startsWith("3")) {
+                if (kdcCode.startsWith("32")) {
+                    return "경제/경영";
+                }
+                return "인문";
+            }
+            if (kdcCode.startsWith("4")) {
+                return "과학";
+            }
+            if (kdcCode.startsWith("5")) {
+                return "IT/컴퓨터";
+            }
+            if (kdcCode.startsWith("9")) {
+                return "역사";
+            }
+        }
+
+        if (lowerCategory.contains("소설") || lowerCategory.contains("문학")) {
+            return "소설";
+        }
+        if (lowerCategory.contains("에세이") || lowerCategory.contains("수필")) {
+            return "에세이";
+        }
+        if (lowerCategory.contains("시") && !lowerCategory.contains("역사") && !lowerCategory.contains("시대")) {
+            return "시";
+        }
+        if (lowerCategory.contains("자기계발") || lowerCategory.contains("자기관리")
+                || lowerCategory.contains("성공") || lowerCategory.contains("동기부여")
+                || lowerCategory.contains("자기개발")) {
+            return "자기계발";
+        }
+        if (lowerCategory.contains("경제") || lowerCategory.contains("경영")
+                || lowerCategory.contains("재테크") || lowerCategory.contains("투자")
+                || lowerCategory.contains("마케팅") || lowerCategory.contains("비즈니스")) {
+            return "경제/경영";
+        }
+        if (lowerCategory.contains("인문") || lowerCategory.contains("철학")
+                || lowerCategory.contains("심리") || lowerCategory.contains("사회")
+                || lowerCategory.contains("교양")) {
+            return "인문";
+        }
+        if (lowerCategory.contains("역사") || lowerCategory.contains("문화")) {
+            return "역사";
+        }
+        if (lowerCategory.contains("과학") || lowerCategory.contains("수학")
+                || lowerCategory.contains("물리") || lowerCategory.contains("화학")
+                || lowerCategory.contains("생물") || lowerCategory.contains("자연")) {
+            return "과학";
+        }
+        if (lowerCategory.contains("컴퓨터") || lowerCategory.contains("프로그래밍")
+                || lowerCategory.contains("it") || lowerCategory.contains("개발")
+                || lowerCategory.contains("코딩") || lowerCategory.contains("웹")
+                || lowerCategory.contains("앱") || lowerCategory.contains("소프트웨어")) {
+            return "IT/컴퓨터";
+        }
+        return "기타";
+    }
+}
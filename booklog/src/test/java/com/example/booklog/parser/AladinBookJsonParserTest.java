@@ -0,0 +1,68 @@
+package com.example.booklog.parser;
+
+import com.example.booklog.entity.AladinBookDto;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AladinBookJsonParserTest {
+
+    @Test
+    void matchesOrgJsonOnFixture() throws Exception {
+        String json;
+        try (InputStream in = getClass().getResourceAsStream("/standin/aladin-items.json")) {
+            json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        List<AladinBookDto> books = AladinBookJsonParser.parse(json);
+
+        assertThat(books).isNotEmpty();
+        assertThat(books).usingRecursiveFieldByFieldElementComparator().isEqualTo(parseWithOrgJson(json));
+    }
+
+    @Test
+    void acceptsNonStandardEscapesFromOutputJs() throws Exception {
+        // output=js 응답에는 \' 이스케이프가 섞여 나옴 (org.json은 허용)
+        String json = "{\"item\":[{\"title\":\"It\\'s a book\",\"author\":\"저자\",\"isbn13\":\"9788936434120\","
+                + "\"description\":'작은따옴표 문자열',\"priceSales\":13500}]}";
+
+        List<AladinBookDto> books = AladinBookJsonParser.parse(json);
+
+        assertThat(books).hasSize(1);
+        assertThat(books.get(0).getTitle()).isEqualTo("It's a book");
+        assertThat(books.get(0).getDescription()).isEqualTo("작은따옴표 문자열");
+        assertThat(books).usingRecursiveFieldByFieldElementComparator().isEqualTo(parseWithOrgJson(json));
+    }
+
+    /**
+     * 기존 org.json 파싱 (비교 기준)
+     */
+    private static List<AladinBookDto> parseWithOrgJson(String json) {
+        List<AladinBookDto> books = new ArrayList<>();
+        JSONArray items = new JSONObject(json).getJSONArray("item");
+        for (int i = 0; i < items.length(); i++) {
+            JSONObject item = items.getJSONObject(i);
+            AladinBookDto book = new AladinBookDto();
+            book.setTitle(item.optString("title", ""));
+            book.setAuthor(item.optString("author", ""));
+            book.setPublisher(item.optString("publisher", ""));
+            book.setIsbn(item.optString("isbn13", ""));
+            book.setCoverUrl(item.optString("cover", ""));
+            book.setPubDate(item.optString("pubDate", ""));
+            book.setDescription(item.optString("description", ""));
+            book.setCategoryName(item.optString("categoryName", ""));
+            book.setPriceStandard(item.optInt("priceStandard", 0));
+            book.setPriceSales(item.optInt("priceSales", 0));
+            book.setLink(item.optString("link", ""));
+            books.add(book);
+        }
+        return books;
+    }
+}
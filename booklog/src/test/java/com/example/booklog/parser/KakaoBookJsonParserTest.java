@@ -0,0 +1,152 @@
+package com.example.booklog.parser;
+
+import com.example.booklog.entity.BookApiDto;
+import com.example.booklog.entity.BookSearchPage;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KakaoBookJsonParserTest {
+
+    // 장르 함수에 넘어간 (제목, 소개 전체)를 그대로 남겨 비교
+    private static final BiFunction<String, String, String> GENRE = (title, contents) -> title + "|" + contents;
+
+    private static final String LONG_CONTENTS = "가".repeat(250);
+
+    private static final String EDGE_CASES = "{\"documents\": ["
+            + "{\"title\": \"ISBN 둘\", \"authors\": [\"한강\", \"작가 2\"], \"isbn\": \"8936434128 9788936434120\","
+            + " \"datetime\": \"2007-10-30T00:00:00.000+09:00\", \"price\": 15000, \"contents\": \"" + LONG_CONTENTS + "\","
+            + " \"thumbnail\": \"https://search1.kakaocdn.net/thumb/a.jpg\", \"translators\": [\"옮긴이\"]},"
+            + "{\"title\": \"ISBN13만\", \"authors\": [], \"isbn\": \"9788936434199\", \"datetime\": \"\","
+            + " \"price\": \"12,000\", \"contents\": \"" + "나".repeat(200) + "\", \"thumbnail\": \"\"},"
+            + "{\"title\": \"ISBN10 비어 있음\", \"isbn\": \" 9791190090018\", \"contents\": \"\","
+            + " \"publisher\": null, \"status\": {\"nested\": [1, 2]}},"
+            + "{\"title\": null, \"authors\": [\"\\\"따옴표\\\" 저자\"], \"publisher\": \"출판\\\\사\"}"
+            + "], \"meta\": {\"total_count\": 1234, \"pageable_count\": 800, \"is_end\": false}}";
+
+    @Test
+    void matchesOrgJsonOnFixture() throws Exception {
+        String json;
+        try (InputStream in = getClass().getResourceAsStream("/standin/kakao-search.json")) {
+            json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        List<BookApiDto> books = KakaoBookJsonParser.parse(json, GENRE);
+
+        assertThat(books).isNotEmpty();
+        assertThat(books).usingRecursiveFieldByFieldElementComparator().isEqualTo(parseWithOrgJson(json));
+    }
+
+    @Test
+    void matchesOrgJsonOnEdgeCases() throws Exception {
+        List<BookApiDto> books = KakaoBookJsonParser.parse(EDGE_CASES, GENRE);
+
+        assertThat(books).usingRecursiveFieldByFieldElementComparator().isEqualTo(parseWithOrgJson(EDGE_CASES));
+
+        // ISBN10/13 → 첫 번째 값, 날짜 부분만, 가격은 문자열, 소개는 200자 + "..."
+        BookApiDto first = books.get(0);
+        assertThat(first.getIsbn()).isEqualTo("8936434128");
+        assertThat(first.getAuthor()).isEqualTo("한강, 작가 2");
+        assertThat(first.getPublishDate()).isEqualTo("2007-10-30");
+        assertThat(first.getPage()).isEqualTo("15000");
+        assertThat(first.getDescription()).hasSize(203).endsWith("가...");
+        assertThat(first.getSubject()).isEqualTo("ISBN 둘|" + LONG_CONTENTS);
+
+        assertThat(books.get(1).getIsbn()).isEqualTo("9788936434199");
+        assertThat(books.get(1).getPublishDate()).isNull();
+        assertThat(books.get(1).getCoverUrl()).isNull();
+        assertThat(books.get(2).getIsbn()).isEmpty();
+        assertThat(books.get(3).getTitle()).isEmpty();
+    }
+
+    @Test
+    void shortDatetimeOnlySkipsThatField() throws Exception {
+        // 기존 코드는 substring 예외로 페이지 전체를 버렸음
+        String json = "{\"documents\": [{\"title\": \"연도만\", \"datetime\": \"2020\"}, {\"title\": \"다음 책\"}]}";
+
+        List<BookApiDto> books = KakaoBookJsonParser.parse(json, GENRE);
+
+        assertThat(books).extracting(BookApiDto::getTitle).containsExactly("연도만", "다음 책");
+        assertThat(books.get(0).getPublishDate()).isNull();
+    }
+
+    @Test
+    void readsMetaForPaging() throws Exception {
+        BookSearchPage page = KakaoBookJsonParser.parsePage(stream(EDGE_CASES), GENRE);
+
+        assertThat(page.getBooks()).hasSize(4);
+        assertThat(page.getTotalCount()).isEqualTo(1234);
+        assertThat(page.getPageableCount()).isEqualTo(800);
+        assertThat(page.isEnd()).isFalse();
+
+        // meta가 documents보다 먼저 와도 같은 결과
+        String metaFirst = "{\"meta\": {\"is_end\": true, \"total_count\": 1}, \"documents\": [{\"title\": \"하나\"}]}";
+        BookSearchPage reordered = KakaoBookJsonParser.parsePage(stream(metaFirst), GENRE);
+        assertThat(reordered.getBooks()).extracting(BookApiDto::getTitle).containsExactly("하나");
+        assertThat(reordered.isEnd()).isTrue();
+
+        // meta가 없으면 마지막 페이지로 봄
+        BookSearchPage noMeta = KakaoBookJsonParser.parsePage(stream("{\"documents\": []}"), GENRE);
+        assertThat(noMeta.getBooks()).isEmpty();
+        assertThat(noMeta.isEnd()).isTrue();
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 기존 KakaoBookApiService.parseResponse (org.json, 비교 기준)
+     */
+    private static List<BookApiDto> parseWithOrgJson(String json) {
+        List<BookApiDto> books = new ArrayList<>();
+        JSONArray documents = new JSONObject(json).getJSONArray("documents");
+        for (int i = 0; i < documents.length(); i++) {
+            JSONObject doc = documents.getJSONObject(i);
+            BookApiDto book = new BookApiDto();
+            book.setTitle(doc.optString("title", ""));
+
+            JSONArray authors = doc.optJSONArray("authors");
+            if (authors != null && authors.length() > 0) {
+                List<String> authorList = new ArrayList<>();
+                for (int j = 0; j < authors.length(); j++) {
+                    authorList.add(authors.getString(j));
+                }
+                book.setAuthor(String.join(", ", authorList));
+            }
+
+            book.setPublisher(doc.optString("publisher", ""));
+            book.setIsbn(doc.optString("isbn", "").split(" ")[0]);
+
+            String thumbnail = doc.optString("thumbnail", "");
+            if (!thumbnail.isEmpty()) {
+                book.setCoverUrl(thumbnail);
+            }
+
+            String datetime = doc.optString("datetime", "");
+            if (!datetime.isEmpty()) {
+                book.setPublishDate(datetime.substring(0, 10));
+            }
+
+            book.setPage(doc.optString("price", ""));
+
+            String contents = doc.optString("contents", "");
+            if (!contents.isEmpty()) {
+                book.setDescription(contents.substring(0, Math.min(200, contents.length())) + "...");
+            }
+
+            book.setSubject(GENRE.apply(book.getTitle(), contents));
+            books.add(book);
+        }
+        return books;
+    }
+}
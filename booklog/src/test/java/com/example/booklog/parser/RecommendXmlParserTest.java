@@ -0,0 +1,146 @@
+package com.example.booklog.parser;
+
+import com.example.booklog.entity.RecommendedBookDto;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecommendXmlParserTest {
+
+    // 엔티티, CDATA, 누락/빈 필드, 중복 태그, 중첩 태그
+    private static final String EDGE_CASES = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<channel><totalCount>4</totalCount><list>\n"
+            + "<item><recomtitle>A &amp; B &lt;개정판&gt; &#xAC00;&#45208;</recomtitle>"
+            + "<recomauthor><![CDATA[홍길동 <엮음> & 옮김]]></recomauthor>"
+            + "<recompublisher>민음사</recompublisher><recomisbn>9788937460449</recomisbn>"
+            + "<recomfilepath>https://nl.go.kr/cover.jpg</recomfilepath>"
+            + "<recomcontens><![CDATA[<p>첫 문단]]>과 이어지는 글<![CDATA[</p>]]></recomcontens>"
+            + "<drCodeName>문학</drCodeName><drCode>11</drCode><publishYear>1999</publishYear></item>\n"
+            + "<item><recomtitle>필드 대부분 없음</recomtitle></item>\n"
+            + "<item><recomtitle>   </recomtitle><recomauthor></recomauthor><recomfilepath/>"
+            + "<publishYear>미상</publishYear><drCode>6</drCode><drCode>7</drCode></item>\n"
+            + "<item><extra><recomtitle>안쪽 제목</recomtitle></extra>"
+            + "<recomcontens>줄\n바꿈 <b>굵게</b> 끝</recomcontens></item>\n"
+            + "</list></channel>";
+
+    @Test
+    void matchesDomParseOnFixture() throws Exception {
+        String xml;
+        try (InputStream in = getClass().getResourceAsStream("/standin/nl-saseo.xml")) {
+            xml = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        List<RecommendedBookDto> books;
+        try (InputStream in = new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8))) {
+            books = RecommendXmlParser.parse(in);
+        }
+
+        assertThat(books).hasSize(12);
+        assertThat(books).usingRecursiveFieldByFieldElementComparator().isEqualTo(parseWithDom(xml));
+    }
+
+    @Test
+    void matchesDomParseOnEntitiesCdataAndMissingFields() throws Exception {
+        List<RecommendedBookDto> books = RecommendXmlParser.parse(EDGE_CASES);
+
+        assertThat(books).usingRecursiveFieldByFieldElementComparator().isEqualTo(parseWithDom(EDGE_CASES));
+
+        assertThat(books.get(0).getTitle()).isEqualTo("A & B <개정판> 가나");
+        assertThat(books.get(0).getAuthor()).isEqualTo("홍길동 <엮음> & 옮김");
+        assertThat(books.get(0).getContents()).isEqualTo("<p>첫 문단과 이어지는 글</p>");
+        assertThat(books.get(1).getAuthor()).isEmpty();
+        assertThat(books.get(1).getCoverUrl()).isNull();
+        assertThat(books.get(1).getPublishYear()).isNull();
+        assertThat(books.get(2).getTitle()).isEmpty();
+        assertThat(books.get(2).getPublishYear()).isZero();
+        assertThat(books.get(2).getCategoryCode()).isEqualTo("6");
+        assertThat(books.get(3).getTitle()).isEqualTo("안쪽 제목");
+    }
+
+    @Test
+    void rejectsExternalEntity() throws Exception {
+        Path secret = Files.createTempFile("xxe-", ".txt");
+        Files.writeString(secret, "비밀");
+        String xml = "<?xml version=\"1.0\"?>\n"
+                + "<!DOCTYPE channel [<!ENTITY xxe SYSTEM \"" + secret.toUri() + "\">]>\n"
+                + "<channel><list><item><recomtitle>&xxe;</recomtitle></item></list></channel>";
+
+        try {
+            assertThatThrownBy(() -> RecommendXmlParser.parse(xml)).isInstanceOf(XMLStreamException.class);
+        } finally {
+            Files.delete(secret);
+        }
+    }
+
+    @Test
+    void rejectsInternalEntityExpansion() {
+        // DTD를 처리하지 않으므로 선언된 엔티티도 펼치지 않음 (billion laughs 방지)
+        String xml = "<?xml version=\"1.0\"?>\n"
+                + "<!DOCTYPE channel [<!ENTITY a \"aaaaaaaaaa\"><!ENTITY b \"&a;&a;&a;&a;&a;&a;&a;&a;&a;&a;\">]>\n"
+                + "<channel><list><item><recomtitle>&b;</recomtitle></item></list></channel>";
+
+        assertThatThrownBy(() -> RecommendXmlParser.parse(xml)).isInstanceOf(XMLStreamException.class);
+    }
+
+    /**
+     * 기존 NationalLibraryApiService.parseRecommendXmlResponse (DOM, 비교 기준)
+     */
+    private static List<RecommendedBookDto> parseWithDom(String xml) throws Exception {
+        Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+        doc.getDocumentElement().normalize();
+
+        List<RecommendedBookDto> books = new ArrayList<>();
+        NodeList itemList = doc.getElementsByTagName("item");
+        for (int i = 0; i < itemList.getLength(); i++) {
+            Element item = (Element) itemList.item(i);
+            RecommendedBookDto book = new RecommendedBookDto();
+            book.setTitle(getTagValue("recomtitle", item));
+            book.setAuthor(getTagValue("recomauthor", item));
+            book.setPublisher(getTagValue("recompublisher", item));
+            book.setIsbn(getTagValue("recomisbn", item));
+            book.setCoverUrl(getTagValue("recomfilepath", item));
+            book.setContents(getTagValue("recomcontens", item));
+            book.setCategory(getTagValue("drCodeName", item));
+            book.setCategoryCode(getTagValue("drCode", item));
+
+            String publishYear = getTagValue("publishYear", item);
+            if (publishYear != null && !publishYear.isEmpty()) {
+                try {
+                    book.setPublishYear(Integer.parseInt(publishYear));
+                } catch (NumberFormatException e) {
+                    book.setPublishYear(0);
+                }
+            }
+
+            if (book.getCoverUrl() == null || book.getCoverUrl().isEmpty()) {
+                book.setCoverUrl(null);
+            }
+            books.add(book);
+        }
+        return books;
+    }
+
+    private static String getTagValue(String tag, Element element) {
+        NodeList nodeList = element.getElementsByTagName(tag);
+        if (nodeList.getLength() > 0) {
+            String value = nodeList.item(0).getTextContent();
+            return value != null && !value.trim().isEmpty() ? value : "";
+        }
+        return "";
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.booklog.parser;
+
+import com.example.booklog.entity.AiRecommendedBookDto;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecommendationStreamParserTest {
+
+    // 문자열 안 괄호/따옴표/역슬래시, 책 안의 중첩 배열/객체, 코드 블록
+    private static final String RESPONSE = "```json\n"
+            + "{\"recommendations\": [\n"
+            + "  {\"title\": \"괄호 {소설} [1]\", \"author\": \"김\\\"따옴표\\\"\", \"publisher\": \"출판\\\\사\","
+            + " \"category\": \"소설\", \"description\": \"}]{[ 닫힘\", \"reason\": \"이유\"},\n"
+            + "  {\"title\": \"중첩\", \"tags\": [\"a\", [\"b\", {\"c\": \"}\"}]], \"meta\": {\"x\": {\"y\": []}},"
+            + " \"author\": \"이\"},\n"
+            + "  {\"author\": \"제목 없음\"},\n"
+            + "  {\"title\": \"유니코드 \\u00e9\\n줄바꿈\", \"author\": \"박\"}\n"
+            + "]}\n"
+            + "```";
+
+    @Test
+    void charByCharFeedMatchesWholeResponseParse() {
+        List<AiRecommendedBookDto> books = new ArrayList<>();
+        RecommendationStreamParser parser = new RecommendationStreamParser(books::add);
+        for (char c : RESPONSE.toCharArray()) {
+            parser.feed(String.valueOf(c));
+        }
+
+        assertThat(summaries(books)).isEqualTo(summaries(parseWhole(RESPONSE)));
+        assertThat(books).extracting(AiRecommendedBookDto::getTitle)
+                .containsExactly("괄호 {소설} [1]", "중첩", "유니코드 é\n줄바꿈");
+        assertThat(books.get(0).getAuthor()).isEqualTo("김\"따옴표\"");
+        assertThat(books.get(0).getPublisher()).isEqualTo("출판\\사");
+        assertThat(parser.getEmitted()).isEqualTo(3);
+    }
+
+    @Test
+    void randomChunkSplitsMatchWholeResponseParse() {
+        List<String> expected = summaries(parseWhole(RESPONSE));
+        Random random = new Random(3);
+        for (int round = 0; round < 500; round++) {
+            List<AiRecommendedBookDto> books = new ArrayList<>();
+            RecommendationStreamParser parser = new RecommendationStreamParser(books::add);
+            int i = 0;
+            while (i < RESPONSE.length()) {
+                int end = Math.min(RESPONSE.length(), i + 1 + random.nextInt(12));
+                parser.feed(RESPONSE.substring(i, end));
+                i = end;
+            }
+            assertThat(summaries(books)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void emitsEachBookAsSoonAsItCloses() {
+        List<AiRecommendedBookDto> books = new ArrayList<>();
+        RecommendationStreamParser parser = new RecommendationStreamParser(books::add);
+
+        parser.feed("{\"recommendations\": [{\"title\": \"첫째\"}");
+        assertThat(books).hasSize(1);
+
+        parser.feed(", {\"title\": \"둘");
+        assertThat(books).hasSize(1);
+
+        parser.feed("째\"}");
+        assertThat(books).extracting(AiRecommendedBookDto::getTitle).containsExactly("첫째", "둘째");
+    }
+
+    @Test
+    void malformedItemIsSkippedAndLaterItemsStillParse() {
+        List<AiRecommendedBookDto> books = new ArrayList<>();
+        RecommendationStreamParser parser = new RecommendationStreamParser(books::add);
+
+        parser.feed("[{\"title\": \"깨짐\" \"author\": \"x\"}, {\"title\": \"정상\"}]");
+
+        assertThat(books).extracting(AiRecommendedBookDto::getTitle).containsExactly("정상");
+    }
+
+    // 기존 일반(비스트리밍) 응답 처리와 같은 방식 (코드 블록 제거 후 통째로 파싱)
+    private static List<AiRecommendedBookDto> parseWhole(String content) {
+        content = content.trim();
+        if (content.startsWith("```json")) {
+            content = content.substring(7);
+        }
+        if (content.endsWith("```")) {
+            content = content.substring(0, content.length() - 3);
+        }
+        JSONArray recommendations = new JSONObject(content.trim()).getJSONArray("recommendations");
+
+        List<AiRecommendedBookDto> books = new ArrayList<>();
+        for (int i = 0; i < recommendations.length(); i++) {
+            AiRecommendedBookDto book = RecommendationStreamParser.toRecommendedBook(recommendations.getJSONObject(i));
+            if (!book.getTitle().isEmpty()) {
+                books.add(book);
+            }
+        }
+        return books;
+    }
+
+    private static List<String> summaries(List<AiRecommendedBookDto> books) {
+        List<String> result = new ArrayList<>();
+        for (AiRecommendedBookDto book : books) {
+            result.add(String.join("|", book.getTitle(), book.getAuthor(), book.getPublisher(),
+                    book.getCategory(), book.getDescription(), book.getReason()));
+        }
+        return result;
+    }
+}
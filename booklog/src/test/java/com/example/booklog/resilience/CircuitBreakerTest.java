@@ -0,0 +1,104 @@
+package com.example.booklog.resilience;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+
+    @Test
+    void opensWhenFailureRateReachesThresholdAndClosesAfterTrialCalls() throws Exception {
+        // 창 4, 최소 4회, 실패율 50%, OPEN 100ms, 시험 호출 2회
+        CircuitBreaker breaker = new CircuitBreaker("test", 4, 4, 50, 100, 2, 10);
+
+        breaker.execute(() -> "ok");
+        breaker.execute(() -> "ok");
+        fail(breaker);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        fail(breaker);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> breaker.execute(() -> "skipped"))
+                .isInstanceOf(ProviderUnavailableException.class);
+
+        Thread.sleep(150);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        breaker.execute(() -> "ok");
+        breaker.execute(() -> "ok");
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void failedTrialCallReopens() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker("test", 2, 2, 50, 50, 1, 10);
+        fail(breaker);
+        fail(breaker);
+        Thread.sleep(80);
+
+        fail(breaker);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void clientErrorsAreNotProviderFailures() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 2, 2, 50, 1000, 1, 10);
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> breaker.execute(() -> {
+                throw HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "bad", null, null, null);
+            })).isInstanceOf(HttpClientErrorException.class);
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void bulkheadRejectsCallsBeyondLimit() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 10, 10, 50, 1000, 1, 1);
+
+        String result = breaker.execute(() -> {
+            assertThatThrownBy(() -> breaker.execute(() -> "nested"))
+                    .isInstanceOf(ProviderUnavailableException.class);
+            return "outer";
+        });
+
+        assertThat(result).isEqualTo("outer");
+        assertThat(breaker.stats().get("availableConcurrentCalls")).isEqualTo(1);
+    }
+
+    @Test
+    void errorReleasesBulkheadPermit() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 100, 100, 50, 1000, 1, 2);
+
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> breaker.execute(() -> {
+                throw new StackOverflowError();
+            })).isInstanceOf(StackOverflowError.class);
+        }
+
+        assertThat(breaker.stats().get("availableConcurrentCalls")).isEqualTo(2);
+        assertThat(breaker.execute(() -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    void errorDuringTrialCallReopensInsteadOfLeakingPermit() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker("test", 2, 2, 50, 50, 1, 10);
+        fail(breaker);
+        fail(breaker);
+        Thread.sleep(80);
+
+        assertThatThrownBy(() -> breaker.execute(() -> {
+            throw new OutOfMemoryError("test");
+        })).isInstanceOf(OutOfMemoryError.class);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.stats().get("availableConcurrentCalls")).isEqualTo(10);
+    }
+
+    private static void fail(CircuitBreaker breaker) {
+        assertThatThrownBy(() -> breaker.execute(() -> {
+            throw new IllegalStateException("down");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+}
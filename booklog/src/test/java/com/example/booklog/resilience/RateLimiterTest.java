@@ -0,0 +1,94 @@
+package com.example.booklog.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimiterTest {
+
+    @Test
+    void burstIsGrantedImmediatelyThenCallsAreSpacedOut() {
+        RateLimiter limiter = new RateLimiter("test", 1, 3, 0, 5000, 10);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.reserve()).isZero();
+        }
+
+        // 초당 1개 → 다음 토큰까지 약 1초, 그 다음은 약 2초
+        long first = limiter.reserve();
+        long second = limiter.reserve();
+        assertThat(first).isBetween(TimeUnit.MILLISECONDS.toNanos(500), TimeUnit.SECONDS.toNanos(1));
+        assertThat(second).isBetween(TimeUnit.MILLISECONDS.toNanos(1500), TimeUnit.SECONDS.toNanos(2));
+        assertThat(limiter.stats().get("waiting")).isEqualTo(2);
+    }
+
+    @Test
+    void acquireWaitsForNextToken() {
+        RateLimiter limiter = new RateLimiter("test", 10, 1, 0, 1000, 10);
+        limiter.acquire();
+
+        long start = System.nanoTime();
+        limiter.acquire();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(50);
+        assertThat(limiter.stats().get("waiting")).isEqualTo(0);
+        assertThat(limiter.stats().get("queuedCalls")).isEqualTo(1L);
+    }
+
+    @Test
+    void rejectsWhenWaitWouldExceedMaxWait() {
+        RateLimiter limiter = new RateLimiter("test", 1, 1, 0, 100, 10);
+        limiter.reserve();
+
+        assertThatThrownBy(limiter::reserve).isInstanceOf(ProviderUnavailableException.class);
+        assertThat(limiter.stats().get("rateRejectedCalls")).isEqualTo(1L);
+        assertThat(limiter.stats().get("usedToday")).isEqualTo(1L);
+    }
+
+    @Test
+    void rejectsWhenQueueIsFullUntilAWaiterLeaves() {
+        RateLimiter limiter = new RateLimiter("test", 10, 1, 0, 10_000, 2);
+        limiter.reserve();
+        assertThat(limiter.reserve()).isPositive();
+        assertThat(limiter.reserve()).isPositive();
+
+        assertThatThrownBy(limiter::reserve).isInstanceOf(ProviderUnavailableException.class);
+
+        limiter.endWait();
+        assertThat(limiter.reserve()).isPositive();
+    }
+
+    @Test
+    void dailyLimitRejectsAfterQuotaIsUsed() {
+        RateLimiter limiter = new RateLimiter("test", 1000, 10, 3, 1000, 10);
+        for (int i = 0; i < 3; i++) {
+            limiter.reserve();
+        }
+
+        assertThatThrownBy(limiter::reserve)
+                .isInstanceOf(ProviderUnavailableException.class)
+                .hasMessageContaining("일일");
+        assertThat(limiter.stats().get("remainingToday")).isEqualTo(0L);
+        assertThat(limiter.stats().get("dailyRejectedCalls")).isEqualTo(1L);
+    }
+
+    @Test
+    void cancelledReservationGivesBackTokenAndQuota() {
+        RateLimiter limiter = new RateLimiter("test", 1, 1, 2, 10_000, 10);
+        limiter.reserve();
+        assertThat(limiter.reserve()).isPositive();
+
+        limiter.cancelReservation();
+        limiter.endWait();
+
+        assertThat(limiter.stats().get("usedToday")).isEqualTo(1L);
+        assertThat(limiter.stats().get("grantedCalls")).isEqualTo(1L);
+        assertThat(limiter.stats().get("waiting")).isEqualTo(0);
+        // 돌려받은 자리로 다시 예약 가능 (일일 한도 2 안쪽)
+        assertThat(limiter.reserve()).isPositive();
+    }
+}
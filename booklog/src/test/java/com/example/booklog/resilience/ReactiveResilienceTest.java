@@ -0,0 +1,125 @@
+package com.example.booklog.resilience;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReactiveResilienceTest {
+
+    @Test
+    void successIsRecordedAndPermitReleased() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 10, 10, 50, 1000, 1, 1);
+
+        String result = ReactiveResilience.guard(breaker, null, () -> Mono.just("ok")).block();
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(breaker.stats())
+                .containsEntry("successfulCalls", 1L)
+                .containsEntry("failedCalls", 0L)
+                .containsEntry("availableConcurrentCalls", 1);
+    }
+
+    @Test
+    void clientErrorsAreNotFailuresButServerErrorsAndTooManyRequestsAre() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 10, 10, 50, 1000, 1, 1);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> call(breaker, HttpStatus.BAD_REQUEST))
+                    .isInstanceOf(WebClientResponseException.class);
+        }
+        assertThat(breaker.stats())
+                .containsEntry("successfulCalls", 3L)
+                .containsEntry("failedCalls", 0L);
+
+        assertThatThrownBy(() -> call(breaker, HttpStatus.INTERNAL_SERVER_ERROR))
+                .isInstanceOf(WebClientResponseException.class);
+        assertThatThrownBy(() -> call(breaker, HttpStatus.TOO_MANY_REQUESTS))
+                .isInstanceOf(WebClientResponseException.class);
+        assertThat(breaker.stats())
+                .containsEntry("failedCalls", 2L)
+                .containsEntry("availableConcurrentCalls", 1);
+    }
+
+    @Test
+    void cancelDuringRateLimitDelayReturnsReservation() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 10, 10, 50, 1000, 1, 2);
+        // 버스트 1, 초당 1회 → 두 번째 호출은 약 1초 대기
+        RateLimiter limiter = new RateLimiter("test", 1, 1, 100, 5000, 10);
+        AtomicInteger calls = new AtomicInteger();
+
+        ReactiveResilience.guard(breaker, limiter, () -> Mono.fromCallable(calls::incrementAndGet)).block();
+
+        Disposable waiting = ReactiveResilience.guard(breaker, limiter,
+                () -> Mono.fromCallable(calls::incrementAndGet)).subscribe();
+        assertThat(limiter.stats())
+                .containsEntry("waiting", 1)
+                .containsEntry("usedToday", 2L);
+        assertThat(breaker.stats()).containsEntry("availableConcurrentCalls", 1);
+
+        waiting.dispose();
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(limiter.stats())
+                .containsEntry("waiting", 0)
+                .containsEntry("usedToday", 1L)
+                .containsEntry("grantedCalls", 1L)
+                .containsEntry("availableTokens", 0);
+        assertThat(breaker.stats())
+                .containsEntry("availableConcurrentCalls", 2)
+                .containsEntry("successfulCalls", 1L)
+                .containsEntry("failedCalls", 0L);
+    }
+
+    @Test
+    void delayedCallRunsAfterWaitAndEndsWait() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 10, 10, 50, 1000, 1, 2);
+        RateLimiter limiter = new RateLimiter("test", 20, 1, 100, 5000, 10);
+
+        ReactiveResilience.guard(breaker, limiter, () -> Mono.just("first")).block();
+        String second = ReactiveResilience.guard(breaker, limiter, () -> Mono.just("second"))
+                .block(Duration.ofSeconds(5));
+
+        assertThat(second).isEqualTo("second");
+        assertThat(limiter.stats())
+                .containsEntry("waiting", 0)
+                .containsEntry("queuedCalls", 1L)
+                .containsEntry("usedToday", 2L);
+        assertThat(breaker.stats()).containsEntry("availableConcurrentCalls", 2);
+    }
+
+    @Test
+    void reserveRejectionReleasesPermitWithoutCallingProvider() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 10, 10, 50, 1000, 1, 1);
+        // 일일 한도 1회
+        RateLimiter limiter = new RateLimiter("test", 100, 10, 1, 0, 10);
+        AtomicInteger calls = new AtomicInteger();
+
+        ReactiveResilience.guard(breaker, limiter, () -> Mono.fromCallable(calls::incrementAndGet)).block();
+
+        assertThatThrownBy(() -> ReactiveResilience.guard(breaker, limiter,
+                () -> Mono.fromCallable(calls::incrementAndGet)).block())
+                .isInstanceOf(ProviderUnavailableException.class);
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(limiter.stats()).containsEntry("dailyRejectedCalls", 1L);
+        // 호출하지 않았으므로 서킷에 실패로 남지 않고 허가도 돌아옴
+        assertThat(breaker.stats())
+                .containsEntry("availableConcurrentCalls", 1)
+                .containsEntry("failedCalls", 0L)
+                .containsEntry("bufferedCalls", 1);
+    }
+
+    private static void call(CircuitBreaker breaker, HttpStatus status) {
+        ReactiveResilience.guard(breaker, null, () -> Mono.error(
+                WebClientResponseException.create(status.value(), status.getReasonPhrase(), null, null, null)))
+                .block();
+    }
+}
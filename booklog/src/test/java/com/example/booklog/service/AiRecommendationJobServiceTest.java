@@ -0,0 +1,56 @@
+package com.example.booklog.service;
+
+import com.example.booklog.entity.AiRecommendationJobDto;
+import com.example.booklog.entity.AiRecommendedBookDto;
+import com.example.booklog.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AiRecommendationJobServiceTest {
+
+    private final AiRecommendationService aiRecommendationService = mock(AiRecommendationService.class);
+    private final AiRecommendationJobService service = new AiRecommendationJobService();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "retentionMinutes", 10L);
+        ReflectionTestUtils.setField(service, "maxJobs", 100);
+        ReflectionTestUtils.setField(service, "sseTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(service, "aiRecommendationService", aiRecommendationService);
+        ReflectionTestUtils.setField(service, "aiJobExecutor", (Executor) Runnable::run);
+        service.initJobs();
+    }
+
+    @Test
+    void cachedResultJobCanBeLookedUpByItsId() {
+        User user = user(1L);
+        AiRecommendedBookDto book = new AiRecommendedBookDto();
+        book.setTitle("채식주의자");
+        when(aiRecommendationService.getCachedRecommendations(user, 5)).thenReturn(List.of(book));
+
+        AiRecommendationJobDto submitted = service.submit(user, 5);
+        assertThat(submitted.getStatus()).isEqualTo(AiRecommendationJobService.DONE);
+
+        AiRecommendationJobDto found = service.getJob(submitted.getId(), user);
+        assertThat(found).isNotNull();
+        assertThat(found.getStatus()).isEqualTo(AiRecommendationJobService.DONE);
+        assertThat(found.getBooks()).extracting(AiRecommendedBookDto::getTitle).containsExactly("채식주의자");
+
+        // 다른 사용자는 조회할 수 없음
+        assertThat(service.getJob(submitted.getId(), user(2L))).isNull();
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}
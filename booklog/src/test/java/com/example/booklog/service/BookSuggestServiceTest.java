@@ -0,0 +1,93 @@
+package com.example.booklog.service;
+
+import com.example.booklog.entity.Book;
+import com.example.booklog.entity.CatalogBook;
+import com.example.booklog.entity.SuggestionDto;
+import com.example.booklog.entity.User;
+import com.example.booklog.repository.BookRepository;
+import com.example.booklog.repository.CatalogBookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BookSuggestServiceTest {
+
+    private final BookRepository bookRepository = mock(BookRepository.class);
+    private final CatalogBookRepository catalogBookRepository = mock(CatalogBookRepository.class);
+    private final BookSuggestService service = new BookSuggestService();
+
+    @BeforeEach
+    void setUp() {
+        when(bookRepository.findAllTitlesAndAuthors()).thenReturn(List.of(
+                new Object[]{1L, "alice", "해리 포터와 비밀의 방", "롤링"},
+                new Object[]{2L, "bob", "해리의 비밀 일기", "밥"}));
+        when(catalogBookRepository.findAllTitlesAndAuthors()).thenReturn(List.<Object[]>of(
+                new Object[]{"9788983920690", "해리 포터와 비밀의 방", "J.K. 롤링"},
+                new Object[]{"9788936434120", "해변의 카프카", "무라카미 하루키"}));
+
+        ReflectionTestUtils.setField(service, "maxResults", 10);
+        ReflectionTestUtils.setField(service, "includeCatalog", true);
+        ReflectionTestUtils.setField(service, "bookRepository", bookRepository);
+        ReflectionTestUtils.setField(service, "catalogBookRepository", catalogBookRepository);
+        ReflectionTestUtils.setField(service, "providerExecutor", (Executor) Runnable::run);
+        service.initIndex();
+        service.loadOnStartup();
+    }
+
+    @Test
+    void otherUsersBooksAreNotSuggested() {
+        // 본인 서재 후보 먼저, 카탈로그와 겹치는 후보는 한 번만
+        assertThat(titles(service.suggest("해", 10, "alice")))
+                .containsExactly("해리 포터와 비밀의 방", "해변의 카프카");
+        assertThat(titles(service.suggest("해", 10, "bob")))
+                .containsExactly("해리의 비밀 일기", "해변의 카프카", "해리 포터와 비밀의 방");
+        // 로그인하지 않으면 카탈로그만
+        assertThat(titles(service.suggest("해리", 10, null))).containsExactly("해리 포터와 비밀의 방");
+        assertThat(service.suggest("밥", 10, "alice")).isEmpty();
+    }
+
+    @Test
+    void savedAndDeletedBooksOnlyAffectTheirOwner() {
+        User carol = user("carol");
+        Book book = new Book();
+        book.setId(3L);
+        book.setTitle("해질녘 산책");
+        book.setUser(carol);
+        service.onBookSaved(book);
+
+        assertThat(titles(service.suggest("해질", 10, "carol"))).containsExactly("해질녘 산책");
+        assertThat(service.suggest("해질", 10, "alice")).isEmpty();
+
+        service.onBookDeleted(3L, carol);
+        assertThat(service.suggest("해질", 10, "carol")).isEmpty();
+    }
+
+    @Test
+    void catalogBooksAreSharedWithEveryone() {
+        CatalogBook book = new CatalogBook();
+        book.setIsbn13("9788954651134");
+        book.setTitle("해저 2만 리");
+        book.setAuthor("쥘 베른");
+        service.onCatalogSaved(List.of(book));
+
+        assertThat(titles(service.suggest("해저", 10, "alice"))).containsExactly("해저 2만 리");
+        assertThat(titles(service.suggest("해저", 10, null))).containsExactly("해저 2만 리");
+    }
+
+    private static List<String> titles(List<SuggestionDto> suggestions) {
+        return suggestions.stream().map(SuggestionDto::getText).toList();
+    }
+
+    private static User user(String username) {
+        User user = new User();
+        user.setUsername(username);
+        return user;
+    }
+}
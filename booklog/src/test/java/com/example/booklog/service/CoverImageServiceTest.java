@@ -0,0 +1,207 @@
+package com.example.booklog.service;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoverImageServiceTest {
+
+    @TempDir
+    Path cacheDir;
+
+    private HttpServer server;
+    private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+    private CoverImageService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        byte[] small = png(120, 174);
+        byte[] large = png(400, 580);
+        byte[] other = png(300, 400);
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            requests.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+            byte[] body = switch (path) {
+                case "/small.png" -> small;
+                case "/large.png" -> large;
+                case "/other.png" -> other;
+                default -> null;
+            };
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "image/png");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        service = new CoverImageService();
+        ReflectionTestUtils.setField(service, "proxyEnabled", true);
+        ReflectionTestUtils.setField(service, "cacheDir", cacheDir.toString());
+        ReflectionTestUtils.setField(service, "maxBytes", 2_097_152L);
+        ReflectionTestUtils.setField(service, "thumbnailWidths", List.of(300, 160));
+        ReflectionTestUtils.setField(service, "allowedHosts", List.of("127.0.0.1"));
+        ReflectionTestUtils.setField(service, "failureTtlSeconds", 60L);
+        ReflectionTestUtils.setField(service, "cacheMaxBytes", 0L);
+        ReflectionTestUtils.setField(service, "cacheMaxAgeDays", 30L);
+        ReflectionTestUtils.setField(service, "restTemplate", new RestTemplate());
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void proxyUrlDefersSourceWriteUntilFlush() throws IOException {
+        String url = url("/small.png");
+        String hash = hash(service.proxyUrl(url, 160));
+
+        assertThat(service.sourceUrl(hash)).isEqualTo(url);
+        assertThat(fileCount(cacheDir.resolve("sources"))).isZero();
+
+        service.flushSources();
+        assertThat(Files.readString(cacheDir.resolve("sources").resolve(hash + ".url"))).isEqualTo(url);
+        assertThat(service.sourceUrl(hash)).isEqualTo(url);
+    }
+
+    @Test
+    void smallOriginalIsRememberedAsNoVariant() throws IOException {
+        String hash = hash(service.proxyUrl(url("/small.png"), 160));
+
+        CoverImageService.CoverFile first = service.resolve(hash, 160);
+        assertThat(first.getContentType()).isEqualTo(MediaType.IMAGE_PNG_VALUE);
+        assertThat(first.getEtag()).doesNotContain("-w");
+        assertThat(fileNames()).anyMatch(name -> name.endsWith("-w160.orig"));
+
+        // 표시 파일이 있으면 원본을 다시 읽지 않음 (원본을 망가뜨려도 그대로 원본 응답)
+        Files.write(first.getPath(), new byte[]{1, 2, 3});
+        CoverImageService.CoverFile second = service.resolve(hash, 160);
+        assertThat(second.getPath()).isEqualTo(first.getPath());
+        assertThat(service.stats().get("thumbnails")).isEqualTo(0L);
+        assertThat(requests.get("/small.png").get()).isEqualTo(1);
+    }
+
+    @Test
+    void largeOriginalGetsOneThumbnail() {
+        String hash = hash(service.proxyUrl(url("/large.png"), 160));
+
+        CoverImageService.CoverFile first = service.resolve(hash, 150);
+        CoverImageService.CoverFile second = service.resolve(hash, 160);
+
+        assertThat(first.getContentType()).isEqualTo(MediaType.IMAGE_JPEG_VALUE);
+        assertThat(first.getEtag()).endsWith("-w160");
+        assertThat(second.getPath()).isEqualTo(first.getPath());
+        assertThat(service.stats().get("thumbnails")).isEqualTo(1L);
+    }
+
+    @Test
+    void failedDownloadIsNotRetriedWithinTtl() {
+        String url = url("/missing.png");
+        String hash = hash(service.proxyUrl(url, 0));
+
+        assertThat(service.resolve(hash, 0)).isNull();
+        assertThat(service.resolve(hash, 0)).isNull();
+
+        assertThat(requests.get("/missing.png").get()).isEqualTo(1);
+        assertThat(service.stats().get("failureHits")).isEqualTo(1L);
+        // 컨트롤러가 원본 주소로 보낼 수 있도록 원본 URL은 남아 있음
+        assertThat(service.sourceUrl(hash)).isEqualTo(url);
+    }
+
+    @Test
+    void cleanUpDeletesOldestBlobsOverLimitAndExpiredRecords() throws IOException {
+        String oldHash = hash(service.proxyUrl(url("/large.png"), 0));
+        String newHash = hash(service.proxyUrl(url("/other.png"), 0));
+        service.flushSources();
+        Path oldBlob = service.resolve(oldHash, 0).getPath();
+        Path newBlob = service.resolve(newHash, 0).getPath();
+
+        FileTime longAgo = FileTime.from(Instant.now().minus(Duration.ofDays(60)));
+        Files.setLastModifiedTime(oldBlob, longAgo);
+        Files.setLastModifiedTime(cacheDir.resolve("refs").resolve(oldHash), longAgo);
+        Files.setLastModifiedTime(cacheDir.resolve("sources").resolve(oldHash + ".url"), longAgo);
+
+        // 최신 표지 하나만 들어가는 크기
+        ReflectionTestUtils.setField(service, "cacheMaxAgeDays", 0L);
+        ReflectionTestUtils.setField(service, "cacheMaxBytes", Files.size(newBlob));
+        service.cleanUp();
+        assertThat(Files.exists(oldBlob)).isFalse();
+        assertThat(Files.exists(newBlob)).isTrue();
+        assertThat(Files.exists(cacheDir.resolve("refs").resolve(oldHash))).isTrue();
+
+        // 보관 기간이 지난 기록은 삭제, 다시 렌더링하면 다시 등록
+        ReflectionTestUtils.setField(service, "cacheMaxAgeDays", 30L);
+        service.cleanUp();
+        assertThat(Files.exists(cacheDir.resolve("refs").resolve(oldHash))).isFalse();
+        assertThat(service.sourceUrl(oldHash)).isNull();
+
+        service.proxyUrl(url("/large.png"), 0);
+        assertThat(service.sourceUrl(oldHash)).isEqualTo(url("/large.png"));
+        assertThat(service.resolve(oldHash, 0)).isNotNull();
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    private static String hash(String proxyUrl) {
+        String path = proxyUrl.substring("/covers/".length());
+        int query = path.indexOf('?');
+        return query >= 0 ? path.substring(0, query) : path;
+    }
+
+    private List<String> fileNames() throws IOException {
+        try (Stream<Path> paths = Files.walk(cacheDir)) {
+            return paths.filter(Files::isRegularFile).map(p -> p.getFileName().toString()).toList();
+        }
+    }
+
+    private static long fileCount(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.list(dir)) {
+            return paths.count();
+        }
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < width; x++) {
+            image.setRGB(x, x % height, 0x3366cc);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
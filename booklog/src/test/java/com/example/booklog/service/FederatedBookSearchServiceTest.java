@@ -0,0 +1,54 @@
+package com.example.booklog.service;
+
+import com.example.booklog.entity.BookApiDto;
+import com.example.booklog.resilience.ProviderCircuitBreakers;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FederatedBookSearchServiceTest {
+
+    private final FederatedBookSearchService service = new FederatedBookSearchService();
+
+    @Test
+    void mergesSameIsbnAndRanksBooksFoundByMoreProviders() {
+        Map<String, List<BookApiDto>> results = new LinkedHashMap<>();
+        results.put(ProviderCircuitBreakers.KAKAO, List.of(
+                book("카카오만", "9788900000001", "기타"),
+                book("채식주의자", "9788936434120", "소설")));
+        results.put(ProviderCircuitBreakers.NATIONAL_LIBRARY, List.of(
+                book("채식주의자", "8936434128", "소설")));
+
+        List<BookApiDto> merged = service.merge(results);
+
+        assertThat(merged).extracting(BookApiDto::getTitle).containsExactly("채식주의자", "카카오만");
+    }
+
+    @Test
+    void categorizedSubjectReplacesKakaoGuess() {
+        Map<String, List<BookApiDto>> results = new LinkedHashMap<>();
+        results.put(ProviderCircuitBreakers.KAKAO, List.of(book("사피엔스", "9788934972464", "소설")));
+        results.put(ProviderCircuitBreakers.NATIONAL_LIBRARY, List.of(book("사피엔스", "9788934972464", "역사")));
+        results.put(ProviderCircuitBreakers.ALADIN, List.of(book("사피엔스", "9788934972464", "인문")));
+
+        // 분류 정보가 있는 첫 제공자(국립중앙도서관) 값 사용
+        assertThat(service.merge(results).get(0).getSubject()).isEqualTo("역사");
+    }
+
+    @Test
+    void uncategorizedSubjectDoesNotReplaceKakaoGuess() {
+        Map<String, List<BookApiDto>> results = new LinkedHashMap<>();
+        results.put(ProviderCircuitBreakers.KAKAO, List.of(book("사피엔스", "9788934972464", "인문")));
+        results.put(ProviderCircuitBreakers.NATIONAL_LIBRARY, List.of(book("사피엔스", "9788934972464", "기타")));
+
+        assertThat(service.merge(results).get(0).getSubject()).isEqualTo("인문");
+    }
+
+    private static BookApiDto book(String title, String isbn, String subject) {
+        return new BookApiDto(title, "저자", "출판사", isbn, null, null, null, subject);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.booklog.service;
+
+import com.example.booklog.entity.BookApiDto;
+import com.example.booklog.entity.BookSearchPage;
+import com.example.booklog.genre.GenreClassifier;
+import com.example.booklog.resilience.ProviderCircuitBreakers;
+import com.example.booklog.resilience.ProviderRateLimiters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class KakaoBookApiServiceTest {
+
+    private static final String API_URL = "http://kakao.test/v3/search/book";
+
+    private final ClassPathResource searchResponse = new ClassPathResource("standin/kakao-search.json");
+    private final CatalogService catalogService = mock(CatalogService.class);
+    private final KakaoBookApiService service = new KakaoBookApiService();
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+
+        GenreClassifier genreClassifier = new GenreClassifier();
+        ReflectionTestUtils.setField(genreClassifier, "keywordsResource", new ClassPathResource("genre-keywords.txt"));
+        genreClassifier.init();
+
+        MockEnvironment environment = new MockEnvironment();
+        ReflectionTestUtils.setField(service, "apiUrl", API_URL);
+        ReflectionTestUtils.setField(service, "restTemplate", restTemplate);
+        ReflectionTestUtils.setField(service, "circuitBreakers", new ProviderCircuitBreakers(environment));
+        ReflectionTestUtils.setField(service, "rateLimiters", new ProviderRateLimiters(environment));
+        ReflectionTestUtils.setField(service, "genreClassifier", genreClassifier);
+        ReflectionTestUtils.setField(service, "catalogService", catalogService);
+        ReflectionTestUtils.setField(service, "isbnCacheMaxSize", 10);
+        ReflectionTestUtils.setField(service, "isbnCacheTtlHours", 1L);
+        ReflectionTestUtils.setField(service, "isbnCacheNegativeTtlMinutes", 1L);
+        ReflectionTestUtils.setField(service, "searchCacheTtlSeconds", 60L);
+        ReflectionTestUtils.setField(service, "searchCacheMaxSize", 10);
+        service.initCache();
+    }
+
+    @Test
+    void queryIsEncodedSoItCannotAddParameters() {
+        server.expect(requestTo(URI.create(API_URL
+                        + "?query=C%2B%2B%20%26%20page%3D50%23top%20%ED%95%9C%EA%B0%95&page=2&size=10")))
+                .andRespond(withSuccess(searchResponse, MediaType.APPLICATION_JSON));
+
+        BookSearchPage page = service.search("C++ & page=50#top 한강", 2, 10);
+
+        server.verify();
+        assertThat(page.getPage()).isEqualTo(2);
+        assertThat(page.getBooks()).isNotEmpty();
+    }
+
+    @Test
+    void isbnLookupIsEncoded() {
+        when(catalogService.lookup(anyString(), anyString(), any())).thenAnswer(invocation -> {
+            Supplier<Optional<BookApiDto>> fetcher = invocation.getArgument(2);
+            return fetcher.get();
+        });
+        server.expect(requestTo(URI.create(API_URL + "?query=9788936434120%26size%3D1&target=isbn")))
+                .andRespond(withSuccess(searchResponse, MediaType.APPLICATION_JSON));
+
+        BookApiDto book = service.getBookByIsbn("9788936434120&size=1");
+
+        server.verify();
+        assertThat(book.getTitle()).isEqualTo("채식주의자");
+    }
+
+    @Test
+    void pagesBeyondKakaoLimitAreNotRequested() {
+        BookSearchPage page = service.search("한강", KakaoBookApiService.MAX_PAGE + 1, 10);
+
+        server.verify();
+        assertThat(page.getBooks()).isEmpty();
+        assertThat(page.isEnd()).isTrue();
+    }
+}
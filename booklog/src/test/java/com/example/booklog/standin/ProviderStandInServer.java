@@ -0,0 +1,271 @@
+package com.example.booklog.standin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 외부 API 대역 서버 (부하 테스트용, 네트워크/API 할당량 없이 실행)
+ * 카카오, 국립중앙도서관(검색/사서추천), 알라딘, OpenAI 응답을 고정 파일(standin/*)로 재생
+ *
+ * 설정 (시스템 프로퍼티, 제공자별 덮어쓰기: -Dstandin.kakao.latency-ms=200 등)
+ * - standin.port          : 포트 (기본 18080)
+ * - standin.latency-ms    : 기본 지연 (기본 0)
+ * - standin.jitter-ms     : 추가 지연 최대값, 0~jitter 균등 분포 (기본 0)
+ * - standin.error-rate    : 에러 응답 비율 0.0~1.0 (기본 0)
+ * - standin.error-status  : 에러 응답 코드 (기본 503)
+ * - standin.seed          : 지연/에러 난수 시드, 같은 시드면 같은 순서로 재현 (기본 42)
+ * - standin.openai.chunk-delay-ms : OpenAI 스트리밍 요청("stream": true) 시 조각 사이 지연 (기본 50)
+ * - standin.openai.chunk-chars    : 스트리밍 조각 하나의 글자 수 (기본 8)
+ *
+ * 실행: main 메서드 직접 실행 후 출력되는 프로퍼티로 앱 실행
+ */
+public class ProviderStandInServer {
+
+    public static final String KAKAO = "kakao";
+    public static final String NL_SEARCH = "nl";
+    public static final String NL_RECOMMEND = "nl-recommend";
+    public static final String ALADIN = "aladin";
+    public static final String OPENAI = "openai";
+
+    private final int port;
+    private final long seed;
+    private final Map<String, Route> routes = new LinkedHashMap<>();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public ProviderStandInServer(int port, long seed) {
+        this.port = port;
+        this.seed = seed;
+        route(KAKAO, "/kakao/v3/search/book", "standin/kakao-search.json", "application/json;charset=UTF-8");
+        route(NL_SEARCH, "/nl/seoji/SearchApi.do", "standin/nl-search.json", "application/json;charset=UTF-8");
+        route(NL_RECOMMEND, "/nl/saseoApi.do", "standin/nl-saseo.xml", "application/xml;charset=UTF-8");
+        route(ALADIN, "/aladin/ttb/api", "standin/aladin-items.json", "application/json;charset=UTF-8");
+        route(OPENAI, "/openai/v1/chat/completions", "standin/openai-chat.json", "application/json");
+    }
+
+    private void route(String provider, String path, String fixture, String contentType) {
+        routes.put(provider, new Route(provider, path, loadFixture(fixture), contentType, seed + routes.size()));
+    }
+
+    /**
+     * 제공자별 지연/에러 설정 (시스템 프로퍼티 덮어쓰기)
+     */
+    public ProviderStandInServer configure(String provider, long latencyMs, long jitterMs, double errorRate, int errorStatus) {
+        Route route = routes.get(provider);
+        route.latencyMs = latencyMs;
+        route.jitterMs = jitterMs;
+        route.errorRate = errorRate;
+        route.errorStatus = errorStatus;
+        return this;
+    }
+
+    public ProviderStandInServer start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 512);
+        executor = Executors.newFixedThreadPool(Integer.getInteger("standin.threads", 64));
+        server.setExecutor(executor);
+        for (Route route : routes.values()) {
+            server.createContext(route.path, route::handle);
+        }
+        server.start();
+        return this;
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    public int getPort() {
+        return server != null ? server.getAddress().getPort() : port;
+    }
+
+    /**
+     * 앱을 대역 서버로 향하게 하는 프로퍼티 (--key=value 형식)
+     */
+    public Map<String, String> applicationProperties() {
+        String base = "http://127.0.0.1:" + getPort();
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("kakao.api.url", base + routes.get(KAKAO).path);
+        properties.put("kakao.api.key", "standin");
+        properties.put("nl.api.url", base + routes.get(NL_SEARCH).path);
+        properties.put("nl.api.key", "standin");
+        properties.put("nl.recommend.api.url", base + routes.get(NL_RECOMMEND).path);
+        properties.put("aladin.api.base-url", base + routes.get(ALADIN).path);
+        properties.put("aladin.api.key", "standin");
+        properties.put("openai.api.url", base + routes.get(OPENAI).path);
+        properties.put("openai.api.key", "standin");
+        return properties;
+    }
+
+    /**
+     * 제공자별 요청/에러 수
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (Route route : routes.values()) {
+            Map<String, Object> routeStats = new LinkedHashMap<>();
+            routeStats.put("requests", route.requests.get());
+            routeStats.put("errors", route.errors.get());
+            stats.put(route.provider, routeStats);
+        }
+        return stats;
+    }
+
+    private static byte[] loadFixture(String name) {
+        try (InputStream in = ProviderStandInServer.class.getClassLoader().getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IllegalStateException("대역 응답 파일 없음: " + name);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Route {
+        private final String provider;
+        private final String path;
+        private final byte[] body;
+        private final String contentType;
+        private final Random random;
+
+        private volatile long latencyMs;
+        private volatile long jitterMs;
+        private volatile double errorRate;
+        private volatile int errorStatus = 503;
+
+        // OpenAI 스트리밍 재생 (조각 사이 지연, 조각 글자 수)
+        private volatile long chunkDelayMs = Long.getLong("standin.openai.chunk-delay-ms", 50L);
+        private volatile int chunkChars = Integer.getInteger("standin.openai.chunk-chars", 8);
+
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+
+        private Route(String provider, String path, byte[] body, String contentType, long seed) {
+            this.provider = provider;
+            this.path = path;
+            this.body = body;
+            this.contentType = contentType;
+            this.random = new Random(seed);
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            requests.incrementAndGet();
+
+            // 요청 순서대로 난수를 뽑아야 같은 시드에서 같은 결과가 나옴
+            long delay;
+            boolean fail;
+            synchronized (random) {
+                delay = latencyMs + (jitterMs > 0 ? (long) (random.nextDouble() * jitterMs) : 0);
+                fail = errorRate > 0 && random.nextDouble() < errorRate;
+            }
+
+            try (exchange) {
+                // 요청 본문은 스트리밍 여부만 확인 (OpenAI POST)
+                String request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                boolean stream = request.contains("\"stream\":true");
+
+                if (delay > 0) {
+                    Thread.sleep(delay);
+                }
+
+                if (fail) {
+                    errors.incrementAndGet();
+                    byte[] error = "{\"error\":\"standin injected failure\"}".getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().set("Content-Type", "application/json");
+                    exchange.sendResponseHeaders(errorStatus, error.length);
+                    exchange.getResponseBody().write(error);
+                    return;
+                }
+
+                if (stream) {
+                    streamCompletion(exchange);
+                    return;
+                }
+
+                exchange.getResponseHeaders().set("Content-Type", contentType);
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * 고정 응답의 message.content를 chat.completion.chunk SSE로 나눠 전송 (마지막은 data: [DONE])
+         */
+        private void streamCompletion(HttpExchange exchange) throws IOException, InterruptedException {
+            ObjectMapper mapper = new ObjectMapper();
+            String content = mapper.readTree(body).path("choices").path(0).path("message").path("content").asText();
+
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (int i = 0; i < content.length(); i += chunkChars) {
+                    ObjectNode chunk = mapper.createObjectNode().put("object", "chat.completion.chunk");
+                    chunk.putArray("choices").addObject()
+                            .put("index", 0)
+                            .putObject("delta")
+                            .put("content", content.substring(i, Math.min(content.length(), i + chunkChars)));
+                    out.write(("data: " + mapper.writeValueAsString(chunk) + "\n\n").getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                    if (chunkDelayMs > 0) {
+                        Thread.sleep(chunkDelayMs);
+                    }
+                }
+                out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        ProviderStandInServer standIn = new ProviderStandInServer(
+                Integer.getInteger("standin.port", 18080),
+                Long.getLong("standin.seed", 42L));
+
+        for (String provider : new String[] {KAKAO, NL_SEARCH, NL_RECOMMEND, ALADIN, OPENAI}) {
+            standIn.configure(provider,
+                    setting(provider, "latency-ms", 0L),
+                    setting(provider, "jitter-ms", 0L),
+                    Double.parseDouble(System.getProperty("standin." + provider + ".error-rate",
+                            System.getProperty("standin.error-rate", "0"))),
+                    (int) setting(provider, "error-status", 503L));
+        }
+
+        standIn.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            System.out.println("대역 서버 통계: " + standIn.stats());
+            standIn.stop();
+        }));
+
+        System.out.println("=== 외부 API 대역 서버 시작: 127.0.0.1:" + standIn.getPort() + " ===");
+        System.out.println("앱 실행 시 아래 인자를 추가하세요:");
+        standIn.applicationProperties().forEach((key, value) -> System.out.println("  --" + key + "=" + value));
+    }
+
+    private static long setting(String provider, String key, long defaultValue) {
+        String value = System.getProperty("standin." + provider + "." + key,
+                System.getProperty("standin." + key, String.valueOf(defaultValue)));
+        return Long.parseLong(value);
+    }
+}
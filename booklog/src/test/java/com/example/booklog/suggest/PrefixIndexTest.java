@@ -0,0 +1,208 @@
+package com.example.booklog.suggest;
+
+import com.example.booklog.entity.SuggestionDto;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixIndexTest {
+
+    private static final String[] WORDS = {
+            "해리", "포터", "해", "해리포터", "마법사", "마법", "의", "돌", "그", "그림", "그림책",
+            "The", "theory", "Harry", "potter", "1984", "19"};
+    private static final String[] AUTHORS = {"J.K. 롤링", "롤링", "김영하", "김영", "한강", "한"};
+
+    @Test
+    void suggestsByWordStartAndRanksBySourceCount() {
+        PrefixIndex index = new PrefixIndex(10);
+        index.put("1", "해리 포터와 마법사의 돌", "J.K. 롤링");
+        index.put("2", "해리 포터와 마법사의 돌", "J.K. 롤링");
+        index.put("3", "해리 왕자", "기자");
+
+        List<SuggestionDto> result = index.suggest("해리", 10);
+        assertThat(result).extracting(SuggestionDto::getText)
+                .containsExactly("해리 포터와 마법사의 돌", "해리 왕자");
+        assertThat(result.get(0).getCount()).isEqualTo(2);
+
+        assertThat(index.suggest("포터", 10)).extracting(SuggestionDto::getText)
+                .containsExactly("해리 포터와 마법사의 돌");
+        assertThat(index.suggest("롤링", 10)).extracting(SuggestionDto::getType)
+                .containsExactly(PrefixIndex.AUTHOR);
+        // 입력 중인 자음은 떼고 조회
+        assertThat(index.suggest("해리 ㅍ", 10)).hasSize(2);
+    }
+
+    @Test
+    void removingAllSourcesCompactsTreeBackToRoot() {
+        PrefixIndex index = new PrefixIndex(5);
+        index.put("1", "해리 포터", "롤링");
+        index.put("2", "해리", "롤링");
+        index.put("3", "해리포터 읽기", null);
+        assertThat(index.nodeCount()).isGreaterThan(1);
+
+        index.remove("2");
+        index.remove("1");
+        index.remove("3");
+
+        assertThat(index.size()).isZero();
+        assertThat(index.sourceCount()).isZero();
+        assertThat(index.nodeCount()).isEqualTo(1);
+        assertThat(index.suggest("해", 5)).isEmpty();
+    }
+
+    @Test
+    void putIfAbsentKeepsExistingSource() {
+        PrefixIndex index = new PrefixIndex(5);
+        index.put("1", "새 제목", null);
+
+        assertThat(index.putIfAbsent("1", "옛 제목", null)).isFalse();
+        assertThat(index.putIfAbsent("2", "옛 제목", null)).isTrue();
+        assertThat(index.suggest("새", 5)).hasSize(1);
+        assertThat(index.suggest("옛", 5)).hasSize(1);
+    }
+
+    @Test
+    void randomUpdatesMatchBruteForceSearch() {
+        Random random = new Random(21);
+        int topSize = 5;
+        PrefixIndex index = new PrefixIndex(topSize);
+        Map<String, String[]> sources = new HashMap<>();
+
+        for (int step = 0; step < 3000; step++) {
+            String sourceId = String.valueOf(random.nextInt(40));
+            if (random.nextInt(4) == 0) {
+                index.remove(sourceId);
+                sources.remove(sourceId);
+            } else {
+                String title = randomTitle(random);
+                String author = random.nextBoolean() ? AUTHORS[random.nextInt(AUTHORS.length)] : null;
+                index.put(sourceId, title, author);
+                sources.put(sourceId, new String[]{title, author});
+            }
+
+            if (step % 10 == 0) {
+                for (int q = 0; q < 10; q++) {
+                    String query = randomQuery(random);
+                    int limit = 1 + random.nextInt(topSize);
+                    assertThat(texts(index.suggest(query, limit)))
+                            .as("query=%s step=%d", query, step)
+                            .isEqualTo(bruteForce(sources, query, limit));
+                }
+            }
+        }
+
+        // 같은 출처로 새로 만든 트리와 노드 수가 같아야 함 (삭제 후 압축 확인)
+        PrefixIndex rebuilt = new PrefixIndex(topSize);
+        sources.forEach((id, source) -> rebuilt.put(id, source[0], source[1]));
+        assertThat(index.nodeCount()).isEqualTo(rebuilt.nodeCount());
+        assertThat(index.size()).isEqualTo(rebuilt.size());
+    }
+
+    private static List<String> bruteForce(Map<String, String[]> sources, String query, int limit) {
+        String key = PrefixIndex.queryKey(query);
+        if (key.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 종류 + 정규화 단어열 → 출처 수
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String[] source : sources.values()) {
+            List<String> ids = new ArrayList<>();
+            addId(ids, PrefixIndex.TITLE, source[0]);
+            if (source[1] != null) {
+                for (String name : source[1].split(",")) {
+                    addId(ids, PrefixIndex.AUTHOR, name);
+                }
+            }
+            ids.forEach(id -> counts.merge(id, 1, Integer::sum));
+        }
+
+        List<Map.Entry<String, Integer>> matches = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            String words = entry.getKey().substring(entry.getKey().indexOf('\u0000') + 1);
+            if (PrefixIndex.keys(words).stream().anyMatch(k -> k.startsWith(key))) {
+                matches.add(entry);
+            }
+        }
+        matches.sort(Comparator
+                .comparingInt((Map.Entry<String, Integer> e) -> -e.getValue())
+                .thenComparingInt(e -> fullKey(e.getKey()).length())
+                .thenComparing(e -> fullKey(e.getKey()))
+                .thenComparing(Map.Entry::getKey));
+
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < Math.min(limit, matches.size()); i++) {
+            Map.Entry<String, Integer> entry = matches.get(i);
+            result.add(entry.getKey() + "#" + entry.getValue());
+        }
+        return result;
+    }
+
+    private static void addId(List<String> ids, String type, String text) {
+        if (text == null) {
+            return;
+        }
+        String words = String.join(" ", tokens(text));
+        String id = type + '\u0000' + words;
+        if (!words.isEmpty() && !ids.contains(id)) {
+            ids.add(id);
+        }
+    }
+
+    private static String fullKey(String id) {
+        return id.substring(id.indexOf('\u0000') + 1).replace(" ", "");
+    }
+
+    private static List<String> texts(List<SuggestionDto> suggestions) {
+        List<String> result = new ArrayList<>();
+        for (SuggestionDto suggestion : suggestions) {
+            result.add(suggestion.getType() + '\u0000' + String.join(" ", tokens(suggestion.getText()))
+                    + "#" + suggestion.getCount());
+        }
+        return result;
+    }
+
+    private static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        for (String token : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static String randomTitle(Random random) {
+        StringBuilder title = new StringBuilder();
+        int words = 1 + random.nextInt(3);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                title.append(random.nextInt(3) == 0 ? ": " : " ");
+            }
+            title.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return title.toString();
+    }
+
+    private static String randomQuery(Random random) {
+        String word = random.nextBoolean()
+                ? WORDS[random.nextInt(WORDS.length)]
+                : AUTHORS[random.nextInt(AUTHORS.length)];
+        String query = word.substring(0, 1 + random.nextInt(word.length()));
+        if (random.nextInt(5) == 0) {
+            query += " " + WORDS[random.nextInt(WORDS.length)].charAt(0);
+        }
+        return random.nextInt(10) == 0 ? query + "ㅎ" : query;
+    }
+}